@@ -3,9 +3,10 @@ package com.helion.catalog.application.castmember.delete;
 import com.helion.catalog.application.UnitUseCase;
 import com.helion.catalog.domain.castmember.CastMemberGateway;
 
+import java.time.Instant;
 import java.util.Objects;
 
-public class DeleteCastMemberUseCase extends UnitUseCase<String> {
+public class DeleteCastMemberUseCase extends UnitUseCase<DeleteCastMemberUseCase.Input> {
 
     private final CastMemberGateway castMemberGateway;
 
@@ -14,10 +15,12 @@ public class DeleteCastMemberUseCase extends UnitUseCase<String> {
     }
 
     @Override
-    public void execute(String anId) {
-        if(anId == null) {
+    public void execute(final Input input) {
+        if (input == null || input.memberId() == null) {
             return;
         }
-        this.castMemberGateway.deleteById(anId);
+        this.castMemberGateway.deleteById(input.memberId(), input.updatedAt());
     }
+
+    public record Input(String memberId, Instant updatedAt) {}
 }
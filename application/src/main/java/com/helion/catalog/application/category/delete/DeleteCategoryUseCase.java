@@ -3,9 +3,10 @@ package com.helion.catalog.application.category.delete;
 import com.helion.catalog.application.UnitUseCase;
 import com.helion.catalog.domain.category.CategoryGateway;
 
+import java.time.Instant;
 import java.util.Objects;
 
-public class DeleteCategoryUseCase extends UnitUseCase<String> {
+public class DeleteCategoryUseCase extends UnitUseCase<DeleteCategoryUseCase.Input> {
 
     private final CategoryGateway categoryGateway;
 
@@ -14,10 +15,12 @@ public class DeleteCategoryUseCase extends UnitUseCase<String> {
     }
 
     @Override
-    public void execute(String anId) {
-        if(anId == null) {
+    public void execute(final Input input) {
+        if (input == null || input.categoryId() == null) {
             return;
         }
-        this.categoryGateway.deleteById(anId);
+        this.categoryGateway.deleteById(input.categoryId(), input.updatedAt());
     }
+
+    public record Input(String categoryId, Instant updatedAt) {}
 }
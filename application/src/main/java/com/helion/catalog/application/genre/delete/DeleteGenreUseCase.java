@@ -3,6 +3,7 @@ package com.helion.catalog.application.genre.delete;
 import com.helion.catalog.application.UnitUseCase;
 import com.helion.catalog.domain.genre.GenreGateway;
 
+import java.time.Instant;
 import java.util.Objects;
 
 public class DeleteGenreUseCase extends UnitUseCase<DeleteGenreUseCase.Input>{
@@ -19,9 +20,9 @@ public class DeleteGenreUseCase extends UnitUseCase<DeleteGenreUseCase.Input>{
             return;
         }
 
-        this.genreGateway.deleteById(input.genreId());
+        this.genreGateway.deleteById(input.genreId(), input.updatedAt());
 
     }
 
-    public record Input(String genreId) {}
+    public record Input(String genreId, Instant updatedAt) {}
 }
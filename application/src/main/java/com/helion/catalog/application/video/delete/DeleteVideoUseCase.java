@@ -3,6 +3,7 @@ package com.helion.catalog.application.video.delete;
 import com.helion.catalog.application.UnitUseCase;
 import com.helion.catalog.domain.video.VideoGateway;
 
+import java.time.Instant;
 import java.util.Objects;
 
 public class DeleteVideoUseCase extends UnitUseCase<DeleteVideoUseCase.Input>{
@@ -19,9 +20,9 @@ public class DeleteVideoUseCase extends UnitUseCase<DeleteVideoUseCase.Input>{
             return;
         }
 
-        this.videoGateway.deleteById(input.genreId());
+        this.videoGateway.deleteById(input.genreId(), input.updatedAt());
 
     }
 
-    public record Input(String genreId) {}
+    public record Input(String genreId, Instant updatedAt) {}
 }
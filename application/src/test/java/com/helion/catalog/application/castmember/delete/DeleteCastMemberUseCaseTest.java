@@ -24,12 +24,13 @@ public class DeleteCastMemberUseCaseTest extends UseCaseTest {
 
         final var ator = Fixture.CastMembers.actor();
         final var expectedId = ator.id();
+        final var expectedUpdatedAt = ator.updatedAt();
 
-        doNothing().when(castMemberGateway).deleteById(anyString());
+        doNothing().when(castMemberGateway).deleteById(anyString(), any());
 
-        Assertions.assertDoesNotThrow(() -> this.useCase.execute(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteCastMemberUseCase.Input(expectedId, expectedUpdatedAt)));
 
-        verify(this.castMemberGateway, times(1)).deleteById(eq(expectedId));
+        verify(this.castMemberGateway, times(1)).deleteById(eq(expectedId), eq(expectedUpdatedAt));
     }
 
     @Test
@@ -39,9 +40,9 @@ public class DeleteCastMemberUseCaseTest extends UseCaseTest {
 
         //doNothing().when(CastMemberGateway).deleteById(anyString());
 
-        Assertions.assertDoesNotThrow(() -> this.useCase.execute(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteCastMemberUseCase.Input(expectedId, null)));
 
-        verify(this.castMemberGateway, times(0)).deleteById(eq(expectedId));
+        verify(this.castMemberGateway, times(0)).deleteById(any(), any());
     }
 
 }
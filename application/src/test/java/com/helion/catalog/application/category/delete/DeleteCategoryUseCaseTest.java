@@ -24,12 +24,13 @@ public class DeleteCategoryUseCaseTest extends UseCaseTest {
 
         final var aulas = Fixture.Categories.aulas();
         final var expectedId = aulas.id();
+        final var expectedUpdatedAt = aulas.updatedAt();
 
-        doNothing().when(categoryGateway).deleteById(anyString());
+        doNothing().when(categoryGateway).deleteById(anyString(), any());
 
-        Assertions.assertDoesNotThrow(() -> this.useCase.execute(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteCategoryUseCase.Input(expectedId, expectedUpdatedAt)));
 
-        verify(this.categoryGateway, times(1)).deleteById(eq(expectedId));
+        verify(this.categoryGateway, times(1)).deleteById(eq(expectedId), eq(expectedUpdatedAt));
     }
 
     @Test
@@ -39,9 +40,9 @@ public class DeleteCategoryUseCaseTest extends UseCaseTest {
 
         //doNothing().when(categoryGateway).deleteById(anyString());
 
-        Assertions.assertDoesNotThrow(() -> this.useCase.execute(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteCategoryUseCase.Input(expectedId, null)));
 
-        verify(this.categoryGateway, times(0)).deleteById(eq(expectedId));
+        verify(this.categoryGateway, times(0)).deleteById(any(), any());
     }
 
 }
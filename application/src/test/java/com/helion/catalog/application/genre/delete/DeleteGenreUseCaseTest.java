@@ -25,12 +25,13 @@ public class DeleteGenreUseCaseTest extends UseCaseTest {
 
         final var business = Fixture.Genres.business();
         final var expectedId = business.id();
+        final var expectedUpdatedAt = business.updatedAt();
 
-        doNothing().when(genreGateway).deleteById(anyString());
+        doNothing().when(genreGateway).deleteById(anyString(), any());
 
-        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteGenreUseCase.Input(expectedId)));
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteGenreUseCase.Input(expectedId, expectedUpdatedAt)));
 
-        verify(this.genreGateway, times(1)).deleteById(eq(expectedId));
+        verify(this.genreGateway, times(1)).deleteById(eq(expectedId), eq(expectedUpdatedAt));
     }
 
     @Test
@@ -40,9 +41,9 @@ public class DeleteGenreUseCaseTest extends UseCaseTest {
 
         //doNothing().when(genreGateway).deleteById(anyString());
 
-        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteGenreUseCase.Input(expectedId)));
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteGenreUseCase.Input(expectedId, null)));
 
-        verify(this.genreGateway, times(0)).deleteById(eq(expectedId));
+        verify(this.genreGateway, times(0)).deleteById(any(), any());
     }
 
 }
@@ -25,12 +25,13 @@ public class DeleteVideoUseCaseTest extends UseCaseTest {
 
         final var java21 = Fixture.Videos.java21();
         final var expectedId = java21.id();
+        final var expectedUpdatedAt = java21.updatedAt();
 
-        doNothing().when(videoGateway).deleteById(anyString());
+        doNothing().when(videoGateway).deleteById(anyString(), any());
 
-        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteVideoUseCase.Input(expectedId)));
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteVideoUseCase.Input(expectedId, expectedUpdatedAt)));
 
-        verify(this.videoGateway, times(1)).deleteById(eq(expectedId));
+        verify(this.videoGateway, times(1)).deleteById(eq(expectedId), eq(expectedUpdatedAt));
     }
 
     @Test
@@ -40,9 +41,9 @@ public class DeleteVideoUseCaseTest extends UseCaseTest {
 
         //doNothing().when(genreGateway).deleteById(anyString());
 
-        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteVideoUseCase.Input(expectedId)));
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteVideoUseCase.Input(expectedId, null)));
 
-        verify(this.videoGateway, times(0)).deleteById(eq(expectedId));
+        verify(this.videoGateway, times(0)).deleteById(any(), any());
     }
 
 }
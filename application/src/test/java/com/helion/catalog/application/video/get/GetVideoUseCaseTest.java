@@ -61,7 +61,7 @@ public class GetVideoUseCaseTest extends UseCaseTest {
 
         final var actualError =Assertions.assertDoesNotThrow(() -> this.useCase.execute(input));
 
-        verify(this.videoGateway, never()).deleteById(any());
+        verify(this.videoGateway, never()).deleteById(any(), any());
 
         Assertions.assertTrue(actualError.isEmpty());
     }
@@ -75,7 +75,7 @@ public class GetVideoUseCaseTest extends UseCaseTest {
         final var actualError = Assertions.assertDoesNotThrow(
                 () -> this.useCase.execute(new GetVideoUseCase.Input(expectedId)));
 
-        verify(this.videoGateway, never()).deleteById(any());
+        verify(this.videoGateway, never()).deleteById(any(), any());
 
         Assertions.assertTrue(actualError.isEmpty());
 
@@ -2,6 +2,7 @@ package com.helion.catalog.domain.genre;
 
 import com.helion.catalog.domain.pagination.Pagination;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -10,7 +11,7 @@ public interface GenreGateway {
 
     Genre save(Genre aGenre);
 
-    void deleteById(String anId);
+    void deleteById(String anId, Instant updatedAt);
 
     Optional<Genre> findById(String anId);
 
@@ -2,6 +2,7 @@ package com.helion.catalog.domain.video;
 
 import com.helion.catalog.domain.pagination.Pagination;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -10,7 +11,7 @@ public interface VideoGateway {
 
     Video save(Video video);
 
-    void deleteById(String videoId);
+    void deleteById(String videoId, Instant updatedAt);
 
     Optional<Video> findById(String videoId);
 
@@ -0,0 +1,88 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.helion.catalog.infrastructure.castmember.models.CastMemberEvent;
+import com.helion.catalog.infrastructure.configuration.json.Json;
+import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DebeziumEnvelopeDecoderBenchmark {
+
+    private static final TypeReference<MessageValue<CastMemberEvent>> CAST_MEMBER_MESSAGE = new TypeReference<>() {};
+
+    private static final DebeziumEnvelopeDecoder<CastMemberEvent> DECODER = new DebeziumEnvelopeDecoder<>(CastMemberEvent.class);
+
+    private static final String SCHEMA = """
+            {"type":"struct","fields":[
+            {"type":"struct","fields":[{"type":"string","optional":false,"field":"id"},{"type":"string","optional":false,"field":"name"},
+            {"type":"string","optional":false,"field":"type"},{"type":"int64","optional":false,"name":"io.debezium.time.Timestamp","field":"created_at"},
+            {"type":"int64","optional":false,"name":"io.debezium.time.Timestamp","field":"updated_at"}],"optional":true,"name":"adm_videos_mysql.adm_videos.cast_members.Value","field":"before"},
+            {"type":"struct","fields":[{"type":"string","optional":false,"field":"id"},{"type":"string","optional":false,"field":"name"},
+            {"type":"string","optional":false,"field":"type"},{"type":"int64","optional":false,"name":"io.debezium.time.Timestamp","field":"created_at"},
+            {"type":"int64","optional":false,"name":"io.debezium.time.Timestamp","field":"updated_at"}],"optional":true,"name":"adm_videos_mysql.adm_videos.cast_members.Value","field":"after"},
+            {"type":"struct","fields":[{"type":"string","optional":false,"field":"version"},{"type":"string","optional":false,"field":"connector"},
+            {"type":"string","optional":false,"field":"name"},{"type":"int64","optional":false,"field":"ts_ms"},{"type":"string","optional":true,"field":"db"},
+            {"type":"string","optional":true,"field":"table"},{"type":"int64","optional":false,"field":"server_id"},{"type":"string","optional":false,"field":"file"},
+            {"type":"int64","optional":false,"field":"pos"}],"optional":false,"name":"io.debezium.connector.mysql.Source","field":"source"},
+            {"type":"string","optional":false,"field":"op"},{"type":"int64","optional":true,"field":"ts_ms"}],"optional":false,"name":"adm_videos_mysql.adm_videos.cast_members.Envelope"}
+            """;
+
+    private static final String ROW = """
+            {"id":"8a2d6d3c4f6b4c1e9a0b2f3e4d5c6b7a","name":"%s","type":"ACTOR","created_at":1700000000000,"updated_at":1700000100000}
+            """;
+
+    private static final String SOURCE = """
+            {"version":"2.2.1.Final","connector":"mysql","name":"adm_videos_mysql","ts_ms":1700000100000,"db":"adm_videos",
+            "table":"cast_members","server_id":1,"file":"binlog.000003","pos":4512}
+            """;
+
+    @Param({"u", "d"})
+    private String operation;
+
+    @Param({"true", "false"})
+    private boolean withSchema;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        final var before = ROW.formatted("Paulo Actor").strip();
+        final var after = "d".equals(operation) ? "null" : ROW.formatted("Paulo Actor Updated").strip();
+        final var envelope = """
+                {"before":%s,"after":%s,"source":%s,"op":"%s","ts_ms":1700000100001}
+                """.formatted(before, after, SOURCE.strip(), operation).strip();
+
+        final var payload = withSchema
+                ? """
+                {"schema":%s,"payload":%s}
+                """.formatted(SCHEMA.strip(), envelope).strip()
+                : """
+                {"payload":%s}
+                """.formatted(envelope).strip();
+        this.bytes = payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ValuePayload<CastMemberEvent> jsonReadValue() {
+        return Json.readValue(new String(this.bytes, StandardCharsets.UTF_8), CAST_MEMBER_MESSAGE).payload();
+    }
+
+    @Benchmark
+    public ValuePayload<CastMemberEvent> streamingDecoder() {
+        return DECODER.decode(this.bytes);
+    }
+}
@@ -4,6 +4,9 @@ import com.helion.catalog.domain.castmember.CastMember;
 import com.helion.catalog.domain.castmember.CastMemberGateway;
 import com.helion.catalog.domain.castmember.CastMemberSearchQuery;
 import com.helion.catalog.domain.pagination.Pagination;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
+import com.helion.catalog.infrastructure.video.VideoDenormalizer;
 import com.helion.catalog.infrastructure.castmember.persistence.CastMemberDocument;
 import com.helion.catalog.infrastructure.castmember.persistence.CastMemberRepository;
 import io.github.resilience4j.core.StringUtils;
@@ -16,6 +19,7 @@ import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -30,21 +34,28 @@ public class CastMemberElasticsearchGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
     private final SearchOperations searchOperations;
+    private final ElasticsearchBulkWriter bulkWriter;
+    private final VideoDenormalizer videoDenormalizer;
 
-    public CastMemberElasticsearchGateway(final CastMemberRepository castMemberRepository, SearchOperations searchOperations) {
+    public CastMemberElasticsearchGateway(final CastMemberRepository castMemberRepository, SearchOperations searchOperations, final ElasticsearchBulkWriter bulkWriter, final VideoDenormalizer videoDenormalizer) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
         this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.bulkWriter = Objects.requireNonNull(bulkWriter);
+        this.videoDenormalizer = Objects.requireNonNull(videoDenormalizer);
     }
 
     @Override
     public CastMember save(CastMember aMember) {
-        this.castMemberRepository.save(CastMemberDocument.from(aMember));
+        final var document = CastMemberDocument.from(aMember);
+        this.bulkWriter.save(aMember.id(), document, document.version(), this.castMemberRepository::save);
+        this.videoDenormalizer.castMemberChanged(document);
         return aMember;
     }
 
     @Override
-    public void deleteById(String anId) {
-        this.castMemberRepository.deleteById(anId);
+    public void deleteById(String anId, Instant updatedAt) {
+        this.bulkWriter.delete(anId, ExternalVersion.of(updatedAt), CastMemberDocument.class, this.castMemberRepository::deleteById);
+        this.videoDenormalizer.castMemberDeleted(anId);
     }
 
     @Override
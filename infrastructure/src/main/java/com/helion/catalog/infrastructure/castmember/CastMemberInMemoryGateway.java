@@ -7,6 +7,7 @@ import com.helion.catalog.domain.pagination.Pagination;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,7 +31,7 @@ public class CastMemberInMemoryGateway implements CastMemberGateway {
     }
 
     @Override
-    public void deleteById(String memberId) {
+    public void deleteById(String memberId, Instant updatedAt) {
         if(db.containsKey(memberId)){
             this.db.remove(memberId);
         }
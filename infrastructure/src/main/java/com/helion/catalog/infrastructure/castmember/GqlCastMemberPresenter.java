@@ -4,6 +4,7 @@ import com.helion.catalog.application.castmember.get.GetAllCastMembersByIdUseCas
 import com.helion.catalog.application.castmember.list.ListCastMemberOutput;
 import com.helion.catalog.domain.castmember.CastMember;
 import com.helion.catalog.infrastructure.castmember.models.GqlCastMember;
+import com.helion.catalog.infrastructure.video.persistence.CastMemberReference;
 
 public class GqlCastMemberPresenter {
 
@@ -20,4 +21,8 @@ public class GqlCastMemberPresenter {
     public static GqlCastMember present(final CastMember out){
         return new GqlCastMember(out.id(), out.name(), out.type().name(), out.createdAt().toString(), out.createdAt().toString());
     }
+
+    public static GqlCastMember present(final CastMemberReference reference){
+        return new GqlCastMember(reference.id(), reference.name(), reference.type(), reference.createdAt(), reference.updatedAt());
+    }
 }
@@ -3,6 +3,7 @@ package com.helion.catalog.infrastructure.castmember.models;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.helion.catalog.domain.castmember.CastMember;
 import com.helion.catalog.domain.castmember.CastMemberType;
+import com.helion.catalog.infrastructure.kafka.models.connect.IdentifiableEvent;
 
 import static com.helion.catalog.domain.utils.InstantUtils.fromTimestamp;
 
@@ -12,7 +13,7 @@ public record CastMemberEvent(
         @JsonProperty("type") String type,
         @JsonProperty("created_at") Long createdAt,
         @JsonProperty("updated_at") Long updatedAt
-) {
+) implements IdentifiableEvent {
     public static CastMemberEvent from(CastMember aMember) {
         return new CastMemberEvent(
                 aMember.id(),
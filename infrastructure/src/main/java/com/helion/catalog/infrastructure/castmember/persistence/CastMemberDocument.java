@@ -2,12 +2,14 @@ package com.helion.catalog.infrastructure.castmember.persistence;
 
 import com.helion.catalog.domain.castmember.CastMember;
 import com.helion.catalog.domain.castmember.CastMemberType;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.*;
 
 import java.time.Instant;
 
-@Document(indexName = "cast_members")
+@Document(indexName = "cast_members", versionType = Document.VersionType.EXTERNAL, storeVersionInSource = false)
 public class CastMemberDocument {
 
     @Id
@@ -29,8 +31,8 @@ public class CastMemberDocument {
     @Field(type = FieldType.Date, name="updated_at")
     private Instant updatedAt;
 
-
-
+    @Version
+    private Long version;
 
     public CastMemberDocument(
             final String id,
@@ -47,7 +49,7 @@ public class CastMemberDocument {
     }
 
     public static CastMemberDocument from(final CastMember aMember){
-        return new CastMemberDocument(
+        final var document = new CastMemberDocument(
                 aMember.id(),
                 aMember.name(),
                 aMember.type(),
@@ -55,6 +57,8 @@ public class CastMemberDocument {
                 aMember.updatedAt()
 
         );
+        document.setVersion(ExternalVersion.of(aMember.updatedAt()));
+        return document;
     }
 
     public CastMember toCastMember(){
@@ -103,5 +107,11 @@ public class CastMemberDocument {
         this.updatedAt = updatedAt;
     }
 
+    public Long version() {
+        return version;
+    }
 
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -4,6 +4,9 @@ import com.helion.catalog.domain.category.Category;
 import com.helion.catalog.domain.category.CategoryGateway;
 import com.helion.catalog.domain.category.CategorySearchQuery;
 import com.helion.catalog.domain.pagination.Pagination;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
+import com.helion.catalog.infrastructure.video.VideoDenormalizer;
 import com.helion.catalog.infrastructure.category.persistence.CategoryDocument;
 import com.helion.catalog.infrastructure.category.persistence.CategoryRepository;
 import org.apache.commons.lang3.StringUtils;
@@ -17,6 +20,7 @@ import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,25 +33,34 @@ public class CategoryElasticsearchGateway implements CategoryGateway {
 
     private final CategoryRepository categoryRepository;
     private final SearchOperations searchOperations;
+    private final ElasticsearchBulkWriter bulkWriter;
+    private final VideoDenormalizer videoDenormalizer;
 
     public CategoryElasticsearchGateway(
             final CategoryRepository categoryRepository,
-            final SearchOperations searchOperations) {
+            final SearchOperations searchOperations,
+            final ElasticsearchBulkWriter bulkWriter,
+            final VideoDenormalizer videoDenormalizer) {
         this.categoryRepository = Objects.requireNonNull(categoryRepository);
         this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.bulkWriter = Objects.requireNonNull(bulkWriter);
+        this.videoDenormalizer = Objects.requireNonNull(videoDenormalizer);
     }
 
     @Override
     public Category save(Category aCategory) {
 
-        this.categoryRepository.save(CategoryDocument.from(aCategory));
+        final var document = CategoryDocument.from(aCategory);
+        this.bulkWriter.save(aCategory.id(), document, document.version(), this.categoryRepository::save);
+        this.videoDenormalizer.categoryChanged(document);
         return aCategory;
 
     }
 
     @Override
-    public void deleteById(String anId) {
-       this.categoryRepository.deleteById(anId);
+    public void deleteById(String anId, Instant updatedAt) {
+       this.bulkWriter.delete(anId, ExternalVersion.of(updatedAt), CategoryDocument.class, this.categoryRepository::deleteById);
+       this.videoDenormalizer.categoryDeleted(anId);
     }
 
     @Override
@@ -4,10 +4,18 @@ import com.helion.catalog.domain.category.Category;
 import com.helion.catalog.infrastructure.authentication.GetClientCredentials;
 import com.helion.catalog.infrastructure.category.models.CategoryDTO;
 import com.helion.catalog.infrastructure.configuration.annotations.Categories;
+import com.helion.catalog.infrastructure.configuration.properties.RestClientProperties;
+import com.helion.catalog.infrastructure.utils.AsyncRestClient;
+import com.helion.catalog.infrastructure.utils.ConcurrencyLimiters;
+import com.helion.catalog.infrastructure.utils.ConditionalRequests;
+import com.helion.catalog.infrastructure.utils.Futures;
 import com.helion.catalog.infrastructure.utils.HttpClient;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import com.helion.catalog.infrastructure.utils.RequestCoalescer;
+import com.helion.catalog.infrastructure.utils.RequestHedger;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
@@ -16,20 +24,42 @@ import org.springframework.web.client.RestClient;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Component
-@CacheConfig(cacheNames = "admin-categories")
-public class CategoryRestClient implements HttpClient, CategoryClient {
+@CacheConfig(cacheNames = CategoryRestClient.CACHE)
+public class CategoryRestClient implements HttpClient, CategoryClient, DisposableBean {
+
+    public final static String CACHE = "admin-categories";
 
     public final static String NAMESPACE = "categories";
     private final RestClient restClient;
 
+    private final AsyncRestClient asyncRestClient;
+
+    private final ConcurrencyLimiters concurrencyLimiters;
+
+    private final ConditionalRequests<CategoryDTO> conditional;
+
     private final GetClientCredentials  getClientCredentials;
 
+    private final RequestCoalescer<String, Optional<Category>> coalescer;
+
+    private final RequestHedger hedger;
+
     public CategoryRestClient(@Categories final RestClient categoryHttpClient,
-                              final GetClientCredentials getClientCredentials){
+                              @Categories final AsyncRestClient categoryAsyncHttpClient,
+                              @Categories final RestClientProperties properties,
+                              final GetClientCredentials getClientCredentials,
+                              final ConcurrencyLimiters concurrencyLimiters,
+                              final MeterRegistry meterRegistry){
         this.restClient = Objects.requireNonNull(categoryHttpClient);
+        this.asyncRestClient = Objects.requireNonNull(categoryAsyncHttpClient);
+        this.concurrencyLimiters = Objects.requireNonNull(concurrencyLimiters);
         this.getClientCredentials = Objects.requireNonNull(getClientCredentials);
+        this.conditional = new ConditionalRequests<>(NAMESPACE, properties.validatorEntries(), meterRegistry);
+        this.coalescer = new RequestCoalescer<>(NAMESPACE, properties.coalesceWindow(), properties.coalesceMaxBatch(), this::fetch, meterRegistry);
+        this.hedger = new RequestHedger(NAMESPACE, properties.hedge(), meterRegistry);
     }
 
     @Override
@@ -37,23 +67,41 @@ public class CategoryRestClient implements HttpClient, CategoryClient {
         return NAMESPACE;
     }
 
-    @Cacheable(key="#categoryId")
-    @Bulkhead(name= NAMESPACE)
+    @Cacheable(key="#categoryId", sync = true)
     @CircuitBreaker(name = NAMESPACE)
     @Retry(name = NAMESPACE)
     public Optional<Category> categoryOfId(final String categoryId) {
+        return this.concurrencyLimiters.execute(NAMESPACE, () -> this.coalescer.get(categoryId));
+    }
+
+    @Override
+    public void destroy() {
+        this.coalescer.close();
+        this.hedger.close();
+    }
+
+    private Optional<Category> fetch(final String categoryId) {
         final var token = this.getClientCredentials.retrieve();
-        System.out.println("categoryOfId: "+categoryId);
+        if (this.hedger.enabled()) {
+            return this.hedger.execute(() -> fetchAsync(categoryId, token));
+        }
+
         return doGet(categoryId, () ->
-                this.restClient.get()
+                this.conditional.resolve(categoryId, this.restClient.get()
                     .uri("/{id}", categoryId)
                         .header(HttpHeaders.AUTHORIZATION, "bearer "+token)
+                        .headers(headers -> this.conditional.prepare(categoryId, headers::set))
                     .retrieve()
                     .onStatus(isNotFound, notFoundHandler(categoryId))
                     .onStatus(is5xx, a5xxHandler(categoryId))
-                    .body(CategoryDTO.class)
+                    .toEntity(CategoryDTO.class))
         ).map(CategoryDTO::toCategory);
     }
 
-
+    private CompletableFuture<Optional<Category>> fetchAsync(final String categoryId, final String token) {
+        final var response = doGetAsync(categoryId, () ->
+                this.asyncRestClient.get(categoryId, token, CategoryDTO.class, this.conditional)
+        );
+        return Futures.propagateCancellation(response, response.thenApply(category -> category.map(CategoryDTO::toCategory)));
+    }
 }
@@ -4,6 +4,7 @@ import com.helion.catalog.application.category.get.GetAllCategoriesByIdUseCase;
 import com.helion.catalog.application.category.list.ListCategoryOutput;
 import com.helion.catalog.domain.category.Category;
 import com.helion.catalog.infrastructure.category.models.GqlCategory;
+import com.helion.catalog.infrastructure.video.persistence.CategoryReference;
 
 public final class GqlCategoryPresenter {
 
@@ -20,4 +21,8 @@ public final class GqlCategoryPresenter {
     public static GqlCategory present(Category aCategory){
         return new GqlCategory(aCategory.id(), aCategory.name(), aCategory.description());
     }
+
+    public static GqlCategory present(final CategoryReference reference){
+        return new GqlCategory(reference.id(), reference.name(), reference.description());
+    }
 }
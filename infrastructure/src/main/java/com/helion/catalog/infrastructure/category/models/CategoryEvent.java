@@ -1,7 +1,32 @@
 package com.helion.catalog.infrastructure.category.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.helion.catalog.domain.category.Category;
+import com.helion.catalog.infrastructure.kafka.models.connect.IdentifiableEvent;
+
+import static com.helion.catalog.domain.utils.InstantUtils.fromTimestamp;
 
 public record CategoryEvent(
-        @JsonProperty("id") String id
-) {}
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("active") Boolean active,
+        @JsonProperty("created_at") Long createdAt,
+        @JsonProperty("updated_at") Long updatedAt,
+        @JsonProperty("deleted_at") Long deletedAt
+) implements IdentifiableEvent {
+
+    public CategoryEvent(final String id) {
+        this(id, null, null, null, null, null, null);
+    }
+
+    @JsonIgnore
+    public boolean isComplete() {
+        return id != null && name != null && active != null && createdAt != null && updatedAt != null;
+    }
+
+    public Category toCategory() {
+        return Category.with(id, name, description, active, fromTimestamp(createdAt), fromTimestamp(updatedAt), fromTimestamp(deletedAt));
+    }
+}
@@ -1,12 +1,14 @@
 package com.helion.catalog.infrastructure.category.persistence;
 
 import com.helion.catalog.domain.category.Category;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.*;
 
 import java.time.Instant;
 
-@Document(indexName = "categories")
+@Document(indexName = "categories", versionType = Document.VersionType.EXTERNAL, storeVersionInSource = false)
 public class CategoryDocument {
 
     @Id
@@ -33,6 +35,8 @@ public class CategoryDocument {
     @Field(type = FieldType.Date, name="deleted_at")
     private Instant deletedAt;
 
+    @Version
+    private Long version;
 
     public CategoryDocument(
             final String id,
@@ -52,7 +56,7 @@ public class CategoryDocument {
     }
 
     public static CategoryDocument from(final Category aCategory){
-        return new CategoryDocument(
+        final var document = new CategoryDocument(
                 aCategory.id(),
                 aCategory.name(),
                 aCategory.description(),
@@ -62,6 +66,8 @@ public class CategoryDocument {
                 aCategory.deletedAt()
 
         );
+        document.setVersion(ExternalVersion.of(aCategory.updatedAt()));
+        return document;
     }
 
     public Category toCategory(){
@@ -125,4 +131,12 @@ public class CategoryDocument {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Long version() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
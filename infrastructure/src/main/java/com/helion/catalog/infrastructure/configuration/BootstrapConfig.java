@@ -0,0 +1,32 @@
+package com.helion.catalog.infrastructure.configuration;
+
+import com.helion.catalog.infrastructure.configuration.properties.BootstrapProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.job.CatalogBootstrapJob;
+import com.helion.catalog.infrastructure.kafka.CdcMessageHandler;
+import com.helion.catalog.infrastructure.kafka.ListenerBackpressureController;
+import com.helion.catalog.infrastructure.kafka.ListenerSeekRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.List;
+
+@Configuration(proxyBeanMethods = false)
+public class BootstrapConfig {
+
+    @Bean
+    public CatalogBootstrapJob catalogBootstrapJob(
+            final List<CdcMessageHandler<?>> handlers,
+            final ListenerBackpressureController backpressureController,
+            final ListenerSeekRegistry seekRegistry,
+            final ElasticsearchBulkWriter bulkWriter,
+            final KafkaAdmin kafkaAdmin,
+            final KafkaProperties kafkaProperties,
+            final BootstrapProperties properties,
+            final MeterRegistry meterRegistry) {
+        return new CatalogBootstrapJob(handlers, backpressureController, seekRegistry, bulkWriter, kafkaAdmin, kafkaProperties, properties, meterRegistry);
+    }
+}
@@ -1,25 +1,58 @@
 package com.helion.catalog.infrastructure.configuration;
 
+import com.helion.catalog.infrastructure.utils.StaleWhileRevalidateCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.cache.Cache2kBuilderCustomizer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Configuration(proxyBeanMethods = false)
-@EnableCaching
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
 public class CacheConfig {
 
     @Bean
     @ConditionalOnProperty(name = "cache.type", havingValue = "cache2k")
     Cache2kBuilderCustomizer cache2kBuilderCustomizer(
             @Value("${cache.ttl}") int ttl,
+            @Value("${cache.max-staleness:0}") int maxStaleness,
             @Value("${cache.max-entries}") int maxEntries){
         return builder -> builder
                 .entryCapacity(maxEntries)
-                .expireAfterWrite(ttl,TimeUnit.SECONDS);
+                .expireAfterWrite(ttl + maxStaleness,TimeUnit.SECONDS);
+    }
+
+    @Bean
+    static BeanPostProcessor staleWhileRevalidateCacheManagerPostProcessor(
+            @Value("${cache.ttl}") int ttl,
+            @Value("${cache.max-staleness:0}") int maxStaleness,
+            @Value("${cache.stale-while-revalidate:false}") boolean staleWhileRevalidate,
+            @Value("${cache.refresh-threads:2}") int refreshThreads,
+            ObjectProvider<MeterRegistry> meterRegistry){
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (maxStaleness > 0 && bean instanceof CacheManager cacheManager && !(bean instanceof StaleWhileRevalidateCacheManager)) {
+                    return new StaleWhileRevalidateCacheManager(
+                            cacheManager,
+                            Duration.ofSeconds(ttl),
+                            Duration.ofSeconds(maxStaleness),
+                            staleWhileRevalidate,
+                            refreshThreads,
+                            meterRegistry.getObject()
+                    );
+                }
+                return bean;
+            }
+        };
     }
 }
@@ -1,7 +1,17 @@
 package com.helion.catalog.infrastructure.configuration;
 
 import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.exceptions.RetryBudgetExhaustedException;
+import com.helion.catalog.infrastructure.kafka.BulkAckCoordinator;
+import com.helion.catalog.infrastructure.kafka.CdcMessageHandler;
+import com.helion.catalog.infrastructure.kafka.DltReplayService;
+import com.helion.catalog.infrastructure.kafka.LocalRetryScheduler;
+import com.helion.catalog.infrastructure.kafka.filter.CdcRecordFilterPipeline;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,9 +19,17 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration(proxyBeanMethods = false)
@@ -19,6 +37,10 @@ import java.util.Map;
 //@Profile({"production", "!development","sandbox", "test-e2e", "!test-integration"})
 public class KafkaConfig {
 
+    public static final String DLT_SUFFIX = "-dlt";
+    public static final String BATCH_SUFFIX = "-batch";
+    public static final String RETRY_SUFFIX = "-retry-";
+
     private final KafkaProperties properties;
 
     public KafkaConfig(final KafkaProperties props) {
@@ -27,14 +49,77 @@ public class KafkaConfig {
     }
 
     @Bean
-    KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String,String>> kafkaListenerFactory(){
+    BulkAckCoordinator bulkAckCoordinator(final MeterRegistry meterRegistry) {
+        return new BulkAckCoordinator(this.properties, meterRegistry);
+    }
+
+    @Bean
+    DltReplayService dltReplayService(
+            final List<CdcMessageHandler<?>> handlers,
+            final KafkaTemplate<String, String> kafkaTemplate,
+            final MeterRegistry meterRegistry) {
+        return new DltReplayService(handlers, kafkaTemplate, this.properties, meterRegistry);
+    }
+
+    @Bean
+    KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String,String>> kafkaListenerFactory(
+            final KafkaTemplate<String, String> kafkaTemplate,
+            final BulkAckCoordinator bulkAckCoordinator,
+            final LocalRetryScheduler localRetryScheduler,
+            final CdcRecordFilterPipeline recordFilterPipeline
+    ){
         final var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
 
         factory.setConsumerFactory(consumerFactory());
         factory.getContainerProperties().setPollTimeout(properties.poolTimeout());
+        factory.setCommonErrorHandler(batchErrorHandler(kafkaTemplate));
+        factory.setRecordFilterStrategy(recordFilterPipeline);
+        factory.setContainerCustomizer(container -> {
+            final var listenerId = container.getListenerId();
+            properties.consumers().values().stream()
+                    .filter(consumer -> (consumer.id() + BATCH_SUFFIX).equals(listenerId))
+                    .findFirst()
+                    .ifPresent(consumer -> {
+                        final var containerProperties = container.getContainerProperties();
+                        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+                        containerProperties.setConsumerRebalanceListener(bulkAckCoordinator);
+                        if (consumer.batch().commitInterval() > 0) {
+                            containerProperties.setIdleEventInterval(consumer.batch().commitInterval());
+                        }
+                    });
+            properties.consumers().values().stream()
+                    .filter(consumer -> isRecordListener(consumer.id(), listenerId))
+                    .findFirst()
+                    .ifPresent(consumer -> {
+                        final var containerProperties = container.getContainerProperties();
+                        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+                        containerProperties.setConsumerRebalanceListener(localRetryScheduler);
+                    });
+        });
         return factory;
     }
 
+    private static boolean isRecordListener(final String consumerId, final String listenerId) {
+        return consumerId != null && listenerId != null
+                && (listenerId.equals(consumerId) || listenerId.startsWith(consumerId + RETRY_SUFFIX));
+    }
+
+    private DefaultErrorHandler batchErrorHandler(final KafkaTemplate<String, String> kafkaTemplate){
+        final var templates = new LinkedHashMap<Class<?>, KafkaOperations<?, ?>>();
+        templates.put(byte[].class, new KafkaTemplate<>(kafkaTemplate.getProducerFactory()
+                .copyWithConfigurationOverride(Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class))));
+        templates.put(Object.class, kafkaTemplate);
+
+        final var recoverer = new DeadLetterPublishingRecoverer(templates,
+                (record, ex) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+
+        final var backOff = new ExponentialBackOff(1_000, 2);
+        backOff.setMaxElapsedTime(7_000);
+        final var errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        errorHandler.addNotRetryableExceptions(RetryBudgetExhaustedException.class);
+        return errorHandler;
+    }
+
 
     private ConsumerFactory<String, Object> consumerFactory(){
         return new DefaultKafkaConsumerFactory<>(consumerConfigs());
@@ -5,7 +5,12 @@ import com.helion.catalog.infrastructure.configuration.annotations.Categories;
 import com.helion.catalog.infrastructure.configuration.annotations.Genres;
 import com.helion.catalog.infrastructure.configuration.annotations.Keycloak;
 import com.helion.catalog.infrastructure.configuration.annotations.Videos;
+import com.helion.catalog.infrastructure.configuration.properties.HttpClientProperties;
 import com.helion.catalog.infrastructure.configuration.properties.RestClientProperties;
+import com.helion.catalog.infrastructure.utils.AsyncRestClient;
+import com.helion.catalog.infrastructure.utils.InstrumentedHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,15 +18,29 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration(proxyBeanMethods = false)
 public class RestClientConfig {
 
-
-
+    @Bean
+    public HttpClient adminHttpClient(final HttpClientProperties properties, final MeterRegistry meterRegistry) {
+        return HttpClient.newBuilder()
+                .version(properties.version())
+                .connectTimeout(Duration.ofMillis(properties.connectTimeout()))
+                .executor(ExecutorServiceMetrics.monitor(meterRegistry, executor(properties), "rest-http"))
+                .build();
+    }
 
     @Bean
     @Keycloak
@@ -32,8 +51,8 @@ public class RestClientConfig {
 
     @Bean
     @Keycloak
-    public RestClient keycloakHttpClient(@Keycloak RestClientProperties properties, final ObjectMapper objectMapper){
-        return restClient(properties, objectMapper);
+    public RestClient keycloakHttpClient(@Keycloak RestClientProperties properties, final ObjectMapper objectMapper, final HttpClient adminHttpClient, final MeterRegistry meterRegistry){
+        return restClient(new InstrumentedHttpClient("keycloak", adminHttpClient, meterRegistry), properties, objectMapper);
     }
 
     @Bean
@@ -45,8 +64,14 @@ public class RestClientConfig {
 
     @Bean
     @Categories
-    public RestClient categoryHttpClient(@Categories RestClientProperties properties, final ObjectMapper objectMapper){
-        return restClient(properties, objectMapper);
+    public RestClient categoryHttpClient(@Categories RestClientProperties properties, final ObjectMapper objectMapper, final HttpClient adminHttpClient, final MeterRegistry meterRegistry){
+        return restClient(new InstrumentedHttpClient("categories", adminHttpClient, meterRegistry), properties, objectMapper);
+    }
+
+    @Bean
+    @Categories
+    public AsyncRestClient categoryAsyncHttpClient(@Categories RestClientProperties properties, final ObjectMapper objectMapper, final HttpClient adminHttpClient, final MeterRegistry meterRegistry){
+        return new AsyncRestClient("categories", new InstrumentedHttpClient("categories", adminHttpClient, meterRegistry), properties, objectMapper);
     }
 
 
@@ -59,8 +84,14 @@ public class RestClientConfig {
 
     @Bean
     @Genres
-    public RestClient genreHttpClient(@Genres RestClientProperties properties, final ObjectMapper objectMapper){
-        return restClient(properties, objectMapper);
+    public RestClient genreHttpClient(@Genres RestClientProperties properties, final ObjectMapper objectMapper, final HttpClient adminHttpClient, final MeterRegistry meterRegistry){
+        return restClient(new InstrumentedHttpClient("genres", adminHttpClient, meterRegistry), properties, objectMapper);
+    }
+
+    @Bean
+    @Genres
+    public AsyncRestClient genreAsyncHttpClient(@Genres RestClientProperties properties, final ObjectMapper objectMapper, final HttpClient adminHttpClient, final MeterRegistry meterRegistry){
+        return new AsyncRestClient("genres", new InstrumentedHttpClient("genres", adminHttpClient, meterRegistry), properties, objectMapper);
     }
 
     @Bean
@@ -72,13 +103,19 @@ public class RestClientConfig {
 
     @Bean
     @Videos
-    public RestClient videoHttpClient(@Videos RestClientProperties properties, final ObjectMapper objectMapper){
-        return restClient(properties, objectMapper);
+    public RestClient videoHttpClient(@Videos RestClientProperties properties, final ObjectMapper objectMapper, final HttpClient adminHttpClient, final MeterRegistry meterRegistry){
+        return restClient(new InstrumentedHttpClient("videos", adminHttpClient, meterRegistry), properties, objectMapper);
+    }
+
+    @Bean
+    @Videos
+    public AsyncRestClient videoAsyncHttpClient(@Videos RestClientProperties properties, final ObjectMapper objectMapper, final HttpClient adminHttpClient, final MeterRegistry meterRegistry){
+        return new AsyncRestClient("videos", new InstrumentedHttpClient("videos", adminHttpClient, meterRegistry), properties, objectMapper);
     }
 
 
-    private RestClient restClient(final RestClientProperties properties, final ObjectMapper objectMapper) {
-        final var factory = new JdkClientHttpRequestFactory();
+    private RestClient restClient(final HttpClient httpClient, final RestClientProperties properties, final ObjectMapper objectMapper) {
+        final var factory = new JdkClientHttpRequestFactory(httpClient);
         factory.setReadTimeout(properties.readTimeout());
         return RestClient.builder()
                 .baseUrl(properties.baseUrl())
@@ -91,6 +128,23 @@ public class RestClientConfig {
                 .build();
     }
 
+    private static ExecutorService executor(final HttpClientProperties properties) {
+        final var threadFactory = new CustomizableThreadFactory("rest-http-");
+        threadFactory.setDaemon(true);
+        if (properties.executorThreads() <= 0) {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+
+        final var executor = new ThreadPoolExecutor(
+                properties.executorThreads(),
+                properties.executorThreads(),
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private static MappingJackson2HttpMessageConverter jsonConverter(ObjectMapper objectMapper) {
         final var jsonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
         jsonConverter.setSupportedMediaTypes(List.of(MediaType.APPLICATION_JSON));
@@ -0,0 +1,55 @@
+package com.helion.catalog.infrastructure.configuration;
+
+import com.helion.catalog.infrastructure.category.CategoryRestClient;
+import com.helion.catalog.infrastructure.configuration.properties.RetryBudgetProperties;
+import com.helion.catalog.infrastructure.genre.GenreRestClient;
+import com.helion.catalog.infrastructure.utils.RetryBudget;
+import com.helion.catalog.infrastructure.video.VideoRestClient;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class RetryBudgetConfig {
+
+    @Bean
+    public RetryBudget retryBudget(final RetryBudgetProperties properties, final MeterRegistry meterRegistry) {
+        return new RetryBudget(properties, meterRegistry);
+    }
+
+    @Bean
+    public RetryConfigCustomizer categoriesRetryBudgetCustomizer(final RetryBudget retryBudget) {
+        return retryBudgetCustomizer(CategoryRestClient.NAMESPACE, retryBudget);
+    }
+
+    @Bean
+    public RetryConfigCustomizer genresRetryBudgetCustomizer(final RetryBudget retryBudget) {
+        return retryBudgetCustomizer(GenreRestClient.NAMESPACE, retryBudget);
+    }
+
+    @Bean
+    public RetryConfigCustomizer videosRetryBudgetCustomizer(final RetryBudget retryBudget) {
+        return retryBudgetCustomizer(VideoRestClient.NAMESPACE, retryBudget);
+    }
+
+    private static RetryConfigCustomizer retryBudgetCustomizer(final String name, final RetryBudget retryBudget) {
+        return RetryConfigCustomizer.of(name, builder -> {
+            final IntervalBiFunction<Object> interval = builder.build().getIntervalBiFunction();
+            final IntervalBiFunction<Object> budgeted = (attempt, result) -> {
+                if (result.isLeft() && !retryBudget.tryAcquire(name)) {
+                    throw RetryBudgetConfig.<RuntimeException>rethrow(result.getLeft());
+                }
+                return interval.apply(attempt, result);
+            };
+            builder.intervalFunction(null);
+            builder.intervalBiFunction(budgeted);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E rethrow(final Throwable t) throws E {
+        throw (E) t;
+    }
+}
@@ -0,0 +1,73 @@
+package com.helion.catalog.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "rest-client.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled;
+    private int initialLimit = 20;
+    private int minLimit = 5;
+    private int maxLimit = 200;
+    private double backoffRatio = 0.9;
+    private double tolerance = 2;
+    private long baselineWindow = 30_000;
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int initialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int minLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int maxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double backoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public double tolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public long baselineWindow() {
+        return baselineWindow;
+    }
+
+    public void setBaselineWindow(long baselineWindow) {
+        this.baselineWindow = baselineWindow;
+    }
+}
@@ -0,0 +1,39 @@
+package com.helion.catalog.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+
+@Configuration
+@ConfigurationProperties(prefix = "rest-client.http")
+public class HttpClientProperties {
+
+    private HttpClient.Version version = HttpClient.Version.HTTP_2;
+    private int connectTimeout = 250;
+    private int executorThreads;
+
+    public HttpClient.Version version() {
+        return version;
+    }
+
+    public void setVersion(HttpClient.Version version) {
+        this.version = version;
+    }
+
+    public int connectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int executorThreads() {
+        return executorThreads;
+    }
+
+    public void setExecutorThreads(int executorThreads) {
+        this.executorThreads = executorThreads;
+    }
+}
@@ -0,0 +1,269 @@
+package com.helion.catalog.infrastructure.configuration.properties;
+
+public class KafkaConsumerProperties {
+
+    private String id;
+    private String topics;
+    private String groupId;
+    private boolean cdcFirst;
+    private boolean skipStale;
+    private Batch batch = new Batch();
+    private Autoscaling autoscaling = new Autoscaling();
+    private Retry retry = new Retry();
+
+    public String id() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String topics() {
+        return topics;
+    }
+
+    public void setTopics(String topics) {
+        this.topics = topics;
+    }
+
+    public String groupId() {
+        return groupId;
+    }
+
+    public void setGroupId(String groupId) {
+        this.groupId = groupId;
+    }
+
+    public boolean cdcFirst() {
+        return cdcFirst;
+    }
+
+    public void setCdcFirst(boolean cdcFirst) {
+        this.cdcFirst = cdcFirst;
+    }
+
+    public boolean skipStale() {
+        return skipStale;
+    }
+
+    public void setSkipStale(boolean skipStale) {
+        this.skipStale = skipStale;
+    }
+
+    public Batch batch() {
+        return batch;
+    }
+
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+
+    public Autoscaling autoscaling() {
+        return autoscaling;
+    }
+
+    public void setAutoscaling(Autoscaling autoscaling) {
+        this.autoscaling = autoscaling;
+    }
+
+    public Retry retry() {
+        return retry;
+    }
+
+    public void setRetry(Retry retry) {
+        this.retry = retry;
+    }
+
+    public static class Batch {
+
+        private boolean enabled;
+        private int size;
+        private int workers = 1;
+        private boolean coalesce;
+        private int commitRecords;
+        private long commitInterval;
+        private boolean priorityLane;
+
+        public boolean enabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public int workers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public boolean coalesce() {
+            return coalesce;
+        }
+
+        public void setCoalesce(boolean coalesce) {
+            this.coalesce = coalesce;
+        }
+
+        public int commitRecords() {
+            return commitRecords;
+        }
+
+        public void setCommitRecords(int commitRecords) {
+            this.commitRecords = commitRecords;
+        }
+
+        public long commitInterval() {
+            return commitInterval;
+        }
+
+        public void setCommitInterval(long commitInterval) {
+            this.commitInterval = commitInterval;
+        }
+
+        public boolean priorityLane() {
+            return priorityLane;
+        }
+
+        public void setPriorityLane(boolean priorityLane) {
+            this.priorityLane = priorityLane;
+        }
+    }
+
+    public static class Autoscaling {
+
+        private boolean enabled;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 1;
+        private long scaleUpLag;
+        private long scaleDownLag;
+        private int stableSamples = 1;
+        private long cooldown;
+
+        public boolean enabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int minConcurrency() {
+            return minConcurrency;
+        }
+
+        public void setMinConcurrency(int minConcurrency) {
+            this.minConcurrency = minConcurrency;
+        }
+
+        public int maxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public long scaleUpLag() {
+            return scaleUpLag;
+        }
+
+        public void setScaleUpLag(long scaleUpLag) {
+            this.scaleUpLag = scaleUpLag;
+        }
+
+        public long scaleDownLag() {
+            return scaleDownLag;
+        }
+
+        public void setScaleDownLag(long scaleDownLag) {
+            this.scaleDownLag = scaleDownLag;
+        }
+
+        public int stableSamples() {
+            return stableSamples;
+        }
+
+        public void setStableSamples(int stableSamples) {
+            this.stableSamples = stableSamples;
+        }
+
+        public long cooldown() {
+            return cooldown;
+        }
+
+        public void setCooldown(long cooldown) {
+            this.cooldown = cooldown;
+        }
+    }
+
+    public static class Retry {
+
+        private boolean enabled;
+        private int attempts;
+        private long initialDelay;
+        private long maxDelay;
+        private double multiplier = 2;
+        private int queueCapacity;
+
+        public boolean enabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int attempts() {
+            return attempts;
+        }
+
+        public void setAttempts(int attempts) {
+            this.attempts = attempts;
+        }
+
+        public long initialDelay() {
+            return initialDelay;
+        }
+
+        public void setInitialDelay(long initialDelay) {
+            this.initialDelay = initialDelay;
+        }
+
+        public long maxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(long maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        public double multiplier() {
+            return multiplier;
+        }
+
+        public void setMultiplier(double multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        public int queueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.helion.catalog.infrastructure.configuration.properties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @ConfigurationProperties(prefix="kafka")
 public class KafkaProperties {
@@ -13,6 +16,10 @@ public class KafkaProperties {
 
     private boolean autoCreateTopics;
 
+    private Map<String, KafkaConsumerProperties> consumers = new HashMap<>();
+
+    private DltReplay dltReplay = new DltReplay();
+
     public String bootstrapServers() {
         return bootstrapServers;
     }
@@ -37,4 +44,73 @@ public class KafkaProperties {
     public void setAutoCreateTopics(boolean autoCreateTopics) {
         this.autoCreateTopics = autoCreateTopics;
     }
+
+    public Map<String, KafkaConsumerProperties> consumers() {
+        return consumers;
+    }
+
+    public KafkaConsumerProperties consumer(final String name) {
+        return consumers.getOrDefault(name, new KafkaConsumerProperties());
+    }
+
+    public void setConsumers(Map<String, KafkaConsumerProperties> consumers) {
+        this.consumers = consumers;
+    }
+
+    public DltReplay dltReplay() {
+        return dltReplay;
+    }
+
+    public void setDltReplay(DltReplay dltReplay) {
+        this.dltReplay = dltReplay;
+    }
+
+    public static class DltReplay {
+
+        private boolean scheduled;
+        private double rate = 10;
+        private int burst = 10;
+        private int batchSize = 100;
+        private String groupSuffix = "-dlt-replay";
+
+        public boolean scheduled() {
+            return scheduled;
+        }
+
+        public void setScheduled(boolean scheduled) {
+            this.scheduled = scheduled;
+        }
+
+        public double rate() {
+            return rate;
+        }
+
+        public void setRate(double rate) {
+            this.rate = rate;
+        }
+
+        public int burst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public int batchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public String groupSuffix() {
+            return groupSuffix;
+        }
+
+        public void setGroupSuffix(String groupSuffix) {
+            this.groupSuffix = groupSuffix;
+        }
+    }
 }
@@ -7,6 +7,10 @@ public class RestClientProperties {
 
     private String baseUrl;
     private int readTimeout;
+    private long coalesceWindow;
+    private int coalesceMaxBatch = 64;
+    private int validatorEntries = 1_000;
+    private Hedge hedge = new Hedge();
 
     public String baseUrl() {
         return baseUrl;
@@ -23,4 +27,85 @@ public class RestClientProperties {
     public void setReadTimeout(int readTimeout) {
         this.readTimeout = readTimeout;
     }
+
+    public long coalesceWindow() {
+        return coalesceWindow;
+    }
+
+    public void setCoalesceWindow(long coalesceWindow) {
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    public int coalesceMaxBatch() {
+        return coalesceMaxBatch;
+    }
+
+    public void setCoalesceMaxBatch(int coalesceMaxBatch) {
+        this.coalesceMaxBatch = coalesceMaxBatch;
+    }
+
+    public int validatorEntries() {
+        return validatorEntries;
+    }
+
+    public void setValidatorEntries(int validatorEntries) {
+        this.validatorEntries = validatorEntries;
+    }
+
+    public Hedge hedge() {
+        return hedge;
+    }
+
+    public void setHedge(Hedge hedge) {
+        this.hedge = hedge;
+    }
+
+    public static class Hedge {
+
+        private boolean enabled;
+        private double percentile = 0.95;
+        private long minDelay = 20;
+        private double budget = 0.05;
+        private int minSamples = 100;
+
+        public boolean enabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double percentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public long minDelay() {
+            return minDelay;
+        }
+
+        public void setMinDelay(long minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public double budget() {
+            return budget;
+        }
+
+        public void setBudget(double budget) {
+            this.budget = budget;
+        }
+
+        public int minSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package com.helion.catalog.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "retry-budget")
+public class RetryBudgetProperties {
+
+    private boolean enabled;
+    private double ratio = 0.1;
+    private double minPerSecond = 1;
+    private int capacity = 20;
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double ratio() {
+        return ratio;
+    }
+
+    public void setRatio(double ratio) {
+        this.ratio = ratio;
+    }
+
+    public double minPerSecond() {
+        return minPerSecond;
+    }
+
+    public void setMinPerSecond(double minPerSecond) {
+        this.minPerSecond = minPerSecond;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+}
@@ -0,0 +1,289 @@
+package com.helion.catalog.infrastructure.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.helion.catalog.domain.exceptions.InternalErrorException;
+import org.elasticsearch.client.ResponseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+@Component
+public class ElasticsearchBulkWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchBulkWriter.class);
+
+    private static final ThreadLocal<List<BulkOperation>> PENDING = new ThreadLocal<>();
+    private static final ThreadLocal<List<Runnable>> AFTER_FLUSH = new ThreadLocal<>();
+    private static final String DEFAULT_REFRESH_INTERVAL = "1s";
+    private static final int CONFLICT = 409;
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final ElasticsearchClient client;
+    private final ElasticsearchOperations operations;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ElasticsearchBulkWriter(
+            final ElasticsearchClient client,
+            final ElasticsearchOperations operations,
+            final ApplicationEventPublisher eventPublisher) {
+        this.client = Objects.requireNonNull(client);
+        this.operations = Objects.requireNonNull(operations);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+    }
+
+    public void bulk(final Runnable work) {
+        if (PENDING.get() != null) {
+            work.run();
+            return;
+        }
+
+        PENDING.set(new ArrayList<>());
+        AFTER_FLUSH.set(new ArrayList<>());
+        try {
+            work.run();
+            flush();
+        } finally {
+            PENDING.remove();
+            AFTER_FLUSH.remove();
+        }
+    }
+
+    public void afterFlush(final Runnable callback) {
+        final var callbacks = AFTER_FLUSH.get();
+        if (callbacks == null) {
+            callback.run();
+            return;
+        }
+        callbacks.add(callback);
+    }
+
+    public <T> void save(final String id, final T document, final Consumer<T> fallback) {
+        save(id, document, null, fallback);
+    }
+
+    public <T> void save(final String id, final T document, final Long version, final Consumer<T> fallback) {
+        final var index = indexName(document.getClass());
+        final var pending = PENDING.get();
+        if (pending == null) {
+            try {
+                withPressureSignal(index, () -> fallback.accept(document));
+            } catch (final RuntimeException ex) {
+                if (version == null || !hasStatus(ex, CONFLICT)) {
+                    throw ex;
+                }
+                LOG.info("Stale write rejected by external version [index:{}] [id:{}] [version:{}]", index, id, version);
+            }
+            return;
+        }
+
+        final var source = this.operations.getElasticsearchConverter().mapObject(document);
+        pending.add(BulkOperation.of(op -> op.index(idx -> {
+            idx.index(index).id(id).document(source);
+            if (version != null) {
+                idx.version(version).versionType(VersionType.External);
+            }
+            return idx;
+        })));
+    }
+
+    public <T> void overwrite(final String id, final T document, final long version) {
+        final var index = indexName(document.getClass());
+        final var source = this.operations.getElasticsearchConverter().mapObject(document);
+        final var operation = BulkOperation.of(op -> op.index(idx -> idx.index(index).id(id).document(source)
+                .version(version)
+                .versionType(VersionType.ExternalGte)));
+
+        final var pending = PENDING.get();
+        if (pending == null) {
+            bulk(() -> PENDING.get().add(operation));
+            return;
+        }
+        pending.add(operation);
+    }
+
+    public void delete(final String id, final Long version, final Class<?> documentClass, final Consumer<String> fallback) {
+        final var index = indexName(documentClass);
+        final var pending = PENDING.get();
+        if (pending == null) {
+            if (version == null) {
+                withPressureSignal(index, () -> fallback.accept(id));
+                return;
+            }
+            try {
+                withPressureSignal(index, () -> deleteVersioned(index, id, version));
+            } catch (final RuntimeException ex) {
+                if (!hasStatus(ex, CONFLICT)) {
+                    throw ex;
+                }
+                LOG.info("Stale delete rejected by external version [index:{}] [id:{}] [version:{}]", index, id, version);
+            }
+            return;
+        }
+
+        pending.add(BulkOperation.of(op -> op.delete(del -> {
+            del.index(index).id(id);
+            if (version != null) {
+                del.version(version).versionType(VersionType.ExternalGte);
+            }
+            return del;
+        })));
+    }
+
+    public void flush() {
+        final var pending = PENDING.get();
+        if (pending == null) {
+            return;
+        }
+
+        final var callbacks = List.copyOf(AFTER_FLUSH.get());
+        AFTER_FLUSH.get().clear();
+        if (!pending.isEmpty()) {
+            final var bulkOperations = List.copyOf(pending);
+            pending.clear();
+            send(bulkOperations);
+        }
+        runDetached(callbacks);
+    }
+
+    public String suspendRefresh(final Class<?> documentClass) {
+        final var index = indexName(documentClass);
+        try {
+            final var current = this.client.indices().getSettings(req -> req.index(index)).get(index);
+            final var settings = current != null ? current.settings() : null;
+            final var interval = settings == null ? null
+                    : settings.refreshInterval() != null ? settings.refreshInterval()
+                    : settings.index() != null ? settings.index().refreshInterval()
+                    : null;
+
+            this.client.indices().putSettings(req -> req.index(index).settings(it -> it.refreshInterval(time -> time.time("-1"))));
+            LOG.info("Index refresh suspended [index:{}] [previous:{}]", index, interval);
+            return interval != null ? interval.time() : DEFAULT_REFRESH_INTERVAL;
+        } catch (final IOException ex) {
+            throw InternalErrorException.with("Error observed suspending refresh [index: %s]".formatted(index), ex);
+        }
+    }
+
+    public void resumeRefresh(final Class<?> documentClass, final String interval) {
+        final var index = indexName(documentClass);
+        try {
+            this.client.indices().putSettings(req -> req.index(index).settings(it -> it.refreshInterval(time -> time.time(interval))));
+            this.client.indices().refresh(req -> req.index(index));
+            LOG.info("Index refresh resumed [index:{}] [interval:{}]", index, interval);
+        } catch (final IOException ex) {
+            throw InternalErrorException.with("Error observed resuming refresh [index: %s]".formatted(index), ex);
+        }
+    }
+
+    private void send(final List<BulkOperation> bulkOperations) {
+        final BulkResponse response;
+        try {
+            response = this.client.bulk(req -> req.operations(bulkOperations));
+        } catch (final IOException ex) {
+            throw InternalErrorException.with("Error observed flushing bulk request [operations: %s]".formatted(bulkOperations.size()), ex);
+        } catch (final ElasticsearchException ex) {
+            if (ex.status() == TOO_MANY_REQUESTS) {
+                this.eventPublisher.publishEvent(new ElasticsearchPressureEvent(null, ex.getMessage()));
+            }
+            throw ex;
+        }
+
+        if (response.errors()) {
+            final var stale = response.items().stream()
+                    .filter(it -> it.error() != null && it.status() == CONFLICT)
+                    .toList();
+            stale.forEach(it -> LOG.info("Stale write rejected by external version [index:{}] [id:{}]", it.index(), it.id()));
+
+            final var failures = response.items().stream()
+                    .filter(it -> it.error() != null && it.status() != CONFLICT)
+                    .toList();
+            if (failures.isEmpty()) {
+                LOG.debug("Bulk request flushed [operations: {}] [stale: {}] [took: {}ms]", bulkOperations.size(), stale.size(), response.took());
+                return;
+            }
+
+            failures.stream()
+                    .filter(it -> it.status() == TOO_MANY_REQUESTS)
+                    .findFirst()
+                    .ifPresent(it -> this.eventPublisher.publishEvent(new ElasticsearchPressureEvent(it.index(), it.error().reason())));
+            throw InternalErrorException.with("Bulk request rejected [operations: %s] [failures: %s] [first: %s]"
+                    .formatted(bulkOperations.size(), failures.size(), describe(failures.get(0))));
+        }
+
+        LOG.debug("Bulk request flushed [operations: {}] [took: {}ms]", bulkOperations.size(), response.took());
+    }
+
+    private void runDetached(final List<Runnable> callbacks) {
+        if (callbacks.isEmpty()) {
+            return;
+        }
+
+        final var pending = PENDING.get();
+        final var afterFlush = AFTER_FLUSH.get();
+        PENDING.remove();
+        AFTER_FLUSH.remove();
+        try {
+            callbacks.forEach(Runnable::run);
+        } finally {
+            PENDING.set(pending);
+            AFTER_FLUSH.set(afterFlush);
+        }
+    }
+
+    private void deleteVersioned(final String index, final String id, final Long version) {
+        try {
+            this.client.delete(req -> req.index(index).id(id).version(version).versionType(VersionType.ExternalGte));
+        } catch (final IOException ex) {
+            throw InternalErrorException.with("Error observed deleting document [index: %s] [id: %s]".formatted(index, id), ex);
+        }
+    }
+
+    private void withPressureSignal(final String index, final Runnable write) {
+        try {
+            write.run();
+        } catch (final RuntimeException ex) {
+            if (hasStatus(ex, TOO_MANY_REQUESTS)) {
+                this.eventPublisher.publishEvent(new ElasticsearchPressureEvent(index, ex.getMessage()));
+            }
+            throw ex;
+        }
+    }
+
+    private static boolean hasStatus(final Throwable ex, final int status) {
+        Throwable current = ex;
+        while (current != null) {
+            if (current instanceof ElasticsearchException es && es.status() == status) {
+                return true;
+            }
+            if (current instanceof ResponseException re && re.getResponse().getStatusLine().getStatusCode() == status) {
+                return true;
+            }
+            if (current instanceof UncategorizedElasticsearchException ue && Objects.equals(ue.getStatusCode(), status)) {
+                return true;
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return false;
+    }
+
+    private String indexName(final Class<?> documentClass) {
+        return this.operations.getIndexCoordinatesFor(documentClass).getIndexName();
+    }
+
+    private static String describe(final BulkResponseItem item) {
+        return "%s/%s %s".formatted(item.index(), item.id(), item.error().reason());
+    }
+}
@@ -0,0 +1,4 @@
+package com.helion.catalog.infrastructure.elasticsearch;
+
+public record ElasticsearchPressureEvent(String index, String reason) {
+}
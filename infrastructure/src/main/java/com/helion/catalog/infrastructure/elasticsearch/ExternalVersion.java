@@ -0,0 +1,18 @@
+package com.helion.catalog.infrastructure.elasticsearch;
+
+import java.time.Instant;
+
+public final class ExternalVersion {
+
+    private ExternalVersion() {}
+
+    public static Long of(final Instant updatedAt) {
+        return updatedAt != null ? updatedAt.toEpochMilli() : null;
+    }
+
+    public static boolean isNewer(final Instant candidate, final Instant current) {
+        final var candidateVersion = of(candidate);
+        final var currentVersion = of(current);
+        return candidateVersion == null || currentVersion == null || candidateVersion > currentVersion;
+    }
+}
@@ -0,0 +1,12 @@
+package com.helion.catalog.infrastructure.exceptions;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    protected ConcurrencyLimitExceededException(final String aMessage) {
+        super(aMessage, null, false, false);
+    }
+
+    public static ConcurrencyLimitExceededException with(final String name, final int limit) {
+        return new ConcurrencyLimitExceededException("Concurrency limit of '%s' is full [limit: %s]".formatted(name, limit));
+    }
+}
@@ -0,0 +1,12 @@
+package com.helion.catalog.infrastructure.exceptions;
+
+public class RetryBudgetExhaustedException extends RuntimeException {
+
+    protected RetryBudgetExhaustedException(final String aMessage) {
+        super(aMessage, null, false, false);
+    }
+
+    public static RetryBudgetExhaustedException with(final String name) {
+        return new RetryBudgetExhaustedException("Retry budget is exhausted [source: %s]".formatted(name));
+    }
+}
@@ -4,6 +4,9 @@ import com.helion.catalog.domain.genre.Genre;
 import com.helion.catalog.domain.genre.GenreGateway;
 import com.helion.catalog.domain.genre.GenreSearchQuery;
 import com.helion.catalog.domain.pagination.Pagination;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
+import com.helion.catalog.infrastructure.video.VideoDenormalizer;
 import com.helion.catalog.infrastructure.genre.persistence.GenreDocument;
 import com.helion.catalog.infrastructure.genre.persistence.GenreRepository;
 import org.springframework.context.annotation.Profile;
@@ -16,6 +19,7 @@ import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -33,23 +37,32 @@ public class GenreElasticsearchGateway implements GenreGateway {
     public static final String KEYWORD = ".keyword";
     private final GenreRepository genreRepository;
     private final SearchOperations searchOperations;
+    private final ElasticsearchBulkWriter bulkWriter;
+    private final VideoDenormalizer videoDenormalizer;
 
     public GenreElasticsearchGateway(
             final GenreRepository genreRepository,
-            final SearchOperations searchOperations) {
+            final SearchOperations searchOperations,
+            final ElasticsearchBulkWriter bulkWriter,
+            final VideoDenormalizer videoDenormalizer) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
         this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.bulkWriter = Objects.requireNonNull(bulkWriter);
+        this.videoDenormalizer = Objects.requireNonNull(videoDenormalizer);
     }
 
     @Override
     public Genre save(Genre aGenre) {
-        this.genreRepository.save(GenreDocument.from(aGenre));
+        final var document = GenreDocument.from(aGenre);
+        this.bulkWriter.save(aGenre.id(), document, document.version(), this.genreRepository::save);
+        this.videoDenormalizer.genreChanged(document);
         return aGenre;
     }
 
     @Override
-    public void deleteById(String anId) {
-        this.genreRepository.deleteById(anId);
+    public void deleteById(String anId, Instant updatedAt) {
+        this.bulkWriter.delete(anId, ExternalVersion.of(updatedAt), GenreDocument.class, this.genreRepository::deleteById);
+        this.videoDenormalizer.genreDeleted(anId);
     }
 
     @Override
@@ -2,14 +2,21 @@ package com.helion.catalog.infrastructure.genre;
 
 import com.helion.catalog.infrastructure.authentication.GetClientCredentials;
 import com.helion.catalog.infrastructure.configuration.annotations.Genres;
+import com.helion.catalog.infrastructure.configuration.properties.RestClientProperties;
 import com.helion.catalog.infrastructure.genre.models.GenreDTO;
 import com.helion.catalog.infrastructure.kafka.CategoryListener;
+import com.helion.catalog.infrastructure.utils.AsyncRestClient;
+import com.helion.catalog.infrastructure.utils.ConcurrencyLimiters;
+import com.helion.catalog.infrastructure.utils.ConditionalRequests;
 import com.helion.catalog.infrastructure.utils.HttpClient;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import com.helion.catalog.infrastructure.utils.RequestCoalescer;
+import com.helion.catalog.infrastructure.utils.RequestHedger;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
@@ -18,24 +25,46 @@ import org.springframework.web.client.RestClient;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Component
-@CacheConfig(cacheNames = "admin-genres")
-public class GenreRestClient implements HttpClient, GenreClient {
+@CacheConfig(cacheNames = GenreRestClient.CACHE)
+public class GenreRestClient implements HttpClient, GenreClient, DisposableBean {
+
+    public final static String CACHE = "admin-genres";
 
     public final static String NAMESPACE = "genres";
 
     private final RestClient restClient;
 
 
+    private final AsyncRestClient asyncRestClient;
+
+    private final ConcurrencyLimiters concurrencyLimiters;
+
+    private final ConditionalRequests<GenreDTO> conditional;
+
     private final GetClientCredentials getClientCredentials;
 
+    private final RequestCoalescer<String, Optional<GenreDTO>> coalescer;
+
+    private final RequestHedger hedger;
+
     private static final Logger LOG = LoggerFactory.getLogger(CategoryListener.class);
 
     public GenreRestClient(@Genres final RestClient restClient,
-                           final GetClientCredentials getClientCredentials) {
+                           @Genres final AsyncRestClient asyncRestClient,
+                           @Genres final RestClientProperties properties,
+                           final GetClientCredentials getClientCredentials,
+                           final ConcurrencyLimiters concurrencyLimiters,
+                           final MeterRegistry meterRegistry) {
         this.restClient = Objects.requireNonNull(restClient);
+        this.asyncRestClient = Objects.requireNonNull(asyncRestClient);
+        this.concurrencyLimiters = Objects.requireNonNull(concurrencyLimiters);
         this.getClientCredentials = Objects.requireNonNull(getClientCredentials);
+        this.conditional = new ConditionalRequests<>(NAMESPACE, properties.validatorEntries(), meterRegistry);
+        this.coalescer = new RequestCoalescer<>(NAMESPACE, properties.coalesceWindow(), properties.coalesceMaxBatch(), this::fetch, meterRegistry);
+        this.hedger = new RequestHedger(NAMESPACE, properties.hedge(), meterRegistry);
     }
 
     @Override
@@ -44,23 +73,42 @@ public class GenreRestClient implements HttpClient, GenreClient {
     }
 
     @Override
-    @Cacheable(key="#genreId")
-    @Bulkhead(name= NAMESPACE)
+    @Cacheable(key="#genreId", sync = true)
     @CircuitBreaker(name = NAMESPACE)
     @Retry(name = NAMESPACE)
     public Optional<GenreDTO> genreOfId(String genreId) {
+        return this.concurrencyLimiters.execute(NAMESPACE, () -> this.coalescer.get(genreId));
+    }
+
+    @Override
+    public void destroy() {
+        this.coalescer.close();
+        this.hedger.close();
+    }
+
+    private Optional<GenreDTO> fetch(final String genreId) {
         final var token = this.getClientCredentials.retrieve();
+        if (this.hedger.enabled()) {
+            return this.hedger.execute(() -> fetchAsync(genreId, token));
+        }
+
         var aGenre = doGet(genreId, () ->
-                this.restClient.get()
+                this.conditional.resolve(genreId, this.restClient.get()
                         .uri("/{id}", genreId)
                         .header(HttpHeaders.AUTHORIZATION, "bearer "+token)
+                        .headers(headers -> this.conditional.prepare(genreId, headers::set))
                         .retrieve()
                         .onStatus(isNotFound, notFoundHandler(genreId))
                         .onStatus(is5xx, a5xxHandler(genreId))
-                        .body(GenreDTO.class)
+                        .toEntity(GenreDTO.class))
         );
 
         return aGenre;
     }
 
+    private CompletableFuture<Optional<GenreDTO>> fetchAsync(final String genreId, final String token) {
+        return doGetAsync(genreId, () ->
+                this.asyncRestClient.get(genreId, token, GenreDTO.class, this.conditional)
+        );
+    }
 }
@@ -4,6 +4,7 @@ import com.helion.catalog.application.genre.get.GetAllGenresByIdUseCase;
 import com.helion.catalog.application.genre.list.ListGenreUseCase;
 import com.helion.catalog.domain.genre.Genre;
 import com.helion.catalog.infrastructure.genre.models.GqlGenre;
+import com.helion.catalog.infrastructure.video.persistence.GenreReference;
 
 import java.time.Instant;
 
@@ -44,6 +45,17 @@ public final class GqlGenrePresenter {
                 formatDate(out.deletedAt()));
     }
 
+    public static GqlGenre present(final GenreReference reference){
+        return new GqlGenre(
+                reference.id(),
+                reference.name(),
+                reference.categories(),
+                reference.active(),
+                reference.createdAt(),
+                reference.updatedAt(),
+                "");
+    }
+
     private static String formatDate(final Instant date) {
         return date != null ? date.toString() : "";
     }
@@ -1,7 +1,14 @@
 package com.helion.catalog.infrastructure.genre.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.helion.catalog.infrastructure.kafka.models.connect.IdentifiableEvent;
 
 public record GenreEvent(
-        @JsonProperty("id") String id
-) {}
+        @JsonProperty("id") String id,
+        @JsonProperty("updated_at") Long updatedAt
+) implements IdentifiableEvent {
+
+    public GenreEvent(final String id) {
+        this(id, null);
+    }
+}
@@ -1,13 +1,15 @@
 package com.helion.catalog.infrastructure.genre.persistence;
 
 import com.helion.catalog.domain.genre.Genre;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.*;
 
 import java.time.Instant;
 import java.util.Set;
 
-@Document(indexName = "genres")
+@Document(indexName = "genres", versionType = Document.VersionType.EXTERNAL, storeVersionInSource = false)
 public class GenreDocument {
 
     @Id
@@ -34,6 +36,8 @@ public class GenreDocument {
     @Field(type = FieldType.Date, name="deleted_at")
     private Instant deletedAt;
 
+    @Version
+    private Long version;
 
     public GenreDocument(
             final String id,
@@ -53,7 +57,7 @@ public class GenreDocument {
     }
 
     public static GenreDocument from(final Genre aGenre){
-        return new GenreDocument(
+        final var document = new GenreDocument(
                 aGenre.id(),
                 aGenre.name(),
                 aGenre.categories(),
@@ -63,6 +67,8 @@ public class GenreDocument {
                 aGenre.deletedAt()
 
         );
+        document.setVersion(ExternalVersion.of(aGenre.updatedAt()));
+        return document;
     }
 
     public Genre toGenre(){
@@ -126,4 +132,12 @@ public class GenreDocument {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Long version() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
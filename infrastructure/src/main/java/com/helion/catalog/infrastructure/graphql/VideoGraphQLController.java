@@ -12,6 +12,7 @@ import com.helion.catalog.infrastructure.category.models.GqlCategory;
 import com.helion.catalog.infrastructure.configuration.security.Roles;
 import com.helion.catalog.infrastructure.genre.GqlGenrePresenter;
 import com.helion.catalog.infrastructure.genre.models.GqlGenre;
+import com.helion.catalog.infrastructure.video.DenormalizedVideoQuery;
 import com.helion.catalog.infrastructure.video.GqlVideoPresenter;
 import com.helion.catalog.infrastructure.video.models.GqlVideo;
 import com.helion.catalog.infrastructure.video.models.GqlVideoInput;
@@ -24,6 +25,7 @@ import org.springframework.stereotype.Controller;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 @Controller
@@ -36,17 +38,21 @@ public class VideoGraphQLController {
 
     private final SaveVideoUseCase saveVideoUseCase;
 
+    private final Optional<DenormalizedVideoQuery> denormalizedVideoQuery;
+
 
     public VideoGraphQLController(final ListVideoUseCase listVideoUseCase,
                                   final GetAllCategoriesByIdUseCase getAllCategoriesByIdUseCase,
                                   final GetAllCastMembersByIdUseCase getAllCastMembersByIdUseCase,
                                   final GetAllGenresByIdUseCase getAllGenresByIdUseCase,
-                                  final SaveVideoUseCase saveVideoUseCase) {
+                                  final SaveVideoUseCase saveVideoUseCase,
+                                  final Optional<DenormalizedVideoQuery> denormalizedVideoQuery) {
         this.listVideoUseCase = Objects.requireNonNull(listVideoUseCase);
         this.getAllCategoriesByIdUseCase = Objects.requireNonNull(getAllCategoriesByIdUseCase);
         this.getAllCastMembersByIdUseCase = Objects.requireNonNull(getAllCastMembersByIdUseCase);
         this.getAllGenresByIdUseCase = Objects.requireNonNull(getAllGenresByIdUseCase);
         this.saveVideoUseCase = Objects.requireNonNull(saveVideoUseCase);
+        this.denormalizedVideoQuery = Objects.requireNonNull(denormalizedVideoQuery);
     }
 
     @QueryMapping
@@ -65,12 +71,18 @@ public class VideoGraphQLController {
 
     ){
         final var input = new ListVideoUseCase.Input(page, perPage, search, sort, direction, rating, yearLaunched, categories, castMembers, genres);
+        if (this.denormalizedVideoQuery.isPresent()) {
+            return this.denormalizedVideoQuery.get().execute(input);
+        }
         return this.listVideoUseCase.execute(input).map(GqlVideoPresenter::present).data();
     }
 
     @SchemaMapping(typeName = "Video", field = "castMembers")
     @Secured({Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_VIDEOS})
     public List<GqlCastMember> castMembers(final GqlVideo video){
+        if (video.castMembers() != null) {
+            return video.castMembers();
+        }
         return this.getAllCastMembersByIdUseCase.execute(new GetAllCastMembersByIdUseCase.Input(video.castMembersId()))
                 .stream()
                 .map(GqlCastMemberPresenter::present).toList();
@@ -79,6 +91,9 @@ public class VideoGraphQLController {
     @SchemaMapping(typeName = "Video", field = "categories")
     @Secured({Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_VIDEOS})
     public List<GqlCategory> categories(final GqlVideo video){
+        if (video.categories() != null) {
+            return video.categories();
+        }
         return this.getAllCategoriesByIdUseCase.execute(new GetAllCategoriesByIdUseCase.Input(video.categoriesId()))
                 .stream()
                 .map(GqlCategoryPresenter::present).toList();
@@ -86,6 +101,9 @@ public class VideoGraphQLController {
     @SchemaMapping(typeName = "Video", field = "genres")
     @Secured({Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_VIDEOS})
     public List<GqlGenre> genres(final GqlVideo video){
+        if (video.genres() != null) {
+            return video.genres();
+        }
         return this.getAllGenresByIdUseCase.execute(new GetAllGenresByIdUseCase.Input(video.genresId()))
                 .stream()
                 .map(GqlGenrePresenter::present).toList();
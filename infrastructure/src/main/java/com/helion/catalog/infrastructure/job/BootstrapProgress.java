@@ -0,0 +1,74 @@
+package com.helion.catalog.infrastructure.job;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class BootstrapProgress {
+
+    private final String consumer;
+    private final AtomicLong indexed;
+    private final AtomicLong failed;
+    private volatile long total;
+    private volatile long startedAt;
+    private volatile boolean finished;
+
+    BootstrapProgress(final String consumer) {
+        this.consumer = consumer;
+        this.indexed = new AtomicLong();
+        this.failed = new AtomicLong();
+    }
+
+    void start(final long total, final long now) {
+        this.total = total;
+        this.startedAt = now;
+    }
+
+    void indexed(final long count) {
+        this.indexed.addAndGet(count);
+    }
+
+    void failed(final long count) {
+        this.failed.addAndGet(count);
+    }
+
+    void finish() {
+        this.finished = true;
+    }
+
+    String consumer() {
+        return consumer;
+    }
+
+    long total() {
+        return total;
+    }
+
+    long indexed() {
+        return indexed.get();
+    }
+
+    long failed() {
+        return failed.get();
+    }
+
+    boolean finished() {
+        return finished;
+    }
+
+    double rate(final long now) {
+        final var elapsed = now - this.startedAt;
+        if (this.startedAt == 0 || elapsed <= 0) {
+            return 0;
+        }
+        return indexed() * 1_000D / elapsed;
+    }
+
+    long eta(final long now) {
+        final var remaining = Math.max(0, this.total - indexed() - failed());
+        if (remaining == 0) {
+            return 0;
+        }
+
+        final var rate = rate(now);
+        return rate > 0 ? (long) Math.ceil(remaining / rate) : -1;
+    }
+}
@@ -0,0 +1,388 @@
+package com.helion.catalog.infrastructure.job;
+
+import com.helion.catalog.infrastructure.castmember.persistence.CastMemberDocument;
+import com.helion.catalog.infrastructure.category.persistence.CategoryDocument;
+import com.helion.catalog.infrastructure.configuration.properties.BootstrapProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.genre.persistence.GenreDocument;
+import com.helion.catalog.infrastructure.kafka.CastMemberListener;
+import com.helion.catalog.infrastructure.kafka.CategoryListener;
+import com.helion.catalog.infrastructure.kafka.CdcMessageHandler;
+import com.helion.catalog.infrastructure.kafka.GenreListener;
+import com.helion.catalog.infrastructure.kafka.ListenerBackpressureController;
+import com.helion.catalog.infrastructure.kafka.ListenerSeekRegistry;
+import com.helion.catalog.infrastructure.kafka.MultiplexedCdcListener;
+import com.helion.catalog.infrastructure.kafka.VideoListener;
+import com.helion.catalog.infrastructure.kafka.models.connect.IdentifiableEvent;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import com.helion.catalog.infrastructure.video.persistence.VideoDocument;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class CatalogBootstrapJob implements SmartLifecycle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogBootstrapJob.class);
+    private static final String BOOTSTRAP = "bootstrap";
+    private static final long ADMIN_TIMEOUT_MS = 10_000;
+    private static final Map<String, Class<?>> DOCUMENTS = Map.of(
+            CategoryListener.CONSUMER, CategoryDocument.class,
+            CastMemberListener.CONSUMER, CastMemberDocument.class,
+            GenreListener.CONSUMER, GenreDocument.class,
+            VideoListener.CONSUMER, VideoDocument.class
+    );
+
+    private final List<CdcMessageHandler<?>> handlers;
+    private final ListenerBackpressureController backpressureController;
+    private final ListenerSeekRegistry seekRegistry;
+    private final ElasticsearchBulkWriter bulkWriter;
+    private final KafkaProperties kafkaProperties;
+    private final BootstrapProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Supplier<Consumer<String, byte[]>> consumerFactory;
+    private final Supplier<Admin> adminFactory;
+    private final Map<String, BootstrapProgress> progress;
+    private ExecutorService coordinator;
+    private ExecutorService workers;
+    private ScheduledExecutorService reporter;
+    private volatile boolean running;
+
+    public CatalogBootstrapJob(
+            final List<CdcMessageHandler<?>> handlers,
+            final ListenerBackpressureController backpressureController,
+            final ListenerSeekRegistry seekRegistry,
+            final ElasticsearchBulkWriter bulkWriter,
+            final KafkaAdmin kafkaAdmin,
+            final KafkaProperties kafkaProperties,
+            final BootstrapProperties properties,
+            final MeterRegistry meterRegistry) {
+        this(handlers, backpressureController, seekRegistry, bulkWriter, kafkaProperties, properties, meterRegistry,
+                () -> new KafkaConsumer<>(consumerConfigs(kafkaProperties), new StringDeserializer(), new ByteArrayDeserializer()),
+                () -> Admin.create(kafkaAdmin.getConfigurationProperties()));
+    }
+
+    CatalogBootstrapJob(
+            final List<CdcMessageHandler<?>> handlers,
+            final ListenerBackpressureController backpressureController,
+            final ListenerSeekRegistry seekRegistry,
+            final ElasticsearchBulkWriter bulkWriter,
+            final KafkaProperties kafkaProperties,
+            final BootstrapProperties properties,
+            final MeterRegistry meterRegistry,
+            final Supplier<Consumer<String, byte[]>> consumerFactory,
+            final Supplier<Admin> adminFactory) {
+        this.handlers = Objects.requireNonNull(handlers);
+        this.backpressureController = Objects.requireNonNull(backpressureController);
+        this.seekRegistry = Objects.requireNonNull(seekRegistry);
+        this.bulkWriter = Objects.requireNonNull(bulkWriter);
+        this.kafkaProperties = Objects.requireNonNull(kafkaProperties);
+        this.properties = Objects.requireNonNull(properties);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.consumerFactory = Objects.requireNonNull(consumerFactory);
+        this.adminFactory = Objects.requireNonNull(adminFactory);
+        this.progress = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void start() {
+        this.running = true;
+        if (!this.properties.enabled()) {
+            return;
+        }
+
+        final var selected = this.handlers.stream()
+                .filter(handler -> this.properties.consumers().contains(handler.consumer()))
+                .filter(handler -> DOCUMENTS.containsKey(handler.consumer()))
+                .sorted((a, b) -> Integer.compare(
+                        this.properties.consumers().indexOf(a.consumer()),
+                        this.properties.consumers().indexOf(b.consumer())))
+                .toList();
+        if (selected.isEmpty()) {
+            return;
+        }
+
+        selected.forEach(handler -> {
+            pauseListeners(handler.consumer());
+            registerProgress(handler.consumer());
+        });
+
+        this.workers = Executors.newFixedThreadPool(Math.max(1, this.properties.workers()), new CustomizableThreadFactory("catalog-bootstrap-worker-"));
+        this.coordinator = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("catalog-bootstrap-"));
+        this.reporter = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("catalog-bootstrap-progress-"));
+        this.reporter.scheduleAtFixedRate(this::report, this.properties.progressInterval(), this.properties.progressInterval(), TimeUnit.MILLISECONDS);
+
+        this.coordinator.submit(() -> {
+            selected.forEach(handler -> bootstrap(handler));
+            report();
+            this.reporter.shutdown();
+            this.workers.shutdown();
+        });
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+        if (this.coordinator != null) {
+            this.coordinator.shutdownNow();
+            this.workers.shutdownNow();
+            this.reporter.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE - 1;
+    }
+
+    private <T extends IdentifiableEvent> void bootstrap(final CdcMessageHandler<T> handler) {
+        final var consumer = handler.consumer();
+        final var settings = this.kafkaProperties.consumer(consumer);
+        final var documentClass = DOCUMENTS.get(consumer);
+        final var current = this.progress.get(consumer);
+
+        String refreshInterval = null;
+        try (final var reader = this.consumerFactory.get()) {
+            final var end = endOffsets(reader, settings);
+            final var messages = read(reader, handler, end, current);
+            LOG.info("Catalog bootstrap read compacted topics [consumer:{}] [entities:{}]", consumer, messages.size());
+
+            refreshInterval = this.bulkWriter.suspendRefresh(documentClass);
+            current.start(messages.size(), System.currentTimeMillis());
+            if (load(handler, messages, current) && current.failed() == 0) {
+                handOver(settings, end);
+            } else {
+                LOG.error("Catalog bootstrap incomplete, live listener keeps its offsets [consumer:{}] [failed:{}]", consumer, current.failed());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception ex) {
+            LOG.error("Catalog bootstrap failed, live listener keeps its offsets [consumer:{}]", consumer, ex);
+        } finally {
+            if (refreshInterval != null) {
+                this.bulkWriter.resumeRefresh(documentClass, refreshInterval);
+            }
+            current.finish();
+            resumeListeners(consumer);
+            LOG.info("Catalog bootstrap finished, live listener resumed [consumer:{}] [indexed:{}] [failed:{}]",
+                    consumer, current.indexed(), current.failed());
+        }
+    }
+
+    private <T extends IdentifiableEvent> List<ValuePayload<T>> read(
+            final Consumer<String, byte[]> reader,
+            final CdcMessageHandler<T> handler,
+            final Map<TopicPartition, Long> end,
+            final BootstrapProgress progress) throws InterruptedException {
+        final var latest = new LinkedHashMap<String, ValuePayload<T>>();
+        final var remaining = end.entrySet().stream()
+                .filter(it -> it.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        reader.assign(remaining);
+        reader.seekToBeginning(remaining);
+
+        while (!remaining.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            for (final var record : reader.poll(Duration.ofMillis(this.properties.pollTimeout()))) {
+                final var partition = new TopicPartition(record.topic(), record.partition());
+                if (record.value() == null || record.offset() >= end.get(partition)) {
+                    continue;
+                }
+
+                try {
+                    final var message = handler.decoder().decode(record.value());
+                    latest.put(handler.keyOf(message), message);
+                } catch (final RuntimeException ex) {
+                    progress.failed(1);
+                    LOG.warn("Skipping undecodable record [topic:{}] [partition:{}] [offset:{}]", record.topic(), record.partition(), record.offset(), ex);
+                }
+            }
+
+            final var done = remaining.stream()
+                    .filter(it -> reader.position(it) >= end.get(it))
+                    .toList();
+            if (!done.isEmpty()) {
+                reader.pause(done);
+                done.forEach(remaining::remove);
+            }
+        }
+
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Catalog bootstrap interrupted while reading [consumer:%s]".formatted(handler.consumer()));
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private <T extends IdentifiableEvent> boolean load(
+            final CdcMessageHandler<T> handler,
+            final List<ValuePayload<T>> messages,
+            final BootstrapProgress progress) throws InterruptedException {
+        final var chunkSize = Math.max(1, this.properties.chunkSize());
+        final var futures = new ArrayList<Future<?>>();
+
+        for (int from = 0; from < messages.size(); from += chunkSize) {
+            final var chunk = messages.subList(from, Math.min(messages.size(), from + chunkSize));
+            futures.add(this.workers.submit(() -> loadChunk(handler, chunk, progress)));
+        }
+
+        var loaded = true;
+        for (final var future : futures) {
+            try {
+                future.get();
+            } catch (final ExecutionException ex) {
+                loaded = false;
+                LOG.warn("Catalog bootstrap chunk failed [consumer:{}]", handler.consumer(), ex.getCause());
+            }
+        }
+        return loaded;
+    }
+
+    private <T extends IdentifiableEvent> void loadChunk(
+            final CdcMessageHandler<T> handler,
+            final List<ValuePayload<T>> chunk,
+            final BootstrapProgress progress) {
+        final var handled = new long[1];
+        try {
+            this.bulkWriter.bulk(() -> chunk.forEach(message -> {
+                try {
+                    handler.handle(message);
+                    handled[0]++;
+                } catch (final RuntimeException ex) {
+                    progress.failed(1);
+                    LOG.warn("Catalog bootstrap skipped entity [consumer:{}] [id:{}]", handler.consumer(), handler.keyOf(message), ex);
+                }
+            }));
+            progress.indexed(handled[0]);
+        } catch (final RuntimeException ex) {
+            progress.failed(handled[0]);
+            throw ex;
+        }
+    }
+
+    private static Map<TopicPartition, Long> endOffsets(final Consumer<String, byte[]> reader, final KafkaConsumerProperties settings) {
+        final var partitions = Arrays.stream(Objects.requireNonNull(settings.topics()).split(","))
+                .map(String::trim)
+                .flatMap(topic -> reader.partitionsFor(topic, Duration.ofMillis(ADMIN_TIMEOUT_MS)).stream())
+                .map(it -> new TopicPartition(it.topic(), it.partition()))
+                .toList();
+
+        return reader.endOffsets(partitions, Duration.ofMillis(ADMIN_TIMEOUT_MS));
+    }
+
+    private void handOver(final KafkaConsumerProperties settings, final Map<TopicPartition, Long> end) {
+        final var unassigned = new HashMap<TopicPartition, OffsetAndMetadata>();
+        end.forEach((partition, offset) -> {
+            if (!this.seekRegistry.seek(partition, offset)) {
+                unassigned.put(partition, new OffsetAndMetadata(offset, BOOTSTRAP));
+            }
+        });
+
+        if (unassigned.isEmpty()) {
+            LOG.info("Live listener handed over at bootstrap offsets [group:{}] [offsets:{}]", settings.groupId(), end);
+            return;
+        }
+
+        try (final var admin = this.adminFactory.get()) {
+            admin.alterConsumerGroupOffsets(settings.groupId(), unassigned)
+                    .all()
+                    .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            LOG.info("Live listener handed over at bootstrap offsets [group:{}] [offsets:{}]", settings.groupId(), end);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception ex) {
+            LOG.warn("Unable to hand over bootstrap offsets of unassigned partitions, live listener keeps its own [group:{}] [partitions:{}]: {}",
+                    settings.groupId(), unassigned.keySet(), ex.getMessage());
+        }
+    }
+
+    private void pauseListeners(final String consumer) {
+        this.backpressureController.pause(consumer, BOOTSTRAP);
+        if (this.kafkaProperties.consumers().containsKey(MultiplexedCdcListener.CONSUMER)) {
+            this.backpressureController.pause(MultiplexedCdcListener.CONSUMER, BOOTSTRAP + ":" + consumer);
+        }
+    }
+
+    private void resumeListeners(final String consumer) {
+        this.backpressureController.resume(consumer, BOOTSTRAP);
+        if (this.kafkaProperties.consumers().containsKey(MultiplexedCdcListener.CONSUMER)) {
+            this.backpressureController.resume(MultiplexedCdcListener.CONSUMER, BOOTSTRAP + ":" + consumer);
+        }
+    }
+
+    private static Map<String, Object> consumerConfigs(final KafkaProperties kafkaProperties) {
+        final var props = new HashMap<String, Object>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.bootstrapServers());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 2_000);
+        props.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, kafkaProperties.autoCreateTopics());
+        return props;
+    }
+
+    private void registerProgress(final String consumer) {
+        final var current = new BootstrapProgress(consumer);
+        this.progress.put(consumer, current);
+
+        Gauge.builder("catalog.bootstrap.total", current, BootstrapProgress::total)
+                .tag("consumer", consumer)
+                .register(this.meterRegistry);
+        Gauge.builder("catalog.bootstrap.indexed", current, BootstrapProgress::indexed)
+                .tag("consumer", consumer)
+                .register(this.meterRegistry);
+        Gauge.builder("catalog.bootstrap.failed", current, BootstrapProgress::failed)
+                .tag("consumer", consumer)
+                .register(this.meterRegistry);
+        Gauge.builder("catalog.bootstrap.rate", current, it -> it.rate(System.currentTimeMillis()))
+                .tag("consumer", consumer)
+                .description("Documents indexed per second")
+                .register(this.meterRegistry);
+        Gauge.builder("catalog.bootstrap.eta", current, it -> it.eta(System.currentTimeMillis()))
+                .tag("consumer", consumer)
+                .description("Estimated seconds to finish, -1 while unknown")
+                .register(this.meterRegistry);
+    }
+
+    private void report() {
+        final var now = System.currentTimeMillis();
+        this.progress.values().stream()
+                .filter(it -> it.total() > 0 && !it.finished())
+                .forEach(it -> LOG.info("Catalog bootstrap progress [consumer:{}] [indexed:{}/{}] [failed:{}] [rate:{} docs/s] [eta:{}s]",
+                        it.consumer(), it.indexed(), it.total(), it.failed(), Math.round(it.rate(now)), it.eta(now)));
+    }
+}
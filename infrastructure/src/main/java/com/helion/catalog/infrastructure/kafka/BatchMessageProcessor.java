@@ -0,0 +1,247 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.exceptions.RetryBudgetExhaustedException;
+import com.helion.catalog.infrastructure.kafka.models.connect.IdentifiableEvent;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import com.helion.catalog.infrastructure.utils.RetryBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+@Component
+public class BatchMessageProcessor implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchMessageProcessor.class);
+
+    private final ElasticsearchBulkWriter bulkWriter;
+    private final KafkaProperties properties;
+    private final BulkAckCoordinator ackCoordinator;
+    private final RetryBudget retryBudget;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ExecutorService> workers;
+
+    public BatchMessageProcessor(
+            final ElasticsearchBulkWriter bulkWriter,
+            final KafkaProperties properties,
+            final BulkAckCoordinator ackCoordinator,
+            final RetryBudget retryBudget,
+            final MeterRegistry meterRegistry) {
+        this.bulkWriter = Objects.requireNonNull(bulkWriter);
+        this.properties = Objects.requireNonNull(properties);
+        this.ackCoordinator = Objects.requireNonNull(ackCoordinator);
+        this.retryBudget = Objects.requireNonNull(retryBudget);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.workers = new ConcurrentHashMap<>();
+    }
+
+    public <T extends IdentifiableEvent> void process(
+            final List<ConsumerRecord<String, byte[]>> records,
+            final CdcMessageHandler<T> handler,
+            final Acknowledgment acknowledgment) {
+        try {
+            process(records, handler);
+        } catch (final RuntimeException ex) {
+            this.ackCoordinator.flush();
+            throw ex;
+        }
+        this.ackCoordinator.acknowledge(handler.consumer(), acknowledgment, records.size());
+    }
+
+    public <T extends IdentifiableEvent> void process(
+            final List<ConsumerRecord<String, byte[]>> records,
+            final CdcMessageHandler<T> handler) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        LOG.info("Batch received from Kafka [topic:{}] [records:{}]", records.get(0).topic(), records.size());
+
+        final var batch = this.properties.consumer(handler.consumer()).batch();
+        final var failures = new ArrayList<Failure>();
+        final var decoded = decode(records, handler, failures);
+        final var entries = batch.coalesce() ? coalesce(decoded) : decoded;
+
+        if (entries.size() < decoded.size()) {
+            LOG.info("Batch coalesced [topic:{}] [events:{}] [distinct:{}]", records.get(0).topic(), decoded.size(), entries.size());
+        }
+
+        if (batch.priorityLane()) {
+            final var urgentKeys = entries.stream()
+                    .filter(entry -> handler.isUrgent(entry.message()))
+                    .map(Entry::key)
+                    .collect(Collectors.toSet());
+            final var urgent = entries.stream().filter(entry -> urgentKeys.contains(entry.key())).toList();
+            final var routine = entries.stream().filter(entry -> !urgentKeys.contains(entry.key())).toList();
+
+            if (!urgent.isEmpty()) {
+                LOG.info("Batch prioritized [topic:{}] [urgent:{}] [routine:{}]", records.get(0).topic(), urgent.size(), routine.size());
+                this.meterRegistry.counter("cdc.priority.events", "consumer", handler.consumer()).increment(urgent.size());
+            }
+
+            failures.addAll(runEntries(urgent, handler, batch.workers()));
+            failures.addAll(runEntries(routine, handler, batch.workers()));
+        } else {
+            failures.addAll(runEntries(entries, handler, batch.workers()));
+        }
+
+        failures.stream()
+                .min(Comparator.comparingInt(Failure::index))
+                .ifPresent(first -> {
+                    throw failedAt(records, first.index(), retryable(handler.consumer(), records.get(first.index()), first.cause()));
+                });
+    }
+
+    @Override
+    public void destroy() {
+        this.workers.values().forEach(ExecutorService::shutdown);
+    }
+
+    private <T extends IdentifiableEvent> List<Entry<T>> decode(
+            final List<ConsumerRecord<String, byte[]>> records,
+            final CdcMessageHandler<T> handler,
+            final List<Failure> failures) {
+        final var entries = new ArrayList<Entry<T>>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            final var value = records.get(i).value();
+            if (value == null) {
+                continue;
+            }
+
+            try {
+                final var message = handler.decoder().decode(value);
+                entries.add(new Entry<>(i, handler.keyOf(message), message));
+            } catch (final RuntimeException ex) {
+                failures.add(new Failure(i, ex));
+                break;
+            }
+        }
+        return entries;
+    }
+
+    private static <T extends IdentifiableEvent> List<Entry<T>> coalesce(final List<Entry<T>> entries) {
+        final var latest = new HashMap<String, Entry<T>>();
+        entries.forEach(entry -> latest.put(entry.key(), entry));
+        return latest.values().stream()
+                .sorted(Comparator.comparingInt(Entry::index))
+                .toList();
+    }
+
+    private <T extends IdentifiableEvent> List<Failure> runEntries(
+            final List<Entry<T>> entries,
+            final CdcMessageHandler<T> handler,
+            final int workerCount) {
+        if (workerCount > 1) {
+            return processInParallel(entries, handler, workerCount);
+        }
+        return Optional.ofNullable(runLane(entries, handler)).stream().toList();
+    }
+
+    private <T extends IdentifiableEvent> List<Failure> processInParallel(
+            final List<Entry<T>> entries,
+            final CdcMessageHandler<T> handler,
+            final int workerCount) {
+        final var lanes = new ArrayList<List<Entry<T>>>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        entries.forEach(entry -> lanes.get(Math.floorMod(entry.key().hashCode(), workerCount)).add(entry));
+
+        final var executor = executor(handler.consumer(), workerCount);
+        final var futures = lanes.stream()
+                .filter(lane -> !lane.isEmpty())
+                .map(lane -> CompletableFuture.supplyAsync(() -> runLane(lane, handler), executor)
+                        .exceptionally(ex -> new Failure(lane.get(0).index(), unwrap(ex))))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private <T extends IdentifiableEvent> Failure runLane(final List<Entry<T>> lane, final CdcMessageHandler<T> handler) {
+        if (lane.isEmpty()) {
+            return null;
+        }
+
+        final var failure = new AtomicReference<Failure>();
+        final var handled = new AtomicInteger();
+        this.bulkWriter.bulk(() -> {
+            for (final var entry : lane) {
+                try {
+                    handler.handle(entry.message());
+                    handled.incrementAndGet();
+                } catch (final RuntimeException ex) {
+                    this.bulkWriter.flush();
+                    failure.set(new Failure(entry.index(), ex));
+                    return;
+                }
+            }
+        });
+        for (int i = 0; i < handled.get(); i++) {
+            this.retryBudget.deposit();
+        }
+        return failure.get();
+    }
+
+    private Throwable retryable(final String consumer, final ConsumerRecord<String, byte[]> record, final Throwable cause) {
+        if (this.retryBudget.tryAcquire(consumer)) {
+            return cause;
+        }
+
+        LOG.warn("Retry budget exhausted, skipping batch retry [topic:{}] [partition:{}] [offset:{}]",
+                record.topic(), record.partition(), record.offset());
+        final var exhausted = RetryBudgetExhaustedException.with(consumer);
+        exhausted.addSuppressed(cause);
+        return exhausted;
+    }
+
+    private ExecutorService executor(final String consumer, final int workerCount) {
+        return this.workers.computeIfAbsent(consumer, name ->
+                Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("cdc-%s-worker-".formatted(name))));
+    }
+
+    private static BatchListenerFailedException failedAt(
+            final List<ConsumerRecord<String, byte[]>> records,
+            final int index,
+            final Throwable cause) {
+        final var record = records.get(index);
+        return new BatchListenerFailedException(
+                "Error processing batch [topic:%s] [partition:%s] [offset:%s]".formatted(record.topic(), record.partition(), record.offset()),
+                cause,
+                record
+        );
+    }
+
+    private static Throwable unwrap(final Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    private record Entry<T extends IdentifiableEvent>(int index, String key, ValuePayload<T> message) {}
+
+    private record Failure(int index, Throwable cause) {}
+}
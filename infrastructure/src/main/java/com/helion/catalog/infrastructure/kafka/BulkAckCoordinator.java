@@ -0,0 +1,119 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class BulkAckCoordinator implements ConsumerAwareRebalanceListener {
+
+    private static final ThreadLocal<Pending> PENDING = ThreadLocal.withInitial(Pending::new);
+
+    private final KafkaProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicLong> pendingRecords;
+
+    public BulkAckCoordinator(final KafkaProperties properties, final MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    BulkAckCoordinator(final KafkaProperties properties, final MeterRegistry meterRegistry, final LongSupplier nanoClock) {
+        this.properties = Objects.requireNonNull(properties);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.pendingRecords = new ConcurrentHashMap<>();
+    }
+
+    public void acknowledge(final String consumer, final Acknowledgment acknowledgment, final int records) {
+        if (acknowledgment == null) {
+            return;
+        }
+
+        final var pending = PENDING.get();
+        pending.add(consumer, acknowledgment, records, this.nanoClock.getAsLong());
+        pendingOf(consumer).addAndGet(records);
+
+        final var batch = this.properties.consumer(consumer).batch();
+        final var age = TimeUnit.NANOSECONDS.toMillis(this.nanoClock.getAsLong() - pending.oldest);
+        if (pending.records >= batch.commitRecords() || age >= batch.commitInterval()) {
+            flush();
+        }
+    }
+
+    public void flush() {
+        final var pending = PENDING.get();
+        if (pending.acks.isEmpty()) {
+            return;
+        }
+
+        pending.acks.forEach(Acknowledgment::acknowledge);
+        this.meterRegistry.timer("cdc.commit.latency", "consumer", pending.consumer)
+                .record(this.nanoClock.getAsLong() - pending.oldest, TimeUnit.NANOSECONDS);
+        pendingOf(pending.consumer).addAndGet(-pending.records);
+        pending.clear();
+    }
+
+    long pending(final String consumer) {
+        return pendingOf(consumer).get();
+    }
+
+    @EventListener
+    public void onIdle(final ListenerContainerIdleEvent event) {
+        flush();
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(final Consumer<?, ?> consumer, final Collection<TopicPartition> partitions) {
+        flush();
+    }
+
+    private AtomicLong pendingOf(final String consumer) {
+        return this.pendingRecords.computeIfAbsent(consumer, key -> {
+            final var counter = new AtomicLong();
+            Gauge.builder("cdc.commit.pending", counter, AtomicLong::get)
+                    .tag("consumer", key)
+                    .description("Records durably written to Elasticsearch whose offsets are not committed yet")
+                    .register(this.meterRegistry);
+            return counter;
+        });
+    }
+
+    private static final class Pending {
+
+        private final List<Acknowledgment> acks = new ArrayList<>();
+        private String consumer;
+        private long records;
+        private long oldest;
+
+        private void add(final String consumer, final Acknowledgment ack, final int records, final long now) {
+            if (this.acks.isEmpty()) {
+                this.oldest = now;
+            }
+            this.consumer = consumer;
+            this.acks.add(ack);
+            this.records += records;
+        }
+
+        private void clear() {
+            this.acks.clear();
+            this.records = 0;
+            this.oldest = 0;
+        }
+    }
+}
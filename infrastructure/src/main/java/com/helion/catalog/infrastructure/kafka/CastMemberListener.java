@@ -1,39 +1,56 @@
 package com.helion.catalog.infrastructure.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.helion.catalog.application.castmember.delete.DeleteCastMemberUseCase;
 import com.helion.catalog.application.castmember.save.SaveCastMemberUseCase;
 import com.helion.catalog.infrastructure.castmember.models.CastMemberEvent;
-import com.helion.catalog.infrastructure.configuration.json.Json;
-import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
+import com.helion.catalog.infrastructure.exceptions.RetryBudgetExhaustedException;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.listener.adapter.ConsumerRecordMetadata;
 import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import static com.helion.catalog.domain.utils.InstantUtils.fromTimestamp;
+
 @Component
-public class CastMemberListener {
+public class CastMemberListener implements CdcMessageHandler<CastMemberEvent>, ConsumerSeekAware {
 
+    public static final String CONSUMER = "cast-members";
     private static final Logger LOG = LoggerFactory.getLogger(CastMemberListener.class);
-    public static final TypeReference<MessageValue<CastMemberEvent>> CAST_MEMBER_MESSAGE = new TypeReference<>() {
-    };
+    private static final DebeziumEnvelopeDecoder<CastMemberEvent> DECODER = new DebeziumEnvelopeDecoder<>(CastMemberEvent.class);
     private final SaveCastMemberUseCase saveCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
+    private final BatchMessageProcessor batchMessageProcessor;
+    private final LocalRetryScheduler localRetryScheduler;
+    private final ListenerSeekRegistry seekRegistry;
 
 
 
     public CastMemberListener(final SaveCastMemberUseCase saveCastMemberUseCase,
-                              final DeleteCastMemberUseCase deleteCastMemberUseCase
+                              final DeleteCastMemberUseCase deleteCastMemberUseCase,
+                              final BatchMessageProcessor batchMessageProcessor,
+                              final LocalRetryScheduler localRetryScheduler,
+                              final ListenerSeekRegistry seekRegistry
                             ) {
         this.saveCastMemberUseCase = Objects.requireNonNull(saveCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
+        this.batchMessageProcessor = Objects.requireNonNull(batchMessageProcessor);
+        this.localRetryScheduler = Objects.requireNonNull(localRetryScheduler);
+        this.seekRegistry = Objects.requireNonNull(seekRegistry);
     }
 
     @KafkaListener(
@@ -42,26 +59,74 @@ public class CastMemberListener {
             id = "${kafka.consumers.cast-members.id}",
             topics = "${kafka.consumers.cast-members.topics}",
             groupId = "${kafka.consumers.cast-members.group-id}",
+            autoStartup = "#{!${kafka.consumers.cast-members.batch.enabled} && !${kafka.consumers.multiplexed.batch.enabled}}",
             properties = {
                     "auto.offset.reset=${kafka.consumers.cast-members.auto-offset-reset}"
             }
     )
     @RetryableTopic(
             attempts = "4",
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = RetryBudgetExhaustedException.class
     )
-    public void onMessage(@Payload final String payload, final ConsumerRecordMetadata metadata){
+    public void onMessage(final ConsumerRecord<String, String> record, final Acknowledgment acknowledgment){
+        final var payload = record.value();
         if (payload == null) {
-            LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", metadata.topic(), metadata.partition(), metadata.offset());
+            LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", record.topic(), record.partition(), record.offset());
+            this.localRetryScheduler.process(CONSUMER, record, acknowledgment, () -> {});
             return;
         }
 
-        LOG.info("Message received from Kafka [topic:{}], [partition:{}]", metadata.topic(), metadata.partition());
-        final var messagePayload =  Json.readValue(payload,CAST_MEMBER_MESSAGE).payload();
+        LOG.info("Message received from Kafka [topic:{}], [partition:{}]", record.topic(), record.partition());
+        this.localRetryScheduler.process(CONSUMER, record, acknowledgment, () -> handle(DECODER.decode(payload)));
+    }
+
+    @KafkaListener(
+            concurrency = "${kafka.consumers.cast-members.concurrency}",
+            containerFactory = "kafkaListenerFactory",
+            id = "${kafka.consumers.cast-members.id}-batch",
+            topics = "${kafka.consumers.cast-members.topics}",
+            groupId = "${kafka.consumers.cast-members.group-id}",
+            batch = "true",
+            autoStartup = "#{${kafka.consumers.cast-members.batch.enabled} && !${kafka.consumers.multiplexed.batch.enabled}}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.cast-members.auto-offset-reset}",
+                    "max.poll.records=${kafka.consumers.cast-members.batch.size}",
+                    "fetch.max.wait.ms=${kafka.consumers.cast-members.batch.max-wait}",
+                    "fetch.min.bytes=${kafka.consumers.cast-members.batch.min-bytes}",
+                    "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+            }
+    )
+    public void onBatchMessage(final List<ConsumerRecord<String, byte[]>> records, final Acknowledgment acknowledgment){
+        this.batchMessageProcessor.process(records, this, acknowledgment);
+    }
+
+    @Override
+    public void onPartitionsAssigned(final Map<TopicPartition, Long> assignments, final ConsumerSeekCallback callback) {
+        this.seekRegistry.assigned(assignments.keySet(), callback);
+    }
+
+    @Override
+    public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {
+        this.seekRegistry.revoked(partitions);
+    }
+
+    @Override
+    public String consumer() {
+        return CONSUMER;
+    }
+
+    @Override
+    public DebeziumEnvelopeDecoder<CastMemberEvent> decoder() {
+        return DECODER;
+    }
+
+    @Override
+    public void handle(final ValuePayload<CastMemberEvent> messagePayload) {
         final var op = messagePayload.operation();
 
         if (op.isDelete()){
-            this.deleteCastMemberUseCase.execute(messagePayload.before().id());
+            this.deleteCastMemberUseCase.execute(new DeleteCastMemberUseCase.Input(messagePayload.before().id(), fromTimestamp(messagePayload.before().updatedAt())));
         } else {
             this.saveCastMemberUseCase.execute(messagePayload.after().toCastMember());
 
@@ -70,7 +135,7 @@ public class CastMemberListener {
 
     @DltHandler
     public void onDLTMessage(@Payload final String payload, final ConsumerRecordMetadata metadata){
-        LOG.warn("Message received from Kafka DLT [topic:{}], [partition:{}]", metadata.topic(), metadata.partition());
+        LOG.warn("Message parked in Kafka DLT for replay [topic:{}], [partition:{}] [offset:{}]", metadata.topic(), metadata.partition(), metadata.offset());
 
     }
 }
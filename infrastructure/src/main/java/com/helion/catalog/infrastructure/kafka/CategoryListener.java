@@ -1,43 +1,74 @@
 package com.helion.catalog.infrastructure.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.helion.catalog.application.category.delete.DeleteCategoryUseCase;
 import com.helion.catalog.application.category.save.SaveCategoryUseCase;
+import com.helion.catalog.domain.category.Category;
+import com.helion.catalog.domain.category.CategoryGateway;
 import com.helion.catalog.infrastructure.category.CategoryClient;
 import com.helion.catalog.infrastructure.category.models.CategoryEvent;
-import com.helion.catalog.infrastructure.configuration.json.Json;
-import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.exceptions.RetryBudgetExhaustedException;
 import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.listener.adapter.ConsumerRecordMetadata;
 import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+
+import static com.helion.catalog.domain.utils.InstantUtils.fromTimestamp;
 @Component
-public class CategoryListener {
+public class CategoryListener implements CdcMessageHandler<CategoryEvent>, ConsumerSeekAware {
 
+    public static final String CONSUMER = "categories";
     private static final Logger LOG = LoggerFactory.getLogger(CategoryListener.class);
+    private static final DebeziumEnvelopeDecoder<CategoryEvent> DECODER = new DebeziumEnvelopeDecoder<>(CategoryEvent.class);
 
     private final SaveCategoryUseCase saveCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final CategoryClient categoryGateway;
+    private final BatchMessageProcessor batchMessageProcessor;
+    private final LocalRetryScheduler localRetryScheduler;
+    private final ListenerSeekRegistry seekRegistry;
+    private final CategoryGateway indexedCategories;
+    private final StaleEventGuard staleEventGuard;
+    private final boolean cdcFirst;
 
 
 
     public CategoryListener(
             final SaveCategoryUseCase saveCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final CategoryClient categoryGateway) {
+            final CategoryClient categoryGateway,
+            final BatchMessageProcessor batchMessageProcessor,
+            final LocalRetryScheduler localRetryScheduler,
+            final ListenerSeekRegistry seekRegistry,
+            final CategoryGateway indexedCategories,
+            final StaleEventGuard staleEventGuard,
+            final KafkaProperties kafkaProperties) {
         this.saveCategoryUseCase = Objects.requireNonNull(saveCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.batchMessageProcessor = Objects.requireNonNull(batchMessageProcessor);
+        this.localRetryScheduler = Objects.requireNonNull(localRetryScheduler);
+        this.seekRegistry = Objects.requireNonNull(seekRegistry);
+        this.indexedCategories = Objects.requireNonNull(indexedCategories);
+        this.staleEventGuard = Objects.requireNonNull(staleEventGuard);
+        this.cdcFirst = kafkaProperties.consumer(CONSUMER).cdcFirst();
 
     }
 
@@ -47,6 +78,7 @@ public class CategoryListener {
             id = "${kafka.consumers.categories.id}",
             topics = "${kafka.consumers.categories.topics}",
             groupId = "${kafka.consumers.categories.group-id}",
+            autoStartup = "#{!${kafka.consumers.categories.batch.enabled} && !${kafka.consumers.multiplexed.batch.enabled}}",
             properties = {
                     "auto.offset.reset=${kafka.consumers.categories.auto-offset-reset}"
             }
@@ -54,27 +86,39 @@ public class CategoryListener {
     @RetryableTopic(
            backoff = @Backoff(delay=1000, multiplier = 2),
             attempts = "4",
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = RetryBudgetExhaustedException.class
     )
-    public void onMessage(@Payload(required = false) final String payload, final ConsumerRecordMetadata metadata){
+    public void onMessage(final ConsumerRecord<String, String> record, final Acknowledgment acknowledgment){
 
+        final var payload = record.value();
         if (payload == null) {
-            LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", metadata.topic(), metadata.partition(), metadata.offset());
+            LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", record.topic(), record.partition(), record.offset());
+            this.localRetryScheduler.process(CONSUMER, record, acknowledgment, () -> {});
             return;
         }
-        LOG.info("Message received from Kafka [topic:{}], [partition:{}]", metadata.topic(), metadata.partition());
-        final var messagePayload =  Json.readValue(payload, new TypeReference<MessageValue<CategoryEvent>>(){}).payload();
-        final var op = messagePayload.operation();
-
-        if (Operation.isDelete(op)){
-            this.deleteCategoryUseCase.execute(messagePayload.before().id());
-        } else {
+        LOG.info("Message received from Kafka [topic:{}], [partition:{}]", record.topic(), record.partition());
+        this.localRetryScheduler.process(CONSUMER, record, acknowledgment, () -> handle(DECODER.decode(payload)));
+    }
 
-            this.categoryGateway.categoryOfId(messagePayload.after().id())
-                    .ifPresentOrElse(this.saveCategoryUseCase::execute, () -> {
-                        LOG.warn("Category was not found {}", messagePayload.after().id());
-                    });
-        }
+    @KafkaListener(
+            concurrency = "${kafka.consumers.categories.concurrency}",
+            containerFactory = "kafkaListenerFactory",
+            id = "${kafka.consumers.categories.id}-batch",
+            topics = "${kafka.consumers.categories.topics}",
+            groupId = "${kafka.consumers.categories.group-id}",
+            batch = "true",
+            autoStartup = "#{${kafka.consumers.categories.batch.enabled} && !${kafka.consumers.multiplexed.batch.enabled}}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.categories.auto-offset-reset}",
+                    "max.poll.records=${kafka.consumers.categories.batch.size}",
+                    "fetch.max.wait.ms=${kafka.consumers.categories.batch.max-wait}",
+                    "fetch.min.bytes=${kafka.consumers.categories.batch.min-bytes}",
+                    "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+            }
+    )
+    public void onBatchMessage(final List<ConsumerRecord<String, byte[]>> records, final Acknowledgment acknowledgment){
+        this.batchMessageProcessor.process(records, this, acknowledgment);
     }
 
     @DltHandler
@@ -84,17 +128,47 @@ public class CategoryListener {
             LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", metadata.topic(), metadata.partition(), metadata.offset());
             return;
         }
-        LOG.warn("Message received from Kafka DLT [topic:{}], [partition:{}]", metadata.topic(), metadata.partition());
-        final var messagePayload =  Json.readValue(payload, new TypeReference<MessageValue<CategoryEvent>>(){}).payload();
+        LOG.warn("Message parked in Kafka DLT for replay [topic:{}], [partition:{}] [offset:{}]", metadata.topic(), metadata.partition(), metadata.offset());
+    }
+
+    @Override
+    public void onPartitionsAssigned(final Map<TopicPartition, Long> assignments, final ConsumerSeekCallback callback) {
+        this.seekRegistry.assigned(assignments.keySet(), callback);
+    }
+
+    @Override
+    public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {
+        this.seekRegistry.revoked(partitions);
+    }
+
+    @Override
+    public String consumer() {
+        return CONSUMER;
+    }
+
+    @Override
+    public DebeziumEnvelopeDecoder<CategoryEvent> decoder() {
+        return DECODER;
+    }
+
+    @Override
+    public void handle(final ValuePayload<CategoryEvent> messagePayload) {
         final var op = messagePayload.operation();
 
         if (Operation.isDelete(op)){
-            this.deleteCategoryUseCase.execute(messagePayload.before().id());
-        } else {
+            this.deleteCategoryUseCase.execute(new DeleteCategoryUseCase.Input(messagePayload.before().id(), fromTimestamp(messagePayload.before().updatedAt())));
+        } else if (this.cdcFirst && messagePayload.after().isComplete()) {
+            this.saveCategoryUseCase.execute(messagePayload.after().toCategory());
+        } else if (!isStale(messagePayload.after())) {
             this.categoryGateway.categoryOfId(messagePayload.after().id())
                     .ifPresentOrElse(this.saveCategoryUseCase::execute, () -> {
                         LOG.warn("Category was not found {}", messagePayload.after().id());
                     });
         }
     }
+
+    private boolean isStale(final CategoryEvent event) {
+        return this.staleEventGuard.isStale(CONSUMER, event.id(), event.updatedAt(),
+                id -> this.indexedCategories.findById(id).map(Category::updatedAt));
+    }
 }
@@ -0,0 +1,24 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.kafka.models.connect.IdentifiableEvent;
+import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+
+public interface CdcMessageHandler<T extends IdentifiableEvent> {
+
+    String consumer();
+
+    DebeziumEnvelopeDecoder<T> decoder();
+
+    void handle(ValuePayload<T> message);
+
+    default String keyOf(final ValuePayload<T> message) {
+        return Operation.isDelete(message.operation())
+                ? message.before().id()
+                : message.after().id();
+    }
+
+    default boolean isUrgent(final ValuePayload<T> message) {
+        return Operation.isDelete(message.operation());
+    }
+}
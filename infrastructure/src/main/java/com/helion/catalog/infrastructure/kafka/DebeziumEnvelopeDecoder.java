@@ -0,0 +1,110 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.helion.catalog.infrastructure.configuration.json.Json;
+import com.helion.catalog.infrastructure.kafka.models.connect.IdentifiableEvent;
+import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+
+import java.io.IOException;
+import java.util.Objects;
+
+public final class DebeziumEnvelopeDecoder<T extends IdentifiableEvent> {
+
+    private static final String SCHEMA = "schema";
+    private static final String PAYLOAD = "payload";
+    private static final String OPERATION = "op";
+    private static final String BEFORE = "before";
+    private static final String AFTER = "after";
+
+    private final ObjectReader reader;
+
+    public DebeziumEnvelopeDecoder(final Class<T> eventType) {
+        this.reader = Json.mapper().readerFor(Objects.requireNonNull(eventType));
+    }
+
+    public ValuePayload<T> decode(final byte[] payload) {
+        try (final var parser = this.reader.createParser(payload)) {
+            return readEnvelope(parser);
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException("Unable to decode Debezium envelope", ex);
+        }
+    }
+
+    public ValuePayload<T> decode(final String payload) {
+        try (final var parser = this.reader.createParser(payload)) {
+            return readEnvelope(parser);
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException("Unable to decode Debezium envelope", ex);
+        }
+    }
+
+    private ValuePayload<T> readEnvelope(final JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Debezium envelope must be a JSON object");
+        }
+
+        final var envelope = new Envelope();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case SCHEMA -> parser.skipChildren();
+                case PAYLOAD -> readPayload(parser, envelope);
+                default -> readField(field, parser, envelope);
+            }
+        }
+        return envelope.toValuePayload();
+    }
+
+    private void readPayload(final JsonParser parser, final Envelope envelope) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.currentName();
+            parser.nextToken();
+            readField(field, parser, envelope);
+        }
+    }
+
+    private void readField(final String field, final JsonParser parser, final Envelope envelope) throws IOException {
+        switch (field) {
+            case OPERATION -> envelope.operation = Operation.of(parser.getValueAsString());
+            case BEFORE -> envelope.before = readRow(parser);
+            case AFTER -> envelope.after = readRow(parser);
+            default -> parser.skipChildren();
+        }
+    }
+
+    private T readRow(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return skip(parser);
+        }
+        return this.reader.readValue(parser);
+    }
+
+    private T skip(final JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+
+    private final class Envelope {
+
+        private Operation operation;
+        private T before;
+        private T after;
+
+        private ValuePayload<T> toValuePayload() {
+            if (Operation.isDelete(this.operation)) {
+                return new ValuePayload<>(null, this.before, null, this.operation);
+            }
+            return new ValuePayload<>(this.after, this.before, null, this.operation);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+@Endpoint(id = "dltreplay")
+public class DltReplayEndpoint {
+
+    private final DltReplayService replayService;
+
+    public DltReplayEndpoint(final DltReplayService replayService) {
+        this.replayService = Objects.requireNonNull(replayService);
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "running", this.replayService.running(),
+                "last", this.replayService.lastResults()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay(@Selector final String consumer) {
+        return Map.of(
+                "consumer", consumer,
+                "started", this.replayService.replayAsync(consumer)
+        );
+    }
+}
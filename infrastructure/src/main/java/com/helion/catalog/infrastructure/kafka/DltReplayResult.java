@@ -0,0 +1,15 @@
+package com.helion.catalog.infrastructure.kafka;
+
+public record DltReplayResult(
+        String consumer,
+        long read,
+        long replayed,
+        long deduplicated,
+        long failed,
+        long tookMillis
+) {
+
+    public double rate() {
+        return tookMillis > 0 ? replayed * 1_000D / tookMillis : replayed;
+    }
+}
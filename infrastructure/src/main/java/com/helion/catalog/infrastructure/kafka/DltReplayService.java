@@ -0,0 +1,283 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.KafkaConfig;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.kafka.models.connect.IdentifiableEvent;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DltReplayService implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DltReplayService.class);
+
+    private final Map<String, CdcMessageHandler<?>> handlers;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> running;
+    private final Map<String, DltReplayResult> lastResults;
+    private final ExecutorService executor;
+    private final Function<Map<String, Object>, Consumer<String, String>> consumerFactory;
+
+    public DltReplayService(
+            final List<CdcMessageHandler<?>> handlers,
+            final KafkaTemplate<String, String> kafkaTemplate,
+            final KafkaProperties properties,
+            final MeterRegistry meterRegistry) {
+        this(handlers, kafkaTemplate, properties, meterRegistry,
+                configs -> new KafkaConsumer<>(configs, new StringDeserializer(), new StringDeserializer()));
+    }
+
+    DltReplayService(
+            final List<CdcMessageHandler<?>> handlers,
+            final KafkaTemplate<String, String> kafkaTemplate,
+            final KafkaProperties properties,
+            final MeterRegistry meterRegistry,
+            final Function<Map<String, Object>, Consumer<String, String>> consumerFactory) {
+        this.handlers = handlers.stream().collect(Collectors.toMap(CdcMessageHandler::consumer, Function.identity()));
+        this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate);
+        this.properties = Objects.requireNonNull(properties);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.running = ConcurrentHashMap.newKeySet();
+        this.lastResults = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("cdc-dlt-replay-"));
+        this.consumerFactory = Objects.requireNonNull(consumerFactory);
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.dlt-replay.interval}", initialDelayString = "${kafka.dlt-replay.interval}")
+    public void replayAll() {
+        if (!this.properties.dltReplay().scheduled()) {
+            return;
+        }
+        this.handlers.keySet().forEach(consumer -> {
+            try {
+                if (!replayAsync(consumer)) {
+                    LOG.info("DLT replay already running [consumer:{}]", consumer);
+                }
+            } catch (final RuntimeException ex) {
+                LOG.warn("Scheduled DLT replay skipped [consumer:{}]: {}", consumer, ex.getMessage());
+            }
+        });
+    }
+
+    public boolean replayAsync(final String consumer) {
+        final var handler = requireHandler(consumer);
+        if (!this.running.add(consumer)) {
+            return false;
+        }
+
+        try {
+            this.executor.submit(() -> run(consumer, handler));
+        } catch (final RejectedExecutionException ex) {
+            this.running.remove(consumer);
+            throw ex;
+        }
+        return true;
+    }
+
+    public DltReplayResult replay(final String consumer) {
+        final var handler = requireHandler(consumer);
+        if (!this.running.add(consumer)) {
+            LOG.info("DLT replay already running [consumer:{}]", consumer);
+            return null;
+        }
+        return run(consumer, handler);
+    }
+
+    public Map<String, DltReplayResult> lastResults() {
+        return Map.copyOf(this.lastResults);
+    }
+
+    public Set<String> running() {
+        return Set.copyOf(this.running);
+    }
+
+    @Override
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    private DltReplayResult run(final String consumer, final CdcMessageHandler<?> handler) {
+        try {
+            final var result = drain(handler);
+            this.lastResults.put(consumer, result);
+            LOG.info("DLT replay finished [consumer:{}] [read:{}] [replayed:{}] [deduplicated:{}] [failed:{}] [rate:{} records/s]",
+                    consumer, result.read(), result.replayed(), result.deduplicated(), result.failed(), Math.round(result.rate()));
+            return result;
+        } catch (final RuntimeException ex) {
+            LOG.error("DLT replay failed [consumer:{}]", consumer, ex);
+            throw ex;
+        } finally {
+            this.running.remove(consumer);
+        }
+    }
+
+    private CdcMessageHandler<?> requireHandler(final String consumer) {
+        final var handler = this.handlers.get(consumer);
+        if (handler == null) {
+            throw new IllegalArgumentException("Unknown consumer '%s'".formatted(consumer));
+        }
+        return handler;
+    }
+
+    private <T extends IdentifiableEvent> DltReplayResult drain(final CdcMessageHandler<T> handler) {
+        final var consumerName = handler.consumer();
+        final var settings = this.properties.consumer(consumerName);
+        final var replay = this.properties.dltReplay();
+        final var bucket = new TokenBucket(replay.rate(), replay.burst());
+        final var topics = Arrays.stream(Objects.requireNonNull(settings.topics()).split(","))
+                .map(String::trim)
+                .map(it -> it + KafkaConfig.DLT_SUFFIX)
+                .toList();
+
+        final var startedAt = System.currentTimeMillis();
+        final var progress = new Progress();
+
+        try (final var consumer = this.consumerFactory.apply(consumerConfigs(settings.groupId() + replay.groupSuffix(), replay.batchSize()))) {
+            final var partitions = topics.stream()
+                    .flatMap(topic -> Objects.requireNonNullElse(consumer.partitionsFor(topic), List.<PartitionInfo>of()).stream())
+                    .map(it -> new TopicPartition(it.topic(), it.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            final var end = consumer.endOffsets(partitions);
+            final var remaining = new HashSet<>(partitions);
+            remaining.removeIf(it -> consumer.position(it) >= end.get(it));
+
+            final var latest = new LinkedHashMap<String, Parked<T>>();
+            final var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+
+            while (!remaining.isEmpty() && !Thread.currentThread().isInterrupted()) {
+                for (final var record : consumer.poll(Duration.ofMillis(this.properties.poolTimeout()))) {
+                    final var partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() >= end.get(partition)) {
+                        continue;
+                    }
+
+                    offsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                    progress.read++;
+                    if (record.value() == null) {
+                        continue;
+                    }
+
+                    try {
+                        final var message = handler.decoder().decode(record.value());
+                        final var key = handler.keyOf(message);
+                        if (latest.remove(key) != null) {
+                            progress.deduplicated++;
+                        }
+                        latest.put(key, new Parked<>(record, message));
+                    } catch (final RuntimeException ex) {
+                        progress.failed++;
+                        LOG.warn("Dropping undecodable DLT record [topic:{}] [partition:{}] [offset:{}]", record.topic(), record.partition(), record.offset(), ex);
+                    }
+                }
+                remaining.removeIf(it -> consumer.position(it) >= end.get(it));
+
+                if (latest.size() >= replay.batchSize() || remaining.isEmpty()) {
+                    replayChunk(consumer, handler, latest, offsets, bucket, progress);
+                }
+            }
+        }
+
+        this.meterRegistry.counter("cdc.dlt.replay", "consumer", consumerName, "outcome", "replayed").increment(progress.replayed);
+        this.meterRegistry.counter("cdc.dlt.replay", "consumer", consumerName, "outcome", "deduplicated").increment(progress.deduplicated);
+        this.meterRegistry.counter("cdc.dlt.replay", "consumer", consumerName, "outcome", "failed").increment(progress.failed);
+
+        final var took = System.currentTimeMillis() - startedAt;
+        this.meterRegistry.timer("cdc.dlt.replay.duration", "consumer", consumerName).record(took, TimeUnit.MILLISECONDS);
+        return new DltReplayResult(consumerName, progress.read, progress.replayed, progress.deduplicated, progress.failed, took);
+    }
+
+    private <T extends IdentifiableEvent> void replayChunk(
+            final Consumer<String, String> consumer,
+            final CdcMessageHandler<T> handler,
+            final Map<String, Parked<T>> latest,
+            final Map<TopicPartition, OffsetAndMetadata> offsets,
+            final TokenBucket bucket,
+            final Progress progress) {
+        final var reParked = new ArrayList<CompletableFuture<?>>();
+        for (final var parked : latest.values()) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+
+            try {
+                bucket.acquire();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            try {
+                handler.handle(parked.message());
+                progress.replayed++;
+            } catch (final RuntimeException ex) {
+                progress.failed++;
+                LOG.warn("DLT replay failed, parking record again [topic:{}] [offset:{}]: {}", parked.record().topic(), parked.record().offset(), ex.getMessage());
+                reParked.add(this.kafkaTemplate.send(parked.record().topic(), parked.record().key(), parked.record().value()));
+            }
+        }
+
+        CompletableFuture.allOf(reParked.toArray(CompletableFuture[]::new)).join();
+
+        if (!Thread.currentThread().isInterrupted() && !offsets.isEmpty()) {
+            consumer.commitSync(Map.copyOf(offsets));
+        }
+        latest.clear();
+        offsets.clear();
+    }
+
+    private Map<String, Object> consumerConfigs(final String groupId, final int batchSize) {
+        final var props = new HashMap<String, Object>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, this.properties.bootstrapServers());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.max(1, batchSize));
+        props.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, this.properties.autoCreateTopics());
+        return props;
+    }
+
+    private static final class Progress {
+        private long read;
+        private long replayed;
+        private long deduplicated;
+        private long failed;
+    }
+
+    private record Parked<T extends IdentifiableEvent>(ConsumerRecord<String, String> record, ValuePayload<T> message) {}
+}
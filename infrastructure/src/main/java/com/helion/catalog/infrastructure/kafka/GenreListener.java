@@ -1,43 +1,69 @@
 package com.helion.catalog.infrastructure.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.helion.catalog.application.genre.delete.DeleteGenreUseCase;
 import com.helion.catalog.application.genre.save.SaveGenreUseCase;
-import com.helion.catalog.infrastructure.configuration.json.Json;
+import com.helion.catalog.domain.genre.Genre;
+import com.helion.catalog.domain.genre.GenreGateway;
+import com.helion.catalog.infrastructure.exceptions.RetryBudgetExhaustedException;
 import com.helion.catalog.infrastructure.genre.GenreClient;
 import com.helion.catalog.infrastructure.genre.models.GenreEvent;
-import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
 import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.listener.adapter.ConsumerRecordMetadata;
 import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import static com.helion.catalog.domain.utils.InstantUtils.fromTimestamp;
+
 @Component
-public class GenreListener {
+public class GenreListener implements CdcMessageHandler<GenreEvent>, ConsumerSeekAware {
 
+    public static final String CONSUMER = "genres";
     private static final Logger LOG = LoggerFactory.getLogger(GenreListener.class);
-    private static final TypeReference<MessageValue<GenreEvent>> GENRE_MESSAGE_TYPE = new TypeReference<>() {};
+    private static final DebeziumEnvelopeDecoder<GenreEvent> DECODER = new DebeziumEnvelopeDecoder<>(GenreEvent.class);
 
     private final SaveGenreUseCase saveGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final GenreClient genreGateway;
+    private final BatchMessageProcessor batchMessageProcessor;
+    private final LocalRetryScheduler localRetryScheduler;
+    private final ListenerSeekRegistry seekRegistry;
+    private final GenreGateway indexedGenres;
+    private final StaleEventGuard staleEventGuard;
 
     public GenreListener(
             final SaveGenreUseCase saveGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final GenreClient genreGateway) {
+            final GenreClient genreGateway,
+            final BatchMessageProcessor batchMessageProcessor,
+            final LocalRetryScheduler localRetryScheduler,
+            final ListenerSeekRegistry seekRegistry,
+            final GenreGateway indexedGenres,
+            final StaleEventGuard staleEventGuard) {
         this.saveGenreUseCase = Objects.requireNonNull(saveGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.batchMessageProcessor = Objects.requireNonNull(batchMessageProcessor);
+        this.localRetryScheduler = Objects.requireNonNull(localRetryScheduler);
+        this.seekRegistry = Objects.requireNonNull(seekRegistry);
+        this.indexedGenres = Objects.requireNonNull(indexedGenres);
+        this.staleEventGuard = Objects.requireNonNull(staleEventGuard);
     }
 
     @KafkaListener(
@@ -46,6 +72,7 @@ public class GenreListener {
             id = "${kafka.consumers.genres.id}",
             topics = "${kafka.consumers.genres.topics}",
             groupId = "${kafka.consumers.genres.group-id}",
+            autoStartup = "#{!${kafka.consumers.genres.batch.enabled} && !${kafka.consumers.multiplexed.batch.enabled}}",
             properties = {
                     "auto.offset.reset=${kafka.consumers.genres.auto-offset-reset}"
             }
@@ -53,22 +80,69 @@ public class GenreListener {
     @RetryableTopic(
            backoff = @Backoff(delay=1000, multiplier = 2),
             attempts = "${kafka.consumers.genres.max-attempts}",
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = RetryBudgetExhaustedException.class
     )
-    public void onMessage(@Payload final String payload, final ConsumerRecordMetadata metadata){
+    public void onMessage(final ConsumerRecord<String, String> record, final Acknowledgment acknowledgment){
 
+        final var payload = record.value();
         if (payload == null) {
-            LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", metadata.topic(), metadata.partition(), metadata.offset());
+            LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", record.topic(), record.partition(), record.offset());
+            this.localRetryScheduler.process(CONSUMER, record, acknowledgment, () -> {});
             return;
         }
 
-        LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), payload);
-        final var messagePayload =  Json.readValue(payload, GENRE_MESSAGE_TYPE).payload();
+        LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]", record.topic(), record.partition(), record.offset());
+        this.localRetryScheduler.process(CONSUMER, record, acknowledgment, () -> handle(DECODER.decode(payload)));
+    }
+
+    @KafkaListener(
+            concurrency = "${kafka.consumers.genres.concurrency}",
+            containerFactory = "kafkaListenerFactory",
+            id = "${kafka.consumers.genres.id}-batch",
+            topics = "${kafka.consumers.genres.topics}",
+            groupId = "${kafka.consumers.genres.group-id}",
+            batch = "true",
+            autoStartup = "#{${kafka.consumers.genres.batch.enabled} && !${kafka.consumers.multiplexed.batch.enabled}}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.genres.auto-offset-reset}",
+                    "max.poll.records=${kafka.consumers.genres.batch.size}",
+                    "fetch.max.wait.ms=${kafka.consumers.genres.batch.max-wait}",
+                    "fetch.min.bytes=${kafka.consumers.genres.batch.min-bytes}",
+                    "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+            }
+    )
+    public void onBatchMessage(final List<ConsumerRecord<String, byte[]>> records, final Acknowledgment acknowledgment){
+        this.batchMessageProcessor.process(records, this, acknowledgment);
+    }
+
+    @Override
+    public void onPartitionsAssigned(final Map<TopicPartition, Long> assignments, final ConsumerSeekCallback callback) {
+        this.seekRegistry.assigned(assignments.keySet(), callback);
+    }
+
+    @Override
+    public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {
+        this.seekRegistry.revoked(partitions);
+    }
+
+    @Override
+    public String consumer() {
+        return CONSUMER;
+    }
+
+    @Override
+    public DebeziumEnvelopeDecoder<GenreEvent> decoder() {
+        return DECODER;
+    }
+
+    @Override
+    public void handle(final ValuePayload<GenreEvent> messagePayload) {
         final var op = messagePayload.operation();
 
         if (Operation.isDelete(op)){
-            this.deleteGenreUseCase.execute(new DeleteGenreUseCase.Input(messagePayload.before().id()));
-        } else {
+            this.deleteGenreUseCase.execute(new DeleteGenreUseCase.Input(messagePayload.before().id(), fromTimestamp(messagePayload.before().updatedAt())));
+        } else if (!isStale(messagePayload.after())) {
             this.genreGateway.genreOfId(messagePayload.after().id())
                     .map(it -> new SaveGenreUseCase.Input(it.id(), it.name(), it.categoriesId(), it.isActive(), it.createdAt(), it.updatedAt(), it.deletedAt()))
                     .ifPresentOrElse(this.saveGenreUseCase::execute, () -> {
@@ -77,9 +151,14 @@ public class GenreListener {
         }
     }
 
+    private boolean isStale(final GenreEvent event) {
+        return this.staleEventGuard.isStale(CONSUMER, event.id(), event.updatedAt(),
+                id -> this.indexedGenres.findById(id).map(Genre::updatedAt));
+    }
+
     @DltHandler
     public void onDltMessage(@Payload final String payload, final ConsumerRecordMetadata metadata){
-        LOG.warn("Message received from Kafka DLT [topic:{}], [partition:{}]", metadata.topic(), metadata.partition());
+        LOG.warn("Message parked in Kafka DLT for replay [topic:{}], [partition:{}] [offset:{}]", metadata.topic(), metadata.partition(), metadata.offset());
 
     }
 }
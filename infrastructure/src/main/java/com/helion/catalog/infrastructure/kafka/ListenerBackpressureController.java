@@ -0,0 +1,152 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchPressureEvent;
+import com.helion.catalog.infrastructure.utils.ConcurrencyLimitRejectedEvent;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ListenerBackpressureController implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListenerBackpressureController.class);
+
+    static final String CIRCUIT_BREAKER = "circuit-breaker";
+    static final String BULKHEAD = "bulkhead";
+    static final String ELASTICSEARCH = "elasticsearch";
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final KafkaProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final long bulkheadPause;
+    private final long elasticsearchPause;
+    private final ScheduledExecutorService executor;
+    private final Map<String, Set<String>> reasons;
+    private final Map<String, ScheduledFuture<?>> resumes;
+
+    public ListenerBackpressureController(
+            final KafkaListenerEndpointRegistry registry,
+            final KafkaProperties properties,
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            final BulkheadRegistry bulkheadRegistry,
+            @Value("${kafka.backpressure.bulkhead-pause:1000}") final long bulkheadPause,
+            @Value("${kafka.backpressure.elasticsearch-pause:5000}") final long elasticsearchPause) {
+        this.registry = Objects.requireNonNull(registry);
+        this.properties = Objects.requireNonNull(properties);
+        this.circuitBreakerRegistry = Objects.requireNonNull(circuitBreakerRegistry);
+        this.bulkheadRegistry = Objects.requireNonNull(bulkheadRegistry);
+        this.bulkheadPause = bulkheadPause;
+        this.elasticsearchPause = elasticsearchPause;
+        this.executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("cdc-backpressure-"));
+        this.reasons = new ConcurrentHashMap<>();
+        this.resumes = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.properties.consumers().keySet().forEach(consumer -> {
+            this.circuitBreakerRegistry.find(consumer).ifPresent(breaker ->
+                    breaker.getEventPublisher().onStateTransition(event -> {
+                        final var state = event.getStateTransition().getToState();
+                        if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN) {
+                            pause(consumer, CIRCUIT_BREAKER);
+                        } else {
+                            resume(consumer, CIRCUIT_BREAKER);
+                        }
+                    }));
+
+            this.bulkheadRegistry.find(consumer).ifPresent(bulkhead ->
+                    bulkhead.getEventPublisher().onCallRejected(event -> pauseFor(consumer, BULKHEAD, this.bulkheadPause)));
+        });
+    }
+
+    @EventListener
+    public void onElasticsearchPressure(final ElasticsearchPressureEvent event) {
+        LOG.warn("Elasticsearch rejected writes [index:{}]: {}", event.index(), event.reason());
+        this.properties.consumers().keySet().forEach(consumer -> pauseFor(consumer, ELASTICSEARCH, this.elasticsearchPause));
+    }
+
+    @EventListener
+    public void onConcurrencyLimitRejected(final ConcurrencyLimitRejectedEvent event) {
+        if (this.properties.consumers().containsKey(event.name())) {
+            pauseFor(event.name(), BULKHEAD, this.bulkheadPause);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    public boolean isPaused(final String consumer) {
+        return !this.reasons.getOrDefault(consumer, Set.of()).isEmpty();
+    }
+
+    public void pause(final String consumer, final String reason) {
+        final var active = this.reasons.computeIfAbsent(consumer, it -> ConcurrentHashMap.newKeySet());
+        synchronized (active) {
+            final var wasIdle = active.isEmpty();
+            if (active.add(reason) && wasIdle) {
+                LOG.info("Pausing CDC listeners [consumer:{}] [reason:{}]", consumer, reason);
+                containersOf(consumer).forEach(MessageListenerContainer::pause);
+            }
+        }
+    }
+
+    public void pauseFor(final String consumer, final String reason, final long millis) {
+        pause(consumer, reason);
+        final var key = consumer + ":" + reason;
+        final var next = this.executor.schedule(() -> resume(consumer, reason), millis, TimeUnit.MILLISECONDS);
+        final var previous = this.resumes.put(key, next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    public void resume(final String consumer, final String reason) {
+        final var active = this.reasons.get(consumer);
+        if (active == null) {
+            return;
+        }
+
+        synchronized (active) {
+            if (active.remove(reason) && active.isEmpty()) {
+                LOG.info("Resuming CDC listeners [consumer:{}] [reason:{}]", consumer, reason);
+                containersOf(consumer).forEach(MessageListenerContainer::resume);
+            }
+        }
+    }
+
+    private List<MessageListenerContainer> containersOf(final String consumer) {
+        final var id = this.properties.consumer(consumer).id();
+        if (id == null) {
+            return List.of();
+        }
+
+        return this.registry.getListenerContainers().stream()
+                .filter(container -> container.getListenerId() != null && container.getListenerId().startsWith(id))
+                .toList();
+    }
+}
@@ -0,0 +1,184 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class ListenerConcurrencyAutoscaler implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListenerConcurrencyAutoscaler.class);
+    private static final String BATCH_SUFFIX = "-batch";
+    private static final long ADMIN_TIMEOUT_MS = 5_000;
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final KafkaAdmin kafkaAdmin;
+    private final KafkaProperties properties;
+    private final Map<String, ScalingState> states;
+    private Admin admin;
+
+    public ListenerConcurrencyAutoscaler(
+            final KafkaListenerEndpointRegistry registry,
+            final KafkaAdmin kafkaAdmin,
+            final KafkaProperties properties) {
+        this.registry = Objects.requireNonNull(registry);
+        this.kafkaAdmin = Objects.requireNonNull(kafkaAdmin);
+        this.properties = Objects.requireNonNull(properties);
+        this.states = new ConcurrentHashMap<>();
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.autoscaling.interval}", initialDelayString = "${kafka.autoscaling.interval}")
+    public void rescale() {
+        this.properties.consumers().values().stream()
+                .filter(consumer -> consumer.autoscaling().enabled())
+                .forEach(this::rescale);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.admin != null) {
+            this.admin.close();
+        }
+    }
+
+    private void rescale(final KafkaConsumerProperties consumer) {
+        Stream.of(consumer.id(), consumer.id() + BATCH_SUFFIX)
+                .map(this.registry::getListenerContainer)
+                .filter(ConcurrentMessageListenerContainer.class::isInstance)
+                .map(container -> (ConcurrentMessageListenerContainer<?, ?>) container)
+                .filter(MessageListenerContainer::isRunning)
+                .forEach(container -> rescale(container, consumer.autoscaling()));
+    }
+
+    private void rescale(final ConcurrentMessageListenerContainer<?, ?> container, final KafkaConsumerProperties.Autoscaling settings) {
+        final var id = container.getListenerId();
+
+        final Lag lag;
+        try {
+            lag = lagOf(container);
+        } catch (final Exception ex) {
+            LOG.warn("Unable to measure consumer lag [id:{}]", id, ex);
+            return;
+        }
+
+        final var current = container.getConcurrency();
+        final var target = this.states.computeIfAbsent(id, key -> new ScalingState())
+                .next(current, lag.total(), lag.partitions(), settings, System.currentTimeMillis());
+
+        LOG.debug("Consumer lag measured [id:{}] [lag:{}] [partitions:{}] [concurrency:{}]", id, lag.total(), lag.partitions(), current);
+
+        if (target != current) {
+            LOG.info("Resizing listener concurrency [id:{}] [lag:{}] [from:{}] [to:{}]", id, lag.total(), current, target);
+            container.stop(() -> {
+                container.setConcurrency(target);
+                container.start();
+            });
+        }
+    }
+
+    private Lag lagOf(final ConcurrentMessageListenerContainer<?, ?> container) throws Exception {
+        final var admin = admin();
+        final var topics = List.of(Objects.requireNonNull(container.getContainerProperties().getTopics()));
+
+        final var committed = admin.listConsumerGroupOffsets(container.getGroupId())
+                .partitionsToOffsetAndMetadata()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        final var partitions = admin.describeTopics(topics)
+                .allTopicNames()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                .values().stream()
+                .flatMap(topic -> topic.partitions().stream().map(it -> new TopicPartition(topic.name(), it.partition())))
+                .toList();
+
+        final var latest = admin.listOffsets(partitions.stream().collect(Collectors.toMap(Function.identity(), it -> OffsetSpec.latest())))
+                .all()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        var total = 0L;
+        for (final var partition : partitions) {
+            final var offset = committed.get(partition);
+            if (offset != null && latest.containsKey(partition)) {
+                total += Math.max(0, latest.get(partition).offset() - offset.offset());
+            }
+        }
+        return new Lag(total, partitions.size());
+    }
+
+    private synchronized Admin admin() {
+        if (this.admin == null) {
+            this.admin = Admin.create(this.kafkaAdmin.getConfigurationProperties());
+        }
+        return this.admin;
+    }
+
+    private record Lag(long total, int partitions) {}
+
+    static class ScalingState {
+
+        private int upStreak;
+        private int downStreak;
+        private long lastResize;
+
+        int next(
+                final int current,
+                final long lag,
+                final int partitions,
+                final KafkaConsumerProperties.Autoscaling settings,
+                final long now) {
+            final var lagPerConsumer = lag / Math.max(current, 1);
+            if (lagPerConsumer > settings.scaleUpLag()) {
+                this.upStreak++;
+                this.downStreak = 0;
+            } else if (lagPerConsumer < settings.scaleDownLag()) {
+                this.downStreak++;
+                this.upStreak = 0;
+            } else {
+                this.upStreak = 0;
+                this.downStreak = 0;
+            }
+
+            if (this.lastResize > 0 && now - this.lastResize < settings.cooldown()) {
+                return current;
+            }
+
+            final var upper = Math.max(settings.minConcurrency(), Math.min(settings.maxConcurrency(), partitions));
+            var target = current;
+            if (this.upStreak >= settings.stableSamples() && current < upper) {
+                final var needed = settings.scaleUpLag() > 0
+                        ? (lag + settings.scaleUpLag() - 1) / settings.scaleUpLag()
+                        : current + 1;
+                target = (int) Math.min(upper, Math.max(current + 1, needed));
+            } else if (this.downStreak >= settings.stableSamples() && current > settings.minConcurrency()) {
+                target = current - 1;
+            }
+
+            if (target != current) {
+                this.lastResize = now;
+                this.upStreak = 0;
+                this.downStreak = 0;
+            }
+            return target;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ListenerSeekRegistry {
+
+    private final Map<TopicPartition, ConsumerSeekCallback> callbacks;
+
+    public ListenerSeekRegistry() {
+        this.callbacks = new ConcurrentHashMap<>();
+    }
+
+    public void assigned(final Collection<TopicPartition> partitions, final ConsumerSeekCallback callback) {
+        partitions.forEach(partition -> this.callbacks.put(partition, callback));
+    }
+
+    public void revoked(final Collection<TopicPartition> partitions) {
+        partitions.forEach(this.callbacks::remove);
+    }
+
+    public boolean seek(final TopicPartition partition, final long offset) {
+        final var callback = this.callbacks.get(partition);
+        if (callback == null) {
+            return false;
+        }
+
+        callback.seek(partition.topic(), partition.partition(), offset);
+        return true;
+    }
+}
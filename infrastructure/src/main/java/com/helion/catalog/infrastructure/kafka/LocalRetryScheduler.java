@@ -0,0 +1,377 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.domain.exceptions.InternalErrorException;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.exceptions.ConcurrencyLimitExceededException;
+import com.helion.catalog.infrastructure.exceptions.RetryBudgetExhaustedException;
+import com.helion.catalog.infrastructure.utils.RetryBudget;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class LocalRetryScheduler implements ConsumerAwareRebalanceListener, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalRetryScheduler.class);
+    private static final String FIRST_RETRY_TOPIC_SUFFIX = "-retry-0";
+    private static final long HAND_OFF_TIMEOUT = 10_000;
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaProperties properties;
+    private final RetryBudget retryBudget;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService executor;
+    private final Map<TopicPartition, PartitionQueue> queues;
+
+    public LocalRetryScheduler(
+            final KafkaListenerEndpointRegistry registry,
+            final KafkaTemplate<String, String> kafkaTemplate,
+            final KafkaProperties properties,
+            final RetryBudget retryBudget,
+            final MeterRegistry meterRegistry) {
+        this.registry = Objects.requireNonNull(registry);
+        this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate);
+        this.properties = Objects.requireNonNull(properties);
+        this.retryBudget = Objects.requireNonNull(retryBudget);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.executor = Executors.newScheduledThreadPool(2, new CustomizableThreadFactory("cdc-local-retry-"));
+        this.queues = new ConcurrentHashMap<>();
+
+        Gauge.builder("cdc.retry.local.queued", this.queues, it -> it.values().stream().mapToInt(PartitionQueue::size).sum())
+                .description("Records waiting in the in-process retry queues")
+                .register(meterRegistry);
+    }
+
+    public void process(
+            final String consumer,
+            final ConsumerRecord<String, String> record,
+            final Acknowledgment acknowledgment,
+            final Runnable work) {
+        final var settings = this.properties.consumer(consumer);
+        if (!isMainTopic(settings, record.topic())) {
+            this.meterRegistry.counter("cdc.retry.topic", "consumer", consumer, "topic", record.topic()).increment();
+            if (!this.retryBudget.tryAcquire(consumer)) {
+                LOG.warn("Retry budget exhausted, skipping retry stage [topic:{}] [partition:{}] [offset:{}]",
+                        record.topic(), record.partition(), record.offset());
+                throw RetryBudgetExhaustedException.with(consumer);
+            }
+            work.run();
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        if (!settings.retry().enabled() || settings.retry().attempts() < 1) {
+            work.run();
+            this.retryBudget.deposit();
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        final var partition = new TopicPartition(record.topic(), record.partition());
+        final var queue = this.queues.computeIfAbsent(partition, it -> new PartitionQueue(consumer, partition));
+
+        if (!queue.isEmpty()) {
+            enqueue(queue, new Task(record, acknowledgment, work, 0, System.currentTimeMillis()));
+            return;
+        }
+
+        try {
+            work.run();
+            this.retryBudget.deposit();
+            acknowledgment.acknowledge();
+        } catch (final RuntimeException ex) {
+            if (!isTransient(ex) || !this.retryBudget.tryAcquire(consumer)) {
+                throw ex;
+            }
+
+            LOG.warn("Scheduling local retry [topic:{}] [partition:{}] [offset:{}] [attempt:1]: {}",
+                    partition.topic(), partition.partition(), record.offset(), ex.getMessage());
+            this.meterRegistry.counter("cdc.retry.local", "consumer", consumer, "outcome", "scheduled").increment();
+            enqueue(queue, new Task(record, acknowledgment, work, 1, System.currentTimeMillis() + delayOf(settings.retry(), 1)));
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(final Consumer<?, ?> consumer, final Collection<TopicPartition> partitions) {
+        partitions.forEach(partition -> {
+            final var queue = this.queues.remove(partition);
+            if (queue != null) {
+                discard(queue, "revoked");
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        this.executor.shutdownNow();
+        this.queues.values().forEach(queue -> discard(queue, "shutdown"));
+        this.queues.clear();
+    }
+
+    private void enqueue(final PartitionQueue queue, final Task task) {
+        final var capacity = this.properties.consumer(queue.consumer()).retry().queueCapacity();
+        final boolean schedule;
+        synchronized (queue) {
+            queue.tasks().addLast(task);
+            schedule = !queue.scheduled;
+            queue.scheduled = true;
+
+            if (!queue.paused && capacity > 0 && queue.tasks().size() >= capacity) {
+                queue.paused = true;
+                pause(queue, true);
+            }
+        }
+
+        if (schedule) {
+            this.executor.schedule(() -> drain(queue), Math.max(0, task.dueAt - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drain(final PartitionQueue queue) {
+        final var settings = this.properties.consumer(queue.consumer()).retry();
+
+        while (true) {
+            final Task head;
+            synchronized (queue) {
+                head = queue.tasks().peekFirst();
+                if (head == null || queue.revoked) {
+                    queue.scheduled = false;
+                    resumeIfPaused(queue, settings);
+                    return;
+                }
+            }
+
+            final var wait = head.dueAt - System.currentTimeMillis();
+            if (wait > 0) {
+                this.executor.schedule(() -> drain(queue), wait, TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            if (!head.handingOff) {
+                try {
+                    head.work.run();
+                    this.retryBudget.deposit();
+                    if (head.attempt > 0) {
+                        this.meterRegistry.counter("cdc.retry.local", "consumer", queue.consumer(), "outcome", "recovered").increment();
+                    }
+                    complete(queue, head);
+                    continue;
+                } catch (final RuntimeException ex) {
+                    if (isTransient(ex) && head.attempt < settings.attempts() && this.retryBudget.tryAcquire(queue.consumer())) {
+                        head.attempt++;
+                        head.dueAt = System.currentTimeMillis() + delayOf(settings, head.attempt);
+                        LOG.warn("Scheduling local retry [topic:{}] [partition:{}] [offset:{}] [attempt:{}]: {}",
+                                queue.partition().topic(), queue.partition().partition(), head.offset(), head.attempt, ex.getMessage());
+                        this.meterRegistry.counter("cdc.retry.local", "consumer", queue.consumer(), "outcome", "scheduled").increment();
+                        continue;
+                    }
+
+                    head.handingOff = true;
+                    head.cause = ex;
+                }
+            }
+
+            if (handOff(queue, head)) {
+                complete(queue, head);
+            } else {
+                head.dueAt = System.currentTimeMillis() + delayOf(settings, Math.max(1, settings.attempts()));
+            }
+        }
+    }
+
+    private void complete(final PartitionQueue queue, final Task task) {
+        synchronized (queue) {
+            if (queue.revoked || queue.tasks().peekFirst() != task) {
+                return;
+            }
+            queue.tasks().pollFirst();
+            task.acknowledgment.acknowledge();
+            resumeIfPaused(queue, this.properties.consumer(queue.consumer()).retry());
+        }
+    }
+
+    private boolean handOff(final PartitionQueue queue, final Task task) {
+        final var retryTopic = queue.partition().topic() + FIRST_RETRY_TOPIC_SUFFIX;
+        final var record = new ProducerRecord<>(retryTopic, null, task.record.key(), task.record.value(), new RecordHeaders(task.record.headers().toArray()));
+        try {
+            this.kafkaTemplate.send(record).get(HAND_OFF_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (final ExecutionException | TimeoutException ex) {
+            LOG.error("Failed to hand off to retry topic, keeping record queued [topic:{}] [offset:{}]", retryTopic, task.offset(), ex);
+            this.meterRegistry.counter("cdc.retry.local", "consumer", queue.consumer(), "outcome", "hand-off-failed").increment();
+            return false;
+        }
+
+        LOG.warn("Local retries exhausted, handed off to retry topic [topic:{}] [offset:{}] [attempts:{}]",
+                retryTopic, task.offset(), task.attempt, task.cause);
+        this.meterRegistry.counter("cdc.retry.local", "consumer", queue.consumer(), "outcome", "exhausted").increment();
+        return true;
+    }
+
+    private void discard(final PartitionQueue queue, final String reason) {
+        synchronized (queue) {
+            queue.revoked = true;
+            if (queue.tasks().isEmpty()) {
+                return;
+            }
+
+            LOG.info("Discarding unacknowledged local retries, records will be redelivered [topic:{}] [partition:{}] [queued:{}] [reason:{}]",
+                    queue.partition().topic(), queue.partition().partition(), queue.tasks().size(), reason);
+            queue.tasks().clear();
+            if (queue.paused) {
+                queue.paused = false;
+                pause(queue, false);
+            }
+        }
+    }
+
+    private void resumeIfPaused(final PartitionQueue queue, final KafkaConsumerProperties.Retry settings) {
+        if (queue.paused && queue.tasks().size() < Math.max(1, settings.queueCapacity() / 2)) {
+            queue.paused = false;
+            pause(queue, false);
+        }
+    }
+
+    private void pause(final PartitionQueue queue, final boolean pause) {
+        final var container = this.registry.getListenerContainer(this.properties.consumer(queue.consumer()).id());
+        if (container == null) {
+            return;
+        }
+
+        LOG.info("{} partition for local retries [topic:{}] [partition:{}] [queued:{}]",
+                pause ? "Pausing" : "Resuming", queue.partition().topic(), queue.partition().partition(), queue.tasks().size());
+        if (pause) {
+            container.pausePartition(queue.partition());
+        } else {
+            container.resumePartition(queue.partition());
+        }
+    }
+
+    private static boolean isMainTopic(final KafkaConsumerProperties settings, final String topic) {
+        return settings.topics() != null && Arrays.stream(settings.topics().split(","))
+                .map(String::trim)
+                .anyMatch(topic::equals);
+    }
+
+    static long delayOf(final KafkaConsumerProperties.Retry settings, final int attempt) {
+        final var exponential = settings.initialDelay() * Math.pow(settings.multiplier(), attempt - 1);
+        final var delay = (long) Math.min(settings.maxDelay(), exponential);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    static boolean isTransient(final Throwable ex) {
+        Throwable current = ex;
+        while (current != null) {
+            if (current instanceof InternalErrorException
+                    || current instanceof ResourceAccessException
+                    || current instanceof CallNotPermittedException
+                    || current instanceof BulkheadFullException
+                    || current instanceof ConcurrencyLimitExceededException
+                    || current instanceof TimeoutException
+                    || current instanceof IOException) {
+                return true;
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return false;
+    }
+
+    private static final class Task {
+
+        private final ConsumerRecord<String, String> record;
+        private final Acknowledgment acknowledgment;
+        private final Runnable work;
+        private int attempt;
+        private long dueAt;
+        private boolean handingOff;
+        private Exception cause;
+
+        private Task(
+                final ConsumerRecord<String, String> record,
+                final Acknowledgment acknowledgment,
+                final Runnable work,
+                final int attempt,
+                final long dueAt) {
+            this.record = record;
+            this.acknowledgment = acknowledgment;
+            this.work = work;
+            this.attempt = attempt;
+            this.dueAt = dueAt;
+        }
+
+        private long offset() {
+            return record.offset();
+        }
+    }
+
+    private static final class PartitionQueue {
+
+        private final String consumer;
+        private final TopicPartition partition;
+        private final Deque<Task> tasks;
+        private boolean scheduled;
+        private boolean paused;
+        private boolean revoked;
+
+        private PartitionQueue(final String consumer, final TopicPartition partition) {
+            this.consumer = consumer;
+            this.partition = partition;
+            this.tasks = new ArrayDeque<>();
+        }
+
+        private String consumer() {
+            return consumer;
+        }
+
+        private TopicPartition partition() {
+            return partition;
+        }
+
+        private Deque<Task> tasks() {
+            return tasks;
+        }
+
+        private synchronized boolean isEmpty() {
+            return tasks.isEmpty();
+        }
+
+        private synchronized int size() {
+            return tasks.size();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+public class MultiplexedCdcListener implements ConsumerSeekAware, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MultiplexedCdcListener.class);
+
+    public static final String CONSUMER = "multiplexed";
+
+    private final Map<String, CdcMessageHandler<?>> handlers;
+    private final BatchMessageProcessor batchMessageProcessor;
+    private final BulkAckCoordinator ackCoordinator;
+    private final ListenerSeekRegistry seekRegistry;
+    private final ExecutorService workers;
+
+    public MultiplexedCdcListener(
+            final List<CdcMessageHandler<?>> handlers,
+            final BatchMessageProcessor batchMessageProcessor,
+            final BulkAckCoordinator ackCoordinator,
+            final ListenerSeekRegistry seekRegistry,
+            final KafkaProperties properties) {
+        this.batchMessageProcessor = Objects.requireNonNull(batchMessageProcessor);
+        this.ackCoordinator = Objects.requireNonNull(ackCoordinator);
+        this.seekRegistry = Objects.requireNonNull(seekRegistry);
+        this.handlers = new LinkedHashMap<>();
+        handlers.forEach(handler -> topicsOf(properties, handler).forEach(topic -> this.handlers.put(topic, handler)));
+        this.workers = Executors.newFixedThreadPool(
+                Math.max(1, properties.consumer(CONSUMER).batch().workers()),
+                new CustomizableThreadFactory("cdc-multiplexed-worker-"));
+    }
+
+    @KafkaListener(
+            concurrency = "${kafka.consumers.multiplexed.concurrency}",
+            containerFactory = "kafkaListenerFactory",
+            id = "${kafka.consumers.multiplexed.id}-batch",
+            topics = "#{'${kafka.consumers.multiplexed.topics}'.split(',')}",
+            groupId = "${kafka.consumers.multiplexed.group-id}",
+            batch = "true",
+            autoStartup = "${kafka.consumers.multiplexed.batch.enabled}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.multiplexed.auto-offset-reset}",
+                    "max.poll.records=${kafka.consumers.multiplexed.batch.size}",
+                    "fetch.max.wait.ms=${kafka.consumers.multiplexed.batch.max-wait}",
+                    "fetch.min.bytes=${kafka.consumers.multiplexed.batch.min-bytes}",
+                    "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+            }
+    )
+    public void onBatchMessage(final List<ConsumerRecord<String, byte[]>> records, final Acknowledgment acknowledgment) {
+        try {
+            process(records);
+        } catch (final RuntimeException ex) {
+            this.ackCoordinator.flush();
+            throw ex;
+        }
+        this.ackCoordinator.acknowledge(CONSUMER, acknowledgment, records.size());
+    }
+
+    void process(final List<ConsumerRecord<String, byte[]>> records) {
+        final var groups = new LinkedHashMap<String, TopicGroup>();
+        for (final var record : records) {
+            groups.computeIfAbsent(record.topic(), TopicGroup::new).add(record);
+        }
+
+        final var futures = groups.values().stream()
+                .map(group -> CompletableFuture.supplyAsync(() -> process(group), this.workers))
+                .toList();
+
+        futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .min(Comparator.comparingInt(failure -> records.indexOf(failure.getRecord())))
+                .ifPresent(failure -> {
+                    throw failure;
+                });
+    }
+
+    @Override
+    public void onPartitionsAssigned(final Map<TopicPartition, Long> assignments, final ConsumerSeekCallback callback) {
+        this.seekRegistry.assigned(assignments.keySet(), callback);
+    }
+
+    @Override
+    public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {
+        this.seekRegistry.revoked(partitions);
+    }
+
+    @Override
+    public void destroy() {
+        this.workers.shutdown();
+    }
+
+    private BatchListenerFailedException process(final TopicGroup group) {
+        final var handler = this.handlers.get(group.topic);
+        if (handler == null) {
+            LOG.warn("No CDC handler for topic, skipping records [topic:{}] [records:{}]", group.topic, group.records.size());
+            return null;
+        }
+
+        try {
+            this.batchMessageProcessor.process(group.records, handler);
+            return null;
+        } catch (final BatchListenerFailedException ex) {
+            return ex;
+        } catch (final RuntimeException ex) {
+            return new BatchListenerFailedException(ex.getMessage(), ex, group.records.get(0));
+        }
+    }
+
+    private static List<String> topicsOf(final KafkaProperties properties, final CdcMessageHandler<?> handler) {
+        final var topics = properties.consumer(handler.consumer()).topics();
+        if (topics == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(topics.split(","))
+                .map(String::trim)
+                .filter(topic -> !topic.isEmpty())
+                .toList();
+    }
+
+    private static final class TopicGroup {
+
+        private final String topic;
+        private final List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+
+        private TopicGroup(final String topic) {
+            this.topic = topic;
+        }
+
+        private void add(final ConsumerRecord<String, byte[]> record) {
+            this.records.add(record);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.helion.catalog.domain.utils.InstantUtils.fromTimestamp;
+
+@Component
+public class StaleEventGuard {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaleEventGuard.class);
+
+    private final KafkaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public StaleEventGuard(final KafkaProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = Objects.requireNonNull(properties);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    public boolean isStale(
+            final String consumer,
+            final String id,
+            final Long updatedAt,
+            final Function<String, Optional<Instant>> indexedUpdatedAt) {
+        if (updatedAt == null || !this.properties.consumer(consumer).skipStale()) {
+            return false;
+        }
+
+        final Optional<Instant> indexed;
+        try {
+            indexed = indexedUpdatedAt.apply(id);
+        } catch (final RuntimeException ex) {
+            LOG.warn("Unable to read indexed version, fetching anyway [consumer:{}] [id:{}]", consumer, id, ex);
+            return false;
+        }
+
+        final var incoming = fromTimestamp(updatedAt);
+        if (indexed.isEmpty() || ExternalVersion.isNewer(incoming, indexed.get())) {
+            return false;
+        }
+
+        LOG.info("Skipping stale CDC event [consumer:{}] [id:{}] [event:{}] [indexed:{}]", consumer, id, incoming, indexed.get());
+        this.meterRegistry.counter("cdc.stale.skipped", "consumer", consumer).increment();
+        return true;
+    }
+}
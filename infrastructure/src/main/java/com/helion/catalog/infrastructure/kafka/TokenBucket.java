@@ -0,0 +1,47 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class TokenBucket {
+
+    private final double ratePerSecond;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(final double ratePerSecond, final int capacity) {
+        this(ratePerSecond, capacity, System::nanoTime);
+    }
+
+    TokenBucket(final double ratePerSecond, final int capacity, final LongSupplier nanoClock) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("'ratePerSecond' must be positive");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = Math.max(1, capacity);
+        this.nanoClock = nanoClock;
+        this.tokens = this.capacity;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    public void acquire() throws InterruptedException {
+        final var wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    synchronized long reserve() {
+        final var now = this.nanoClock.getAsLong();
+        this.tokens = Math.min(this.capacity, this.tokens + (now - this.refilledAt) * this.ratePerSecond / 1_000_000_000D);
+        this.refilledAt = now;
+
+        this.tokens -= 1;
+        if (this.tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-this.tokens * 1_000_000_000D / this.ratePerSecond);
+    }
+}
@@ -1,46 +1,72 @@
 package com.helion.catalog.infrastructure.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.helion.catalog.application.video.delete.DeleteVideoUseCase;
 import com.helion.catalog.application.video.save.SaveVideoUseCase;
-import com.helion.catalog.infrastructure.configuration.json.Json;
-import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
+import com.helion.catalog.domain.video.Video;
+import com.helion.catalog.domain.video.VideoGateway;
+import com.helion.catalog.infrastructure.exceptions.RetryBudgetExhaustedException;
 import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
 import com.helion.catalog.infrastructure.video.VideoClient;
 import com.helion.catalog.infrastructure.video.models.ImageResourceDTO;
 import com.helion.catalog.infrastructure.video.models.VideoDTO;
 import com.helion.catalog.infrastructure.video.models.VideoEvent;
 import com.helion.catalog.infrastructure.video.models.VideoResourceDTO;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.listener.adapter.ConsumerRecordMetadata;
 import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import static com.helion.catalog.domain.utils.InstantUtils.fromTimestamp;
+
 @Component
-public class VideoListener {
+public class VideoListener implements CdcMessageHandler<VideoEvent>, ConsumerSeekAware {
 
+    public static final String CONSUMER = "videos";
     private static final Logger LOG = LoggerFactory.getLogger(VideoListener.class);
-    private static final TypeReference<MessageValue<VideoEvent>> VIDEO_MESSAGE_TYPE = new TypeReference<>() {};
+    private static final DebeziumEnvelopeDecoder<VideoEvent> DECODER = new DebeziumEnvelopeDecoder<>(VideoEvent.class);
 
     private final SaveVideoUseCase saveVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final VideoClient videoClient;
+    private final BatchMessageProcessor batchMessageProcessor;
+    private final LocalRetryScheduler localRetryScheduler;
+    private final ListenerSeekRegistry seekRegistry;
+    private final VideoGateway indexedVideos;
+    private final StaleEventGuard staleEventGuard;
 
     public VideoListener(
             final SaveVideoUseCase saveVideoUseCase,
             final DeleteVideoUseCase deleteVideoUseCase,
-            final VideoClient videoClient) {
+            final VideoClient videoClient,
+            final BatchMessageProcessor batchMessageProcessor,
+            final LocalRetryScheduler localRetryScheduler,
+            final ListenerSeekRegistry seekRegistry,
+            final VideoGateway indexedVideos,
+            final StaleEventGuard staleEventGuard) {
         this.saveVideoUseCase = Objects.requireNonNull(saveVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.videoClient = Objects.requireNonNull(videoClient);
+        this.batchMessageProcessor = Objects.requireNonNull(batchMessageProcessor);
+        this.localRetryScheduler = Objects.requireNonNull(localRetryScheduler);
+        this.seekRegistry = Objects.requireNonNull(seekRegistry);
+        this.indexedVideos = Objects.requireNonNull(indexedVideos);
+        this.staleEventGuard = Objects.requireNonNull(staleEventGuard);
     }
 
     @KafkaListener(
@@ -49,6 +75,7 @@ public class VideoListener {
             id = "${kafka.consumers.videos.id}",
             topics = "${kafka.consumers.videos.topics}",
             groupId = "${kafka.consumers.videos.group-id}",
+            autoStartup = "#{!${kafka.consumers.videos.batch.enabled} && !${kafka.consumers.multiplexed.batch.enabled}}",
             properties = {
                     "auto.offset.reset=${kafka.consumers.videos.auto-offset-reset}"
             }
@@ -56,21 +83,80 @@ public class VideoListener {
     @RetryableTopic(
            backoff = @Backoff(delay=1000, multiplier = 2),
             attempts = "4",
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = RetryBudgetExhaustedException.class
     )
-    public void onMessage(@Payload final String payload, final ConsumerRecordMetadata metadata){
+    public void onMessage(final ConsumerRecord<String, String> record, final Acknowledgment acknowledgment){
 
+        final var payload = record.value();
         if (payload == null) {
-            LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", metadata.topic(), metadata.partition(), metadata.offset());
+            LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", record.topic(), record.partition(), record.offset());
+            this.localRetryScheduler.process(CONSUMER, record, acknowledgment, () -> {});
             return;
         }
-        LOG.info("Message received from Kafka [topic:{}], [partition:{}]", metadata.topic(), metadata.partition());
-        final var messagePayload =  Json.readValue(payload, VIDEO_MESSAGE_TYPE).payload();
+        LOG.info("Message received from Kafka [topic:{}], [partition:{}]", record.topic(), record.partition());
+        this.localRetryScheduler.process(CONSUMER, record, acknowledgment, () -> handle(DECODER.decode(payload)));
+    }
+
+    @KafkaListener(
+            concurrency = "${kafka.consumers.videos.concurrency}",
+            containerFactory = "kafkaListenerFactory",
+            id = "${kafka.consumers.videos.id}-batch",
+            topics = "${kafka.consumers.videos.topics}",
+            groupId = "${kafka.consumers.videos.group-id}",
+            batch = "true",
+            autoStartup = "#{${kafka.consumers.videos.batch.enabled} && !${kafka.consumers.multiplexed.batch.enabled}}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.videos.auto-offset-reset}",
+                    "max.poll.records=${kafka.consumers.videos.batch.size}",
+                    "fetch.max.wait.ms=${kafka.consumers.videos.batch.max-wait}",
+                    "fetch.min.bytes=${kafka.consumers.videos.batch.min-bytes}",
+                    "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+            }
+    )
+    public void onBatchMessage(final List<ConsumerRecord<String, byte[]>> records, final Acknowledgment acknowledgment){
+        this.batchMessageProcessor.process(records, this, acknowledgment);
+    }
+
+    @Override
+    public void onPartitionsAssigned(final Map<TopicPartition, Long> assignments, final ConsumerSeekCallback callback) {
+        this.seekRegistry.assigned(assignments.keySet(), callback);
+    }
+
+    @Override
+    public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {
+        this.seekRegistry.revoked(partitions);
+    }
+
+    @Override
+    public String consumer() {
+        return CONSUMER;
+    }
+
+    @Override
+    public DebeziumEnvelopeDecoder<VideoEvent> decoder() {
+        return DECODER;
+    }
+
+    @Override
+    public boolean isUrgent(final ValuePayload<VideoEvent> message) {
+        if (Operation.isDelete(message.operation())) {
+            return true;
+        }
+
+        final var before = message.before();
+        final var after = message.after();
+        return before != null && after != null
+                && (!Objects.equals(before.published(), after.published()) || !Objects.equals(before.opened(), after.opened()));
+    }
+
+    @Override
+    public void handle(final ValuePayload<VideoEvent> messagePayload) {
         final var op = messagePayload.operation();
 
         if (Operation.isDelete(op)){
-            this.deleteVideoUseCase.execute(new DeleteVideoUseCase.Input(messagePayload.before().id()));
-        } else {
+            this.deleteVideoUseCase.execute(new DeleteVideoUseCase.Input(messagePayload.before().id(), fromTimestamp(messagePayload.before().updatedAt())));
+        } else if (!isStale(messagePayload.after())) {
 
             this.videoClient.videoOfId(messagePayload.after().id())
                     .map(it -> toUseCaseInput(it))
@@ -80,6 +166,11 @@ public class VideoListener {
         }
     }
 
+    private boolean isStale(final VideoEvent event) {
+        return this.staleEventGuard.isStale(CONSUMER, event.id(), event.updatedAt(),
+                id -> this.indexedVideos.findById(id).map(Video::updatedAt));
+    }
+
     private SaveVideoUseCase.Input toUseCaseInput(VideoDTO it) {
 
         LOG.info("Message payload [published:{}]", it.published());
@@ -106,7 +197,7 @@ public class VideoListener {
 
     @DltHandler
     public void onDltMessage(@Payload final String payload, final ConsumerRecordMetadata metadata){
-        LOG.warn("Message received from Kafka DLT [topic:{}], [partition:{}]", metadata.topic(), metadata.partition());
+        LOG.warn("Message parked in Kafka DLT for replay [topic:{}], [partition:{}] [offset:{}]", metadata.topic(), metadata.partition(), metadata.offset());
 
     }
 }
@@ -0,0 +1,37 @@
+package com.helion.catalog.infrastructure.kafka.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class CdcRecordFilterPipeline implements RecordFilterStrategy<String, Object> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CdcRecordFilterPipeline.class);
+
+    private final List<CdcRecordRule> rules;
+    private final MeterRegistry meterRegistry;
+
+    public CdcRecordFilterPipeline(final List<CdcRecordRule> rules, final MeterRegistry meterRegistry) {
+        this.rules = List.copyOf(Objects.requireNonNull(rules));
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    @Override
+    public boolean filter(final ConsumerRecord<String, Object> record) {
+        for (final var rule : this.rules) {
+            if (rule.discard(record)) {
+                LOG.debug("CDC record filtered [topic:{}] [partition:{}] [offset:{}] [reason:{}]", record.topic(), record.partition(), record.offset(), rule.reason());
+                this.meterRegistry.counter("cdc.records.filtered", "topic", record.topic(), "reason", rule.reason()).increment();
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package com.helion.catalog.infrastructure.kafka.filter;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+public interface CdcRecordRule {
+
+    String reason();
+
+    boolean discard(ConsumerRecord<String, ?> record);
+}
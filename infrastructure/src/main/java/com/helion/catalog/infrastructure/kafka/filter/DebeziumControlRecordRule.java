@@ -0,0 +1,29 @@
+package com.helion.catalog.infrastructure.kafka.filter;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(1)
+public class DebeziumControlRecordRule implements CdcRecordRule {
+
+    private static final String HEARTBEAT_TOPIC_PREFIX = "__debezium-heartbeat";
+    private static final String HEARTBEAT_KEY = "\"serverName\"";
+    private static final String SCHEMA_CHANGE_KEY = "\"databaseName\"";
+
+    @Override
+    public String reason() {
+        return "control";
+    }
+
+    @Override
+    public boolean discard(final ConsumerRecord<String, ?> record) {
+        if (record.topic().startsWith(HEARTBEAT_TOPIC_PREFIX)) {
+            return true;
+        }
+
+        final var key = record.key();
+        return key != null && (key.contains(HEARTBEAT_KEY) || key.contains(SCHEMA_CHANGE_KEY));
+    }
+}
@@ -0,0 +1,24 @@
+package com.helion.catalog.infrastructure.kafka.filter;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TombstoneRule implements CdcRecordRule {
+
+    @Override
+    public String reason() {
+        return "tombstone";
+    }
+
+    @Override
+    public boolean discard(final ConsumerRecord<String, ?> record) {
+        final var value = record.value();
+        return value == null
+                || value instanceof byte[] bytes && bytes.length == 0
+                || value instanceof String text && text.isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package com.helion.catalog.infrastructure.kafka.filter;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+@Order(2)
+public class UnexpectedTableRule implements CdcRecordRule {
+
+    private static final String TABLE_FIELD = "\"table\":\"";
+    private static final byte[] TABLE_FIELD_BYTES = TABLE_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    private final Map<String, String> tables;
+
+    public UnexpectedTableRule(final KafkaProperties properties) {
+        this.tables = new HashMap<>();
+        Objects.requireNonNull(properties).consumers().values().stream()
+                .map(consumer -> consumer.topics())
+                .filter(Objects::nonNull)
+                .flatMap(topics -> Arrays.stream(topics.split(",")))
+                .map(String::trim)
+                .filter(topic -> !topic.isEmpty())
+                .forEach(topic -> this.tables.put(topic, topic.substring(topic.lastIndexOf('.') + 1)));
+    }
+
+    @Override
+    public String reason() {
+        return "unexpected-table";
+    }
+
+    @Override
+    public boolean discard(final ConsumerRecord<String, ?> record) {
+        final var expected = expectedTable(record.topic());
+        if (expected == null) {
+            return false;
+        }
+
+        final var value = record.value();
+        if (value instanceof byte[] bytes) {
+            return !matches(bytes, expected.getBytes(StandardCharsets.UTF_8));
+        }
+        if (value instanceof String text) {
+            return !matches(text, expected);
+        }
+        return false;
+    }
+
+    private String expectedTable(final String topic) {
+        final var exact = this.tables.get(topic);
+        if (exact != null) {
+            return exact;
+        }
+
+        return this.tables.entrySet().stream()
+                .filter(entry -> topic.startsWith(entry.getKey() + "-"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    static boolean matches(final String value, final String expected) {
+        final var start = value.indexOf(TABLE_FIELD);
+        if (start < 0) {
+            return true;
+        }
+
+        final var from = start + TABLE_FIELD.length();
+        return value.startsWith(expected, from)
+                && value.length() > from + expected.length()
+                && value.charAt(from + expected.length()) == '"';
+    }
+
+    static boolean matches(final byte[] value, final byte[] expected) {
+        final var start = indexOf(value, TABLE_FIELD_BYTES);
+        if (start < 0) {
+            return true;
+        }
+
+        final var from = start + TABLE_FIELD_BYTES.length;
+        final var end = from + expected.length;
+        return end < value.length
+                && Arrays.equals(value, from, end, expected, 0, expected.length)
+                && value[end] == '"';
+    }
+
+    private static int indexOf(final byte[] source, final byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
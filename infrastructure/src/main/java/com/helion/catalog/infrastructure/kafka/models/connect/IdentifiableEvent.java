@@ -0,0 +1,6 @@
+package com.helion.catalog.infrastructure.kafka.models.connect;
+
+public interface IdentifiableEvent {
+
+    String id();
+}
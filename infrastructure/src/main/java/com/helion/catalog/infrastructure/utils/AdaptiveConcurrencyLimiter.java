@@ -0,0 +1,132 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.infrastructure.configuration.properties.ConcurrencyLimitProperties;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double tolerance;
+    private final long baselineWindow;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inflight;
+    private final Object lock = new Object();
+    private volatile double limit;
+    private long baselineRtt;
+    private long windowMinRtt;
+    private long windowStartedAt;
+
+    public AdaptiveConcurrencyLimiter(final String name, final ConcurrencyLimitProperties properties) {
+        this(name, properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(final String name, final ConcurrencyLimitProperties properties, final LongSupplier nanoClock) {
+        this.name = Objects.requireNonNull(name);
+        this.minLimit = Math.max(1, properties.minLimit());
+        this.maxLimit = Math.max(this.minLimit, properties.maxLimit());
+        this.backoffRatio = properties.backoffRatio();
+        this.tolerance = properties.tolerance();
+        this.baselineWindow = TimeUnit.MILLISECONDS.toNanos(properties.baselineWindow());
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.windowStartedAt = nanoClock.getAsLong();
+        this.inflight = new AtomicInteger();
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, properties.initialLimit()));
+    }
+
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            final var current = this.inflight.get();
+            if (current >= (int) this.limit) {
+                return Optional.empty();
+            }
+            if (this.inflight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(current + 1, this.nanoClock.getAsLong()));
+            }
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    private void onSuccess(final int inflightAtStart, final long rtt, final long completedAt) {
+        synchronized (this.lock) {
+            if (completedAt - this.windowStartedAt >= this.baselineWindow) {
+                if (this.windowMinRtt > 0) {
+                    this.baselineRtt = this.windowMinRtt;
+                }
+                this.windowMinRtt = 0;
+                this.windowStartedAt = completedAt;
+            }
+
+            final var baseline = minRtt(minRtt(this.baselineRtt, this.windowMinRtt), rtt);
+            if (rtt > baseline * this.tolerance) {
+                this.limit = Math.max(this.minLimit, this.limit * this.backoffRatio);
+            } else if (inflightAtStart * 2 >= this.limit) {
+                this.limit = Math.min(this.maxLimit, this.limit + 1);
+            }
+            this.windowMinRtt = minRtt(this.windowMinRtt, rtt);
+        }
+    }
+
+    private static long minRtt(final long current, final long sample) {
+        return current == 0 ? sample : Math.min(current, sample);
+    }
+
+    private void onDropped() {
+        synchronized (this.lock) {
+            this.limit = Math.max(this.minLimit, this.limit * this.backoffRatio);
+        }
+    }
+
+    public class Permit {
+
+        private final int inflightAtStart;
+        private final long startedAt;
+        private final AtomicBoolean released;
+
+        private Permit(final int inflightAtStart, final long startedAt) {
+            this.inflightAtStart = inflightAtStart;
+            this.startedAt = startedAt;
+            this.released = new AtomicBoolean();
+        }
+
+        public void success() {
+            if (release()) {
+                final var completedAt = nanoClock.getAsLong();
+                onSuccess(this.inflightAtStart, completedAt - this.startedAt, completedAt);
+            }
+        }
+
+        public void dropped() {
+            if (release()) {
+                onDropped();
+            }
+        }
+
+        private boolean release() {
+            if (this.released.compareAndSet(false, true)) {
+                inflight.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.helion.catalog.domain.exceptions.InternalErrorException;
+import com.helion.catalog.infrastructure.configuration.properties.RestClientProperties;
+import com.helion.catalog.infrastructure.exceptions.NotFoundException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncRestClient {
+
+    private final String nameSpace;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration readTimeout;
+    private final ObjectMapper objectMapper;
+
+    public AsyncRestClient(
+            final String nameSpace,
+            final HttpClient httpClient,
+            final RestClientProperties properties,
+            final ObjectMapper objectMapper) {
+        this.nameSpace = Objects.requireNonNull(nameSpace);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.baseUrl = Objects.requireNonNull(properties.baseUrl());
+        this.readTimeout = properties.readTimeout() > 0 ? Duration.ofMillis(properties.readTimeout()) : null;
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    public <T> CompletableFuture<T> get(final String id, final String token, final Class<T> type, final ConditionalRequests<T> conditional) {
+        final var request = HttpRequest.newBuilder(URI.create("%s/%s".formatted(this.baseUrl, URLEncoder.encode(id, StandardCharsets.UTF_8))))
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + token)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .GET();
+
+        if (this.readTimeout != null) {
+            request.timeout(this.readTimeout);
+        }
+        conditional.prepare(id, request::header);
+
+        final var sent = this.httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return Futures.propagateCancellation(sent, sent.thenApply(response -> conditional.resolve(
+                        id,
+                        response.statusCode(),
+                        response.headers().firstValue(HttpHeaders.ETAG).orElse(null),
+                        response.headers().firstValue(HttpHeaders.LAST_MODIFIED).orElse(null),
+                        () -> read(id, response, type)
+                )));
+    }
+
+    private <T> T read(final String id, final HttpResponse<byte[]> response, final Class<T> type) {
+        final var status = HttpStatusCode.valueOf(response.statusCode());
+        if (HttpStatus.NOT_FOUND.equals(status)) {
+            throw NotFoundException.with("Not found observed from %s [resourceId: %s]".formatted(this.nameSpace, id));
+        }
+        if (status.is5xxServerError()) {
+            throw InternalErrorException.with("Error observed from %s [resourceId: %s] [status: %s]".formatted(this.nameSpace, id, status.value()));
+        }
+        if (!status.is2xxSuccessful()) {
+            throw InternalErrorException.with("Unhandled error observed from %s [resourceId: %s] [status: %s]".formatted(this.nameSpace, id, status.value()));
+        }
+
+        try {
+            return this.objectMapper.readValue(response.body(), type);
+        } catch (final IOException ex) {
+            throw InternalErrorException.with("Unhandled error observed from %s [resourceId: %s]".formatted(this.nameSpace, id), ex);
+        }
+    }
+}
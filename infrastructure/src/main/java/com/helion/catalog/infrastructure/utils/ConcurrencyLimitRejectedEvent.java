@@ -0,0 +1,4 @@
+package com.helion.catalog.infrastructure.utils;
+
+public record ConcurrencyLimitRejectedEvent(String name, int limit) {
+}
@@ -0,0 +1,79 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.infrastructure.configuration.properties.ConcurrencyLimitProperties;
+import com.helion.catalog.infrastructure.exceptions.ConcurrencyLimitExceededException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class ConcurrencyLimiters {
+
+    private final ConcurrencyLimitProperties properties;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters;
+
+    public ConcurrencyLimiters(
+            final ConcurrencyLimitProperties properties,
+            final BulkheadRegistry bulkheadRegistry,
+            final MeterRegistry meterRegistry,
+            final ApplicationEventPublisher eventPublisher) {
+        this.properties = Objects.requireNonNull(properties);
+        this.bulkheadRegistry = Objects.requireNonNull(bulkheadRegistry);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.limiters = new ConcurrentHashMap<>();
+    }
+
+    public <T> T execute(final String name, final Supplier<T> call) {
+        if (!this.properties.enabled()) {
+            return Bulkhead.decorateSupplier(this.bulkheadRegistry.bulkhead(name), call).get();
+        }
+
+        final var permit = acquire(name);
+        try {
+            final var result = call.get();
+            permit.success();
+            return result;
+        } catch (final RuntimeException ex) {
+            permit.dropped();
+            throw ex;
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter limiter(final String name) {
+        return this.limiters.computeIfAbsent(name, it -> {
+            final var limiter = new AdaptiveConcurrencyLimiter(it, this.properties);
+            Gauge.builder("rest.client.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                    .tag("namespace", it)
+                    .register(this.meterRegistry);
+            Gauge.builder("rest.client.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::inflight)
+                    .tag("namespace", it)
+                    .register(this.meterRegistry);
+            return limiter;
+        });
+    }
+
+    private AdaptiveConcurrencyLimiter.Permit acquire(final String name) {
+        final var limiter = limiter(name);
+        return limiter.tryAcquire().orElseThrow(() -> {
+            Counter.builder("rest.client.concurrency.rejected")
+                    .tag("namespace", name)
+                    .register(this.meterRegistry)
+                    .increment();
+            this.eventPublisher.publishEvent(new ConcurrencyLimitRejectedEvent(name, limiter.limit()));
+            return ConcurrencyLimitExceededException.with(name, limiter.limit());
+        });
+    }
+}
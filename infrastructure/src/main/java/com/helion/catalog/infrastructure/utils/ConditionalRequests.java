@@ -0,0 +1,107 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.domain.exceptions.InternalErrorException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+public class ConditionalRequests<V> {
+
+    static final String MISS = "miss";
+    static final String REVALIDATED = "revalidated";
+    static final String MODIFIED = "modified";
+
+    private final String nameSpace;
+    private final int maxEntries;
+    private final Map<String, Validated<V>> entries;
+    private final Counter misses;
+    private final Counter revalidated;
+    private final Counter modified;
+
+    public ConditionalRequests(final String nameSpace, final int maxEntries, final MeterRegistry meterRegistry) {
+        this.nameSpace = Objects.requireNonNull(nameSpace);
+        this.maxEntries = maxEntries;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Validated<V>> eldest) {
+                return size() > ConditionalRequests.this.maxEntries;
+            }
+        });
+        this.misses = counter(meterRegistry, MISS);
+        this.revalidated = counter(meterRegistry, REVALIDATED);
+        this.modified = counter(meterRegistry, MODIFIED);
+    }
+
+    public void prepare(final String id, final BiConsumer<String, String> header) {
+        if (this.maxEntries <= 0) {
+            return;
+        }
+
+        final var previous = this.entries.get(id);
+        if (previous == null) {
+            return;
+        }
+        if (previous.etag() != null) {
+            header.accept(HttpHeaders.IF_NONE_MATCH, previous.etag());
+        }
+        if (previous.lastModified() != null) {
+            header.accept(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+        }
+    }
+
+    public V resolve(final String id, final ResponseEntity<V> response) {
+        final var headers = response.getHeaders();
+        return resolve(
+                id,
+                response.getStatusCode().value(),
+                headers.getFirst(HttpHeaders.ETAG),
+                headers.getFirst(HttpHeaders.LAST_MODIFIED),
+                response::getBody
+        );
+    }
+
+    public V resolve(final String id, final int status, final String etag, final String lastModified, final Supplier<V> body) {
+        final var previous = this.maxEntries > 0 ? this.entries.get(id) : null;
+
+        if (status == HttpStatus.NOT_MODIFIED.value()) {
+            if (previous == null) {
+                throw InternalErrorException.with("Unexpected not modified observed from %s [resourceId: %s]".formatted(this.nameSpace, id));
+            }
+            this.revalidated.increment();
+            return previous.value();
+        }
+
+        final var value = body.get();
+        if (previous == null) {
+            this.misses.increment();
+        } else {
+            this.modified.increment();
+        }
+
+        if (this.maxEntries > 0 && value != null && (etag != null || lastModified != null)) {
+            this.entries.put(id, new Validated<>(etag, lastModified, value));
+        } else if (previous != null) {
+            this.entries.remove(id);
+        }
+        return value;
+    }
+
+    private Counter counter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("rest.client.cache.lookups")
+                .tag("namespace", this.nameSpace)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    record Validated<V>(String etag, String lastModified, V value) {
+    }
+}
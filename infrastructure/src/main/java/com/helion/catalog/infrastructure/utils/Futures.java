@@ -0,0 +1,18 @@
+package com.helion.catalog.infrastructure.utils;
+
+import java.util.concurrent.CompletableFuture;
+
+public final class Futures {
+
+    private Futures() {
+    }
+
+    public static <T> CompletableFuture<T> propagateCancellation(final CompletableFuture<?> source, final CompletableFuture<T> dependent) {
+        dependent.whenComplete((value, t) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+}
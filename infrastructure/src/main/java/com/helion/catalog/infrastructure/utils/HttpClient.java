@@ -10,7 +10,10 @@ import org.springframework.web.client.RestClient.ResponseSpec.ErrorHandler;
 
 import java.net.http.HttpConnectTimeoutException;
 import java.net.http.HttpTimeoutException;
+import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -44,6 +47,31 @@ public interface HttpClient {
         }
     }
 
+    default <T> CompletableFuture<Optional<T>> doGetAsync(final String id, final Supplier<CompletableFuture<T>> fn){
+        final CompletableFuture<T> response;
+        try {
+            response = fn.get();
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(handleAsyncThrowable(id, t));
+        }
+
+        final var result = new CompletableFuture<Optional<T>>();
+        response.whenComplete((value, t) -> {
+            if (t == null) {
+                result.complete(Optional.ofNullable(value));
+                return;
+            }
+
+            final var cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            if (cause instanceof NotFoundException) {
+                result.complete(Optional.empty());
+            } else {
+                result.completeExceptionally(handleAsyncThrowable(id, cause));
+            }
+        });
+        return Futures.propagateCancellation(response, result);
+    }
+
     private InternalErrorException  handleResourceAccessException(String id, ResourceAccessException ex) {
         final var cause = ExceptionUtils.getRootCause(ex);
 
@@ -56,6 +84,22 @@ public interface HttpClient {
         return InternalErrorException.with("Error observed from %s [resourceId: %s]".formatted(nameSpace(), id), ex);
     }
 
+    private InternalErrorException handleAsyncThrowable(final String id, final Throwable t) {
+        if (t instanceof InternalErrorException ex) {
+            return ex;
+        }
+        if (t instanceof HttpConnectTimeoutException) {
+            return InternalErrorException.with("ConnectTimeout observed from %s [resourceId: %s]".formatted(nameSpace(), id), t);
+        }
+        if (t instanceof HttpTimeoutException || t instanceof TimeoutException) {
+            return InternalErrorException.with("Timeout observed from %s [resourceId: %s]".formatted(nameSpace(), id), t);
+        }
+        if (t instanceof IOException) {
+            return InternalErrorException.with("Error observed from %s [resourceId: %s]".formatted(nameSpace(), id), t);
+        }
+        return InternalErrorException.with("Unhandled error observed from %s [resourceId: %s]".formatted(nameSpace(), id), t);
+    }
+
     private InternalErrorException handleThrowable(final String id, final Throwable t) {
         if (t instanceof InternalErrorException ex) {
             return  ex;
@@ -0,0 +1,132 @@
+package com.helion.catalog.infrastructure.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+public class InstrumentedHttpClient extends HttpClient {
+
+    private final String nameSpace;
+    private final HttpClient delegate;
+    private final MeterRegistry meterRegistry;
+
+    public InstrumentedHttpClient(final String nameSpace, final HttpClient delegate, final MeterRegistry meterRegistry) {
+        this.nameSpace = Objects.requireNonNull(nameSpace);
+        this.delegate = Objects.requireNonNull(delegate);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(final HttpRequest request, final HttpResponse.BodyHandler<T> responseBodyHandler) throws IOException, InterruptedException {
+        final var start = System.nanoTime();
+        try {
+            final var response = this.delegate.send(request, responseBodyHandler);
+            recordExchange(response, start);
+            return response;
+        } catch (final IOException ex) {
+            recordFailure(ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(final HttpRequest request, final HttpResponse.BodyHandler<T> responseBodyHandler) {
+        return sendAsync(request, responseBodyHandler, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            final HttpRequest request,
+            final HttpResponse.BodyHandler<T> responseBodyHandler,
+            final HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        final var start = System.nanoTime();
+        final var sent = this.delegate.sendAsync(request, responseBodyHandler, pushPromiseHandler);
+        return Futures.propagateCancellation(sent, sent.whenComplete((response, t) -> {
+            if (response != null) {
+                recordExchange(response, start);
+            } else if (t != null) {
+                recordFailure(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+            }
+        }));
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return this.delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return this.delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return this.delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return this.delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return this.delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return this.delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return this.delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return this.delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return this.delegate.executor();
+    }
+
+    private void recordExchange(final HttpResponse<?> response, final long start) {
+        Timer.builder("rest.client.exchange")
+                .tag("namespace", this.nameSpace)
+                .tag("version", response.version().name())
+                .tag("status", String.valueOf(response.statusCode()))
+                .register(this.meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordFailure(final Throwable t) {
+        Counter.builder("rest.client.connection.errors")
+                .tag("namespace", this.nameSpace)
+                .tag("reason", t instanceof HttpConnectTimeoutException ? "connect-timeout" : t.getClass().getSimpleName())
+                .register(this.meterRegistry)
+                .increment();
+    }
+}
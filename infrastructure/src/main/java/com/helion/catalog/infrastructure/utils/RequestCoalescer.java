@@ -0,0 +1,124 @@
+package com.helion.catalog.infrastructure.utils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class RequestCoalescer<K, V> implements AutoCloseable {
+
+    private final long window;
+    private final int maxBatch;
+    private final Function<K, V> loader;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+    private final DistributionSummary batchSize;
+    private final Timer latency;
+    private final Object lock = new Object();
+    private Map<K, CompletableFuture<V>> pending;
+
+    public RequestCoalescer(
+            final String name,
+            final long window,
+            final int maxBatch,
+            final Function<K, V> loader,
+            final MeterRegistry meterRegistry) {
+        this.window = window;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.loader = Objects.requireNonNull(loader);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("rest-%s-coalescer-".formatted(name)));
+        this.workers = Executors.newCachedThreadPool(new CustomizableThreadFactory("rest-%s-fetch-".formatted(name)));
+        this.batchSize = DistributionSummary.builder("rest.client.coalesced.batch.size")
+                .tag("client", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.latency = Timer.builder("rest.client.coalesced.latency")
+                .tag("client", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.pending = new LinkedHashMap<>();
+    }
+
+    public V get(final K key) {
+        if (this.window <= 0) {
+            return this.loader.apply(key);
+        }
+
+        final var start = System.nanoTime();
+        final CompletableFuture<V> future;
+        final boolean full;
+        synchronized (this.lock) {
+            final var existing = this.pending.get(key);
+            if (existing != null) {
+                future = existing;
+                full = false;
+            } else {
+                future = new CompletableFuture<>();
+                if (this.pending.isEmpty()) {
+                    this.scheduler.schedule(this::flush, this.window, TimeUnit.MILLISECONDS);
+                }
+                this.pending.put(key, future);
+                full = this.pending.size() >= this.maxBatch;
+            }
+        }
+
+        if (full) {
+            flush();
+        }
+
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            throw rethrow(ex.getCause() != null ? ex.getCause() : ex);
+        } finally {
+            this.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void flush() {
+        final Map<K, CompletableFuture<V>> batch;
+        synchronized (this.lock) {
+            if (this.pending.isEmpty()) {
+                return;
+            }
+            batch = this.pending;
+            this.pending = new LinkedHashMap<>();
+        }
+
+        this.batchSize.record(batch.size());
+        batch.forEach((key, future) -> this.workers.execute(() -> {
+            try {
+                future.complete(this.loader.apply(key));
+            } catch (final Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }));
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdown();
+        this.workers.shutdown();
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException ex) {
+            return ex;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(t);
+    }
+}
@@ -0,0 +1,185 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.infrastructure.configuration.properties.RestClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class RequestHedger implements AutoCloseable {
+
+    private static final int WINDOW = 1_000;
+    private static final int REFRESH_EVERY = 50;
+    private static final double MAX_TOKENS = 10;
+
+    private final RestClientProperties.Hedge properties;
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService scheduler;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter skipped;
+    private final long[] samples;
+    private int count;
+    private int next;
+    private int sinceRefresh;
+    private long delay = -1;
+    private double tokens;
+
+    public RequestHedger(final String name, final RestClientProperties.Hedge properties, final MeterRegistry meterRegistry) {
+        this(name, properties, meterRegistry, System::nanoTime);
+    }
+
+    RequestHedger(final String name, final RestClientProperties.Hedge properties, final MeterRegistry meterRegistry, final LongSupplier nanoClock) {
+        this.properties = Objects.requireNonNull(properties);
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("rest-%s-hedge-".formatted(name)));
+        this.sent = counter(meterRegistry, "rest.client.hedge.sent", name);
+        this.won = counter(meterRegistry, "rest.client.hedge.won", name);
+        this.skipped = counter(meterRegistry, "rest.client.hedge.skipped", name);
+        this.samples = new long[WINDOW];
+    }
+
+    public boolean enabled() {
+        return this.properties.enabled();
+    }
+
+    public <T> T execute(final Supplier<CompletableFuture<T>> attempt) {
+        try {
+            return hedge(attempt).join();
+        } catch (final CompletionException ex) {
+            throw rethrow(ex.getCause() != null ? ex.getCause() : ex);
+        }
+    }
+
+    public <T> CompletableFuture<T> hedge(final Supplier<CompletableFuture<T>> attempt) {
+        if (!enabled()) {
+            return attempt.get();
+        }
+
+        final var delay = deposit();
+        final var start = this.nanoClock.getAsLong();
+        final var result = new CompletableFuture<T>();
+        final var attempts = new CopyOnWriteArrayList<CompletableFuture<T>>();
+        final var running = new AtomicInteger(1);
+
+        join(result, start(attempt), false, attempts, running, start);
+
+        if (delay >= 0 && !result.isDone()) {
+            final var hedge = this.scheduler.schedule(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (!withdraw()) {
+                    this.skipped.increment();
+                    return;
+                }
+
+                this.sent.increment();
+                running.incrementAndGet();
+                join(result, start(attempt), true, attempts, running, start);
+            }, delay, TimeUnit.NANOSECONDS);
+            result.whenComplete((value, t) -> hedge.cancel(false));
+        }
+
+        result.whenComplete((value, t) -> attempts.forEach(it -> it.cancel(true)));
+        return result;
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+    }
+
+    private <T> void join(
+            final CompletableFuture<T> result,
+            final CompletableFuture<T> attempt,
+            final boolean hedged,
+            final List<CompletableFuture<T>> attempts,
+            final AtomicInteger running,
+            final long start) {
+        attempts.add(attempt);
+        if (result.isDone()) {
+            attempt.cancel(true);
+            return;
+        }
+
+        attempt.whenComplete((value, t) -> {
+            if (t == null) {
+                if (!result.isDone()) {
+                    attempts.stream().filter(other -> other != attempt).forEach(other -> other.cancel(true));
+                }
+                if (result.complete(value)) {
+                    record(this.nanoClock.getAsLong() - start);
+                    if (hedged) {
+                        this.won.increment();
+                    }
+                }
+            } else if (running.decrementAndGet() == 0) {
+                result.completeExceptionally(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+            }
+        });
+    }
+
+    private synchronized long deposit() {
+        this.tokens = Math.min(MAX_TOKENS, this.tokens + this.properties.budget());
+        return this.delay;
+    }
+
+    private synchronized boolean withdraw() {
+        if (this.tokens < 1) {
+            return false;
+        }
+        this.tokens -= 1;
+        return true;
+    }
+
+    private synchronized void record(final long latency) {
+        this.samples[this.next] = latency;
+        this.next = (this.next + 1) % WINDOW;
+        this.count = Math.min(WINDOW, this.count + 1);
+
+        if (this.count >= this.properties.minSamples() && (++this.sinceRefresh >= REFRESH_EVERY || this.delay < 0)) {
+            this.sinceRefresh = 0;
+            final var sorted = Arrays.copyOf(this.samples, this.count);
+            Arrays.sort(sorted);
+            final var index = (int) Math.min(sorted.length - 1, Math.ceil(this.properties.percentile() * sorted.length) - 1);
+            this.delay = Math.max(TimeUnit.MILLISECONDS.toNanos(this.properties.minDelay()), sorted[Math.max(0, index)]);
+        }
+    }
+
+    private static <T> CompletableFuture<T> start(final Supplier<CompletableFuture<T>> attempt) {
+        try {
+            return attempt.get();
+        } catch (final Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String metric, final String name) {
+        return Counter.builder(metric)
+                .tag("namespace", name)
+                .register(meterRegistry);
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException ex) {
+            return ex;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(t);
+    }
+}
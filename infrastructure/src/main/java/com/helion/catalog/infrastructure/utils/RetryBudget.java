@@ -0,0 +1,79 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.infrastructure.configuration.properties.RetryBudgetProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+public class RetryBudget {
+
+    static final String WITHDRAWN = "withdrawn";
+    static final String EXHAUSTED = "exhausted";
+
+    private final RetryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long refilledAt;
+
+    public RetryBudget(final RetryBudgetProperties properties, final MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RetryBudget(final RetryBudgetProperties properties, final MeterRegistry meterRegistry, final LongSupplier nanoClock) {
+        this.properties = Objects.requireNonNull(properties);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.tokens = Math.max(1, properties.capacity());
+        this.refilledAt = nanoClock.getAsLong();
+
+        Gauge.builder("retry.budget.tokens", this, RetryBudget::available)
+                .register(meterRegistry);
+    }
+
+    public void deposit() {
+        if (!this.properties.enabled()) {
+            return;
+        }
+
+        synchronized (this) {
+            refill();
+            this.tokens = Math.min(capacity(), this.tokens + this.properties.ratio());
+        }
+    }
+
+    public boolean tryAcquire(final String source) {
+        if (!this.properties.enabled()) {
+            return true;
+        }
+
+        final boolean acquired;
+        synchronized (this) {
+            refill();
+            acquired = this.tokens >= 1;
+            if (acquired) {
+                this.tokens -= 1;
+            }
+        }
+
+        this.meterRegistry.counter("retry.budget", "source", source, "outcome", acquired ? WITHDRAWN : EXHAUSTED).increment();
+        return acquired;
+    }
+
+    public synchronized double available() {
+        refill();
+        return this.tokens;
+    }
+
+    private void refill() {
+        final var now = this.nanoClock.getAsLong();
+        this.tokens = Math.min(capacity(), this.tokens + (now - this.refilledAt) * this.properties.minPerSecond() / 1_000_000_000D);
+        this.refilledAt = now;
+    }
+
+    private double capacity() {
+        return Math.max(1, this.properties.capacity());
+    }
+}
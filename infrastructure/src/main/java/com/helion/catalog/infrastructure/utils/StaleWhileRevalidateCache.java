@@ -0,0 +1,235 @@
+package com.helion.catalog.infrastructure.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class StaleWhileRevalidateCache implements Cache {
+
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+
+    private final Cache delegate;
+    private final long ttl;
+    private final long maxStaleness;
+    private final boolean staleWhileRevalidate;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final Set<Object> refreshing;
+    private final Map<Object, CompletableFuture<Object>> loading;
+    private final Counter served;
+    private final Counter refreshed;
+    private final Counter failed;
+
+    public StaleWhileRevalidateCache(
+            final Cache delegate,
+            final Duration ttl,
+            final Duration maxStaleness,
+            final boolean staleWhileRevalidate,
+            final Executor executor,
+            final MeterRegistry meterRegistry) {
+        this(delegate, ttl, maxStaleness, staleWhileRevalidate, executor, meterRegistry, System::nanoTime);
+    }
+
+    StaleWhileRevalidateCache(
+            final Cache delegate,
+            final Duration ttl,
+            final Duration maxStaleness,
+            final boolean staleWhileRevalidate,
+            final Executor executor,
+            final MeterRegistry meterRegistry,
+            final LongSupplier nanoClock) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.ttl = ttl.toNanos();
+        this.maxStaleness = maxStaleness.toNanos();
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.executor = Objects.requireNonNull(executor);
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.refreshing = ConcurrentHashMap.newKeySet();
+        this.loading = new ConcurrentHashMap<>();
+        this.served = Counter.builder("cache.stale.served")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+        this.refreshed = refreshCounter(meterRegistry, delegate.getName(), SUCCESS);
+        this.failed = refreshCounter(meterRegistry, delegate.getName(), FAILURE);
+    }
+
+    @Override
+    public String getName() {
+        return this.delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        final var entry = entry(key);
+        return entry != null && fresh(entry) ? new SimpleValueWrapper(entry.value()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+        final var wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        final var value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [%s]: %s".formatted(type.getName(), value));
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        final var entry = entry(key);
+        if (entry != null && fresh(entry)) {
+            return (T) entry.value();
+        }
+
+        if (entry != null && servable(entry)) {
+            if (this.staleWhileRevalidate) {
+                refresh(key, () -> CompletableFuture.supplyAsync(() -> call(key, valueLoader), this.executor));
+                this.served.increment();
+                return (T) entry.value();
+            }
+
+            try {
+                return (T) loadOnce(key, valueLoader);
+            } catch (final RuntimeException ex) {
+                this.served.increment();
+                return (T) entry.value();
+            }
+        }
+
+        if (entry != null) {
+            this.delegate.evict(key);
+        }
+        return (T) this.delegate.get(key, () -> new Entry(valueLoader.call(), this.nanoClock.getAsLong())).value();
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        this.delegate.put(key, new Entry(value, this.nanoClock.getAsLong()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        final var previous = this.delegate.putIfAbsent(key, new Entry(value, this.nanoClock.getAsLong()));
+        return previous != null ? new SimpleValueWrapper(((Entry) previous.get()).value()) : null;
+    }
+
+    @Override
+    public void evict(final Object key) {
+        this.delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        return this.delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        this.delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return this.delegate.invalidate();
+    }
+
+    private Object loadOnce(final Object key, final Callable<?> valueLoader) {
+        final var pending = new CompletableFuture<Object>();
+        final var current = this.loading.putIfAbsent(key, pending);
+        if (current != null) {
+            return current.join();
+        }
+
+        try {
+            final var value = valueLoader.call();
+            put(key, value);
+            pending.complete(value);
+            return value;
+        } catch (final Exception ex) {
+            pending.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            this.loading.remove(key, pending);
+        }
+    }
+
+    private <T> void refresh(final Object key, final Supplier<CompletableFuture<T>> valueLoader) {
+        if (!this.refreshing.add(key)) {
+            return;
+        }
+
+        start(valueLoader).whenComplete((value, t) -> {
+            if (t == null) {
+                put(key, value);
+                this.refreshed.increment();
+            } else {
+                this.failed.increment();
+            }
+            this.refreshing.remove(key);
+        });
+    }
+
+    private Entry entry(final Object key) {
+        final var wrapper = this.delegate.get(key);
+        return wrapper != null ? (Entry) wrapper.get() : null;
+    }
+
+    private boolean fresh(final Entry entry) {
+        return this.nanoClock.getAsLong() - entry.writtenAt() < this.ttl;
+    }
+
+    private boolean servable(final Entry entry) {
+        return this.nanoClock.getAsLong() - entry.writtenAt() < this.ttl + this.maxStaleness;
+    }
+
+    private static <T> CompletableFuture<T> start(final Supplier<CompletableFuture<T>> valueLoader) {
+        try {
+            return valueLoader.get();
+        } catch (final Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+
+    private static <T> T call(final Object key, final Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (final Exception ex) {
+            throw new CompletionException(new ValueRetrievalException(key, valueLoader, ex));
+        }
+    }
+
+    private static Counter refreshCounter(final MeterRegistry meterRegistry, final String name, final String result) {
+        return Counter.builder("cache.stale.refreshes")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(Object value, long writtenAt) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.helion.catalog.infrastructure.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class StaleWhileRevalidateCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Duration ttl;
+    private final Duration maxStaleness;
+    private final boolean staleWhileRevalidate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Map<String, Cache> caches;
+
+    public StaleWhileRevalidateCacheManager(
+            final CacheManager delegate,
+            final Duration ttl,
+            final Duration maxStaleness,
+            final boolean staleWhileRevalidate,
+            final int refreshThreads,
+            final MeterRegistry meterRegistry) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.ttl = Objects.requireNonNull(ttl);
+        this.maxStaleness = Objects.requireNonNull(maxStaleness);
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.caches = new ConcurrentHashMap<>();
+
+        final var threadFactory = new CustomizableThreadFactory("cache-refresh-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(refreshThreads, threadFactory);
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        final var cache = this.caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        final var target = this.delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return this.caches.computeIfAbsent(name, it -> new StaleWhileRevalidateCache(
+                target,
+                this.ttl,
+                this.maxStaleness,
+                this.staleWhileRevalidate,
+                this.executor,
+                this.meterRegistry
+        ));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.delegate.getCacheNames();
+    }
+}
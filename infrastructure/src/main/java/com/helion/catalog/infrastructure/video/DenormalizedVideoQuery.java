@@ -0,0 +1,42 @@
+package com.helion.catalog.infrastructure.video;
+
+import com.helion.catalog.application.video.list.ListVideoUseCase;
+import com.helion.catalog.domain.video.VideoSearchQuery;
+import com.helion.catalog.infrastructure.video.models.GqlVideo;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@Profile("!development")
+@ConditionalOnProperty(name = "elasticsearch.videos.denormalized", havingValue = "true")
+public class DenormalizedVideoQuery {
+
+    private final VideoElasticsearchGateway videoGateway;
+
+    public DenormalizedVideoQuery(final VideoElasticsearchGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    public List<GqlVideo> execute(final ListVideoUseCase.Input input) {
+        final var aQuery = new VideoSearchQuery(
+                input.page(),
+                input.perPage(),
+                input.terms(),
+                input.sort(),
+                input.direction(),
+                input.rating(),
+                input.launchedAt(),
+                input.castMembers(),
+                input.categories(),
+                input.genres()
+        );
+
+        return this.videoGateway.findAllDocuments(aQuery)
+                .map(GqlVideoPresenter::present)
+                .data();
+    }
+}
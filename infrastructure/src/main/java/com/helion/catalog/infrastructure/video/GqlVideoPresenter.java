@@ -1,9 +1,15 @@
 package com.helion.catalog.infrastructure.video;
 
 import com.helion.catalog.application.video.list.ListVideoUseCase;
+import com.helion.catalog.infrastructure.castmember.GqlCastMemberPresenter;
+import com.helion.catalog.infrastructure.category.GqlCategoryPresenter;
+import com.helion.catalog.infrastructure.genre.GqlGenrePresenter;
 import com.helion.catalog.infrastructure.video.models.GqlVideo;
+import com.helion.catalog.infrastructure.video.persistence.VideoDocument;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
 
 public final class GqlVideoPresenter {
 
@@ -28,10 +34,43 @@ public final class GqlVideoPresenter {
                 out.categoriesId(),
                 out.genresId(),
                 formatDate(out.createdAt()),
-                formatDate(out.updatedAt())
+                formatDate(out.updatedAt()),
+                null,
+                null,
+                null
         );
     }
 
+    public static GqlVideo present(final VideoDocument document){
+        return new GqlVideo(
+                document.id(),
+                document.title(),
+                document.description(),
+                Boolean.TRUE.equals(document.published()),
+                document.launchedAt() != null ? document.launchedAt() : 0,
+                document.rating(),
+                document.duration(),
+                Boolean.TRUE.equals(document.opened()),
+                document.trailer(),
+                document.banner(),
+                document.thumbnail(),
+                document.thumbnailHalf(),
+                document.video(),
+                document.castMembers(),
+                document.categories(),
+                document.genres(),
+                document.createdAt(),
+                document.updatedAt(),
+                presentAll(document.castMemberRefs(), GqlCastMemberPresenter::present),
+                presentAll(document.categoryRefs(), GqlCategoryPresenter::present),
+                presentAll(document.genreRefs(), GqlGenrePresenter::present)
+        );
+    }
+
+    private static <T, R> List<R> presentAll(final List<T> references, final Function<T, R> presenter) {
+        return references != null ? references.stream().map(presenter).toList() : null;
+    }
+
 
 
     private static String formatDate(final Instant date) {
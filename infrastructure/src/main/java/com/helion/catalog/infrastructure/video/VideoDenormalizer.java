@@ -0,0 +1,179 @@
+package com.helion.catalog.infrastructure.video;
+
+import com.helion.catalog.infrastructure.castmember.persistence.CastMemberDocument;
+import com.helion.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import com.helion.catalog.infrastructure.category.persistence.CategoryDocument;
+import com.helion.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
+import com.helion.catalog.infrastructure.genre.persistence.GenreDocument;
+import com.helion.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.helion.catalog.infrastructure.video.persistence.CastMemberReference;
+import com.helion.catalog.infrastructure.video.persistence.CategoryReference;
+import com.helion.catalog.infrastructure.video.persistence.GenreReference;
+import com.helion.catalog.infrastructure.video.persistence.VideoDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+@Component
+@Profile("!development")
+public class VideoDenormalizer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VideoDenormalizer.class);
+
+    private static final IndexCoordinates VIDEOS = IndexCoordinates.of("videos");
+
+    private final ElasticsearchOperations operations;
+    private final ElasticsearchBulkWriter bulkWriter;
+    private final CategoryRepository categoryRepository;
+    private final GenreRepository genreRepository;
+    private final CastMemberRepository castMemberRepository;
+    private final boolean enabled;
+    private final Relation<CategoryDocument, CategoryReference> categories;
+    private final Relation<GenreDocument, GenreReference> genres;
+    private final Relation<CastMemberDocument, CastMemberReference> castMembers;
+
+    public VideoDenormalizer(
+            final ElasticsearchOperations operations,
+            final ElasticsearchBulkWriter bulkWriter,
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final CastMemberRepository castMemberRepository,
+            @Value("${elasticsearch.videos.denormalized:false}") final boolean enabled) {
+        this.operations = Objects.requireNonNull(operations);
+        this.bulkWriter = Objects.requireNonNull(bulkWriter);
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.enabled = enabled;
+        this.categories = new Relation<>("categories", categoryRepository::findById, CategoryReference::from,
+                CategoryReference::id, VideoDocument::categoryRefs, VideoDocument::setCategoryRefs);
+        this.genres = new Relation<>("genres", genreRepository::findById, GenreReference::from,
+                GenreReference::id, VideoDocument::genreRefs, VideoDocument::setGenreRefs);
+        this.castMembers = new Relation<>("cast_members", castMemberRepository::findById, CastMemberReference::from,
+                CastMemberReference::id, VideoDocument::castMemberRefs, VideoDocument::setCastMemberRefs);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public void embed(final VideoDocument document) {
+        if (!this.enabled) {
+            return;
+        }
+
+        document.setCategoryRefs(lookup(document.categories(), this.categoryRepository::findAllById, CategoryReference::from));
+        document.setGenreRefs(lookup(document.genres(), this.genreRepository::findAllById, GenreReference::from));
+        document.setCastMemberRefs(lookup(document.castMembers(), this.castMemberRepository::findAllById, CastMemberReference::from));
+    }
+
+    public void categoryChanged(final CategoryDocument document) {
+        fanOut(this.categories, document.id());
+    }
+
+    public void categoryDeleted(final String id) {
+        fanOut(this.categories, id);
+    }
+
+    public void genreChanged(final GenreDocument document) {
+        fanOut(this.genres, document.id());
+    }
+
+    public void genreDeleted(final String id) {
+        fanOut(this.genres, id);
+    }
+
+    public void castMemberChanged(final CastMemberDocument document) {
+        fanOut(this.castMembers, document.id());
+    }
+
+    public void castMemberDeleted(final String id) {
+        fanOut(this.castMembers, id);
+    }
+
+    private void fanOut(final Relation<?, ?> relation, final String id) {
+        if (!this.enabled || id == null) {
+            return;
+        }
+
+        this.bulkWriter.afterFlush(() -> propagate(relation, id));
+    }
+
+    private <D, R> void propagate(final Relation<D, R> relation, final String id) {
+        final var reference = relation.finder().apply(id).map(relation.mapper());
+        final var query = new CriteriaQuery(Criteria.where(relation.idsField()).is(id));
+        final var updated = new AtomicInteger();
+
+        try (var hits = this.operations.searchForStream(query, VideoDocument.class, VIDEOS)) {
+            this.bulkWriter.bulk(() -> hits.forEachRemaining(hit -> {
+                final var video = hit.getContent();
+                final var current = Optional.ofNullable(relation.getter().apply(video)).orElse(List.of());
+                final var refs = replace(current, id, reference.orElse(null), relation.idOf());
+                final var version = ExternalVersion.of(video.updatedAt() != null ? Instant.parse(video.updatedAt()) : null);
+                if (refs.equals(current) || version == null) {
+                    return;
+                }
+
+                relation.setter().accept(video, refs);
+                this.bulkWriter.overwrite(video.id(), video, version);
+                updated.incrementAndGet();
+            }));
+        }
+
+        LOG.info("Video references fanned out [field:{}] [id:{}] [updated:{}]", relation.idsField(), id, updated.get());
+    }
+
+    private static <R> List<R> replace(final List<R> current, final String id, final R reference, final Function<R, String> idOf) {
+        final var refs = new ArrayList<R>(current.size() + 1);
+        var replaced = false;
+        for (final var it : current) {
+            if (!id.equals(idOf.apply(it))) {
+                refs.add(it);
+            } else if (reference != null && !replaced) {
+                refs.add(reference);
+                replaced = true;
+            }
+        }
+        if (reference != null && !replaced) {
+            refs.add(reference);
+        }
+        return refs;
+    }
+
+    private static <D, R> List<R> lookup(final Set<String> ids, final Function<Set<String>, Iterable<D>> finder, final Function<D, R> mapper) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        return StreamSupport.stream(finder.apply(ids).spliterator(), false)
+                .map(mapper)
+                .toList();
+    }
+
+    private record Relation<D, R>(
+            String idsField,
+            Function<String, Optional<D>> finder,
+            Function<D, R> mapper,
+            Function<R, String> idOf,
+            Function<VideoDocument, List<R>> getter,
+            BiConsumer<VideoDocument, List<R>> setter) {}
+}
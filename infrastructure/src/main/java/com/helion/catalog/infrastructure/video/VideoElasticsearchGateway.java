@@ -4,6 +4,8 @@ import com.helion.catalog.domain.pagination.Pagination;
 import com.helion.catalog.domain.video.Video;
 import com.helion.catalog.domain.video.VideoGateway;
 import com.helion.catalog.domain.video.VideoSearchQuery;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
 import com.helion.catalog.infrastructure.video.persistence.VideoDocument;
 import com.helion.catalog.infrastructure.video.persistence.VideoRepository;
 import org.springframework.context.annotation.Profile;
@@ -14,6 +16,7 @@ import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchOperations;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -30,27 +33,35 @@ public class VideoElasticsearchGateway implements VideoGateway {
     private static final String KEYWORD = ".keyword";
     private final VideoRepository videoRepository;
     private final SearchOperations searchOperations;
+    private final ElasticsearchBulkWriter bulkWriter;
+    private final VideoDenormalizer videoDenormalizer;
 
     public VideoElasticsearchGateway(
             final VideoRepository videoRepository,
-            final SearchOperations searchOperations) {
+            final SearchOperations searchOperations,
+            final ElasticsearchBulkWriter bulkWriter,
+            final VideoDenormalizer videoDenormalizer) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
         this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.bulkWriter = Objects.requireNonNull(bulkWriter);
+        this.videoDenormalizer = Objects.requireNonNull(videoDenormalizer);
     }
 
 
     @Override
     public Video save(Video aVideo) {
-        this.videoRepository.save(VideoDocument.from(aVideo));
+        final var document = VideoDocument.from(aVideo);
+        this.videoDenormalizer.embed(document);
+        this.bulkWriter.save(aVideo.id(), document, document.version(), this.videoRepository::save);
         return aVideo;
     }
 
     @Override
-    public void deleteById(final String videoId) {
+    public void deleteById(final String videoId, final Instant updatedAt) {
         if( videoId == null || videoId.isBlank()){
             return;
         }
-        this.videoRepository.deleteById(videoId);
+        this.bulkWriter.delete(videoId, ExternalVersion.of(updatedAt), VideoDocument.class, this.videoRepository::deleteById);
     }
 
     @Override
@@ -63,6 +74,10 @@ public class VideoElasticsearchGateway implements VideoGateway {
 
     @Override
     public Pagination<Video> findAll(VideoSearchQuery aQuery) {
+        return findAllDocuments(aQuery).map(VideoDocument::toVideo);
+    }
+
+    public Pagination<VideoDocument> findAllDocuments(final VideoSearchQuery aQuery) {
 
         final var currentPage = aQuery.page();
         final var itemsPerPage = aQuery.perPage();
@@ -86,7 +101,6 @@ public class VideoElasticsearchGateway implements VideoGateway {
         final var total = res.getTotalHits();
         final var videos = res.stream()
                 .map(SearchHit::getContent)
-                .map(VideoDocument::toVideo)
                 .toList();
 
         return new Pagination<>(currentPage, itemsPerPage, total, videos);
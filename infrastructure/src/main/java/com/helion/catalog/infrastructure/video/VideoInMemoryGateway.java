@@ -7,6 +7,7 @@ import com.helion.catalog.domain.video.VideoSearchQuery;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,7 +31,7 @@ public class VideoInMemoryGateway implements VideoGateway {
     }
 
     @Override
-    public void deleteById(String genreId) {
+    public void deleteById(String genreId, Instant updatedAt) {
         if(db.containsKey(genreId)){
             this.db.remove(genreId);
         }
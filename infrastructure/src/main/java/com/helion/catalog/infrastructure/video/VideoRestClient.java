@@ -2,11 +2,18 @@ package com.helion.catalog.infrastructure.video;
 
 import com.helion.catalog.infrastructure.authentication.GetClientCredentials;
 import com.helion.catalog.infrastructure.configuration.annotations.Videos;
+import com.helion.catalog.infrastructure.configuration.properties.RestClientProperties;
+import com.helion.catalog.infrastructure.utils.AsyncRestClient;
+import com.helion.catalog.infrastructure.utils.ConcurrencyLimiters;
+import com.helion.catalog.infrastructure.utils.ConditionalRequests;
 import com.helion.catalog.infrastructure.utils.HttpClient;
+import com.helion.catalog.infrastructure.utils.RequestCoalescer;
+import com.helion.catalog.infrastructure.utils.RequestHedger;
 import com.helion.catalog.infrastructure.video.models.VideoDTO;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
@@ -15,21 +22,39 @@ import org.springframework.web.client.RestClient;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Component
-@CacheConfig(cacheNames = "admin-videos")
-public class VideoRestClient implements HttpClient, VideoClient {
+@CacheConfig(cacheNames = VideoRestClient.CACHE)
+public class VideoRestClient implements HttpClient, VideoClient, DisposableBean {
+
+    public final static String CACHE = "admin-videos";
 
     public final static String NAMESPACE = "videos";
 
     private final RestClient restClient;
 
 
+    private final AsyncRestClient asyncRestClient;
+
+    private final ConcurrencyLimiters concurrencyLimiters;
+
+    private final ConditionalRequests<VideoDTO> conditional;
+
     private final GetClientCredentials getClientCredentials;
 
-    public VideoRestClient(@Videos final RestClient restClient, final GetClientCredentials getClientCredentials) {
+    private final RequestCoalescer<String, Optional<VideoDTO>> coalescer;
+
+    private final RequestHedger hedger;
+
+    public VideoRestClient(@Videos final RestClient restClient, @Videos final AsyncRestClient asyncRestClient, @Videos final RestClientProperties properties, final GetClientCredentials getClientCredentials, final ConcurrencyLimiters concurrencyLimiters, final MeterRegistry meterRegistry) {
         this.restClient = Objects.requireNonNull(restClient);
+        this.asyncRestClient = Objects.requireNonNull(asyncRestClient);
+        this.concurrencyLimiters = Objects.requireNonNull(concurrencyLimiters);
         this.getClientCredentials = Objects.requireNonNull(getClientCredentials);
+        this.conditional = new ConditionalRequests<>(NAMESPACE, properties.validatorEntries(), meterRegistry);
+        this.coalescer = new RequestCoalescer<>(NAMESPACE, properties.coalesceWindow(), properties.coalesceMaxBatch(), this::fetch, meterRegistry);
+        this.hedger = new RequestHedger(NAMESPACE, properties.hedge(), meterRegistry);
     }
 
     @Override
@@ -38,24 +63,41 @@ public class VideoRestClient implements HttpClient, VideoClient {
     }
 
     @Override
-    @Cacheable(key="#videoId")
-    @Bulkhead(name= NAMESPACE)
+    @Cacheable(key="#videoId", sync = true)
     @CircuitBreaker(name = NAMESPACE)
     @Retry(name = NAMESPACE)
     public Optional<VideoDTO> videoOfId(String videoId) {
+        return this.concurrencyLimiters.execute(NAMESPACE, () -> this.coalescer.get(videoId));
+    }
+
+    @Override
+    public void destroy() {
+        this.coalescer.close();
+        this.hedger.close();
+    }
+
+    private Optional<VideoDTO> fetch(final String videoId) {
         final var token = this.getClientCredentials.retrieve();
+        if (this.hedger.enabled()) {
+            return this.hedger.execute(() -> fetchAsync(videoId, token));
+        }
+
         var aVideo = doGet(videoId, () ->
-                this.restClient.get()
+                this.conditional.resolve(videoId, this.restClient.get()
                         .uri("/{id}", videoId)
                         .header(HttpHeaders.AUTHORIZATION, "bearer "+token)
+                        .headers(headers -> this.conditional.prepare(videoId, headers::set))
                         .retrieve()
                         .onStatus(isNotFound, notFoundHandler(videoId))
                         .onStatus(is5xx, a5xxHandler(videoId))
-                        .body(VideoDTO.class)
+                        .toEntity(VideoDTO.class))
         );
         return aVideo;
     }
 
-
-
+    private CompletableFuture<Optional<VideoDTO>> fetchAsync(final String videoId, final String token) {
+        return doGetAsync(videoId, () ->
+                this.asyncRestClient.get(videoId, token, VideoDTO.class, this.conditional)
+        );
+    }
 }
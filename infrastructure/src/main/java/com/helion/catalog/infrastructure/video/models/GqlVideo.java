@@ -1,5 +1,10 @@
 package com.helion.catalog.infrastructure.video.models;
 
+import com.helion.catalog.infrastructure.castmember.models.GqlCastMember;
+import com.helion.catalog.infrastructure.category.models.GqlCategory;
+import com.helion.catalog.infrastructure.genre.models.GqlGenre;
+
+import java.util.List;
 import java.util.Set;
 
 public record GqlVideo(
@@ -20,6 +25,9 @@ public record GqlVideo(
         Set<String> categoriesId,
         Set<String> genresId,
         String createdAt,
-        String updatedAt
+        String updatedAt,
+        List<GqlCastMember> castMembers,
+        List<GqlCategory> categories,
+        List<GqlGenre> genres
 ) {
 }
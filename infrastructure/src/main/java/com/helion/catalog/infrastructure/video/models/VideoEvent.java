@@ -1,7 +1,20 @@
 package com.helion.catalog.infrastructure.video.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.helion.catalog.infrastructure.kafka.models.connect.IdentifiableEvent;
 
 public record VideoEvent(
-        @JsonProperty("id") String id
-) {}
+        @JsonProperty("id") String id,
+        @JsonProperty("updated_at") Long updatedAt,
+        @JsonProperty("published") Boolean published,
+        @JsonProperty("opened") Boolean opened
+) implements IdentifiableEvent {
+
+    public VideoEvent(final String id) {
+        this(id, null);
+    }
+
+    public VideoEvent(final String id, final Long updatedAt) {
+        this(id, updatedAt, null, null);
+    }
+}
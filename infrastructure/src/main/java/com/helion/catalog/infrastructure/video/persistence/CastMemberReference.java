@@ -0,0 +1,42 @@
+package com.helion.catalog.infrastructure.video.persistence;
+
+import com.helion.catalog.infrastructure.castmember.persistence.CastMemberDocument;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record CastMemberReference(
+        @Field(type = FieldType.Keyword, name = "id") String id,
+        @Field(type = FieldType.Text, name = "name") String name,
+        @Field(type = FieldType.Keyword, name = "type") String type,
+        @Field(type = FieldType.Keyword, name = "created_at") String createdAt,
+        @Field(type = FieldType.Keyword, name = "updated_at") String updatedAt
+) {
+
+    public static CastMemberReference from(final CastMemberDocument document) {
+        return new CastMemberReference(
+                document.id(),
+                document.name(),
+                document.type() != null ? document.type().name() : null,
+                formatDate(document.createdAt()),
+                formatDate(document.updatedAt())
+        );
+    }
+
+    public Map<String, Object> toParams() {
+        final var params = new LinkedHashMap<String, Object>();
+        params.put("id", id);
+        params.put("name", name);
+        params.put("type", type);
+        params.put("created_at", createdAt);
+        params.put("updated_at", updatedAt);
+        return params;
+    }
+
+    private static String formatDate(final Instant date) {
+        return date != null ? date.toString() : "";
+    }
+}
@@ -0,0 +1,27 @@
+package com.helion.catalog.infrastructure.video.persistence;
+
+import com.helion.catalog.infrastructure.category.persistence.CategoryDocument;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record CategoryReference(
+        @Field(type = FieldType.Keyword, name = "id") String id,
+        @Field(type = FieldType.Text, name = "name") String name,
+        @Field(type = FieldType.Text, name = "description") String description
+) {
+
+    public static CategoryReference from(final CategoryDocument document) {
+        return new CategoryReference(document.id(), document.name(), document.description());
+    }
+
+    public Map<String, Object> toParams() {
+        final var params = new LinkedHashMap<String, Object>();
+        params.put("id", id);
+        params.put("name", name);
+        params.put("description", description);
+        return params;
+    }
+}
@@ -0,0 +1,47 @@
+package com.helion.catalog.infrastructure.video.persistence;
+
+import com.helion.catalog.infrastructure.genre.persistence.GenreDocument;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public record GenreReference(
+        @Field(type = FieldType.Keyword, name = "id") String id,
+        @Field(type = FieldType.Text, name = "name") String name,
+        @Field(type = FieldType.Boolean, name = "active") Boolean active,
+        @Field(type = FieldType.Keyword, name = "categories") Set<String> categories,
+        @Field(type = FieldType.Keyword, name = "created_at") String createdAt,
+        @Field(type = FieldType.Keyword, name = "updated_at") String updatedAt
+) {
+
+    public static GenreReference from(final GenreDocument document) {
+        return new GenreReference(
+                document.id(),
+                document.name(),
+                document.active(),
+                document.categories(),
+                formatDate(document.createdAt()),
+                formatDate(document.updatedAt())
+        );
+    }
+
+    public Map<String, Object> toParams() {
+        final var params = new LinkedHashMap<String, Object>();
+        params.put("id", id);
+        params.put("name", name);
+        params.put("active", active);
+        params.put("categories", categories != null ? new ArrayList<>(categories) : new ArrayList<>());
+        params.put("created_at", createdAt);
+        params.put("updated_at", updatedAt);
+        return params;
+    }
+
+    private static String formatDate(final Instant date) {
+        return date != null ? date.toString() : "";
+    }
+}
@@ -1,12 +1,15 @@
 package com.helion.catalog.infrastructure.video.persistence;
 
 import com.helion.catalog.domain.video.Video;
+import com.helion.catalog.infrastructure.elasticsearch.ExternalVersion;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.*;
 
+import java.util.List;
 import java.util.Set;
 
-@Document(indexName = "videos")
+@Document(indexName = "videos", versionType = Document.VersionType.EXTERNAL, storeVersionInSource = false)
 public class VideoDocument {
 
     @Id
@@ -66,6 +69,18 @@ public class VideoDocument {
     @Field(type= FieldType.Keyword, name= "genres")
     private Set<String> genres;
 
+    @Field(type= FieldType.Object, name= "category_refs")
+    private List<CategoryReference> categoryRefs;
+
+    @Field(type= FieldType.Object, name= "genre_refs")
+    private List<GenreReference> genreRefs;
+
+    @Field(type= FieldType.Object, name= "cast_member_refs")
+    private List<CastMemberReference> castMemberRefs;
+
+    @Version
+    private Long version;
+
     public VideoDocument(
             final String id,
             final String title,
@@ -106,7 +121,7 @@ public class VideoDocument {
     }
 
     public static VideoDocument from(final Video video) {
-        return new VideoDocument(
+        final var document = new VideoDocument(
                 video.id(),
                 video.title(),
                 video.description(),
@@ -126,6 +141,8 @@ public class VideoDocument {
                 video.categories(),
                 video.genres()
         );
+        document.setVersion(ExternalVersion.of(video.updatedAt()));
+        return document;
     }
 
     public Video toVideo() {
@@ -295,4 +312,36 @@ public class VideoDocument {
     public void setGenres(Set<String> genres) {
         this.genres = genres;
     }
+
+    public List<CategoryReference> categoryRefs() {
+        return categoryRefs;
+    }
+
+    public void setCategoryRefs(List<CategoryReference> categoryRefs) {
+        this.categoryRefs = categoryRefs;
+    }
+
+    public List<GenreReference> genreRefs() {
+        return genreRefs;
+    }
+
+    public void setGenreRefs(List<GenreReference> genreRefs) {
+        this.genreRefs = genreRefs;
+    }
+
+    public List<CastMemberReference> castMemberRefs() {
+        return castMemberRefs;
+    }
+
+    public void setCastMemberRefs(List<CastMemberReference> castMemberRefs) {
+        this.castMemberRefs = castMemberRefs;
+    }
+
+    public Long version() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -7,19 +7,18 @@ import org.springframework.boot.test.autoconfigure.data.elasticsearch.DataElasti
 import org.springframework.boot.testcontainers.context.ImportTestcontainers;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
-import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.test.context.ActiveProfiles;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
-import java.util.Collection;
-
 
 @ActiveProfiles("test-integration")
 @ComponentScan(
         basePackages = "com.helion.catalog",
         useDefaultFilters = false,
         includeFilters = {
-            @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*ElasticsearchGateway")
+            @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*(Elasticsearch(Gateway|BulkWriter)|VideoDenormalizer)")
         })
 @DataElasticsearchTest
 @ImportTestcontainers(ElasticsearchTestContainer.class)
@@ -28,10 +27,16 @@ import java.util.Collection;
 public abstract class AbstractElasticsearchTest {
 
     @Autowired
-    private Collection<ElasticsearchRepository<?,?>> repositories;
+    private ElasticsearchOperations operations;
 
     @BeforeEach
     void cleanUp(){
-        this.repositories.forEach(ElasticsearchRepository::deleteAll);
+        this.operations.getElasticsearchConverter().getMappingContext().getPersistentEntities().stream()
+                .filter(it -> it.getType().isAnnotationPresent(Document.class))
+                .map(it -> this.operations.indexOps(it.getType()))
+                .forEach(it -> {
+                    it.delete();
+                    it.createWithMapping();
+                });
     }
 }
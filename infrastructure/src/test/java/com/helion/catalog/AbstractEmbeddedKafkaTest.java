@@ -65,6 +65,10 @@ public class AbstractEmbeddedKafkaTest {
     }
 
     protected Source aSource(){
-        return new Source("admin_mysql", "admin_catalogo", "categories");
+        return aSource("categories");
+    }
+
+    protected Source aSource(final String table){
+        return new Source("admin_mysql", "admin_catalogo", table);
     }
 }
@@ -11,6 +11,7 @@ import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
 import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
 import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
 import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -50,6 +51,9 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest{
     @Captor
     private ArgumentCaptor<ConsumerRecordMetadata> metadata;
 
+    @Captor
+    private ArgumentCaptor<ConsumerRecord<String, String>> records;
+
     @Test
     public void testCategoriesTopics() throws Exception {
         // given
@@ -86,13 +90,10 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest{
         final var message =
                 Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(aulasEvent, aulasEvent, aSource(), Operation.DELETE)));
 
-        final var latch = new CountDownLatch(5);
+        final var latch = new CountDownLatch(expectedMaxAttempts);
         doAnswer(t -> {
             latch.countDown();
-            if (latch.getCount() > 0) {
-                throw new RuntimeException("BOOM!");
-            }
-            return null;
+            throw new RuntimeException("BOOM!");
         }).when(deleteCategoryUseCase).execute(any());
 
         producer().send(new ProducerRecord<>(categoryTopic, message)).get(10, TimeUnit.SECONDS);
@@ -100,16 +101,18 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest{
 
         Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
-        verify(categoryListener, times(expectedMaxAttempts)).onMessage(eq(message), metadata.capture());
+        verify(categoryListener, times(expectedMaxAttempts)).onMessage(records.capture(), any());
 
-        final var allMetas =  metadata.getAllValues();
+        final var allMetas =  records.getAllValues();
+        allMetas.forEach(it -> Assertions.assertEquals(message, it.value()));
 
         Assertions.assertEquals(expectedMainTopic, allMetas.get(0).topic());
         Assertions.assertEquals(expectedRetry0Topic, allMetas.get(1).topic());
         Assertions.assertEquals(expectedRetry1Topic, allMetas.get(2).topic());
         Assertions.assertEquals(expectedRetry2Topic, allMetas.get(3).topic());
 
-        verify(categoryListener, times(expectedMaxDLTAttempts)).onDltMessage(eq(message), metadata.capture());
+        verify(categoryListener, timeout(30_000).times(expectedMaxDLTAttempts)).onDltMessage(eq(message), metadata.capture());
+        verify(deleteCategoryUseCase, times(expectedMaxAttempts)).execute(any());
 
         Assertions.assertEquals(expectedDLTTopic, metadata.getValue().topic());
     }
@@ -203,6 +206,6 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest{
 
         // then
 
-        verify(deleteCategoryUseCase, times(1)).execute(eq(aulas.id()));
+        verify(deleteCategoryUseCase, times(1)).execute(eq(new DeleteCategoryUseCase.Input(aulas.id(), null)));
     }
 }
\ No newline at end of file
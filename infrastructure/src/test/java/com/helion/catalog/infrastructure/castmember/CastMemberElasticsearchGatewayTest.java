@@ -54,7 +54,7 @@ public class CastMemberElasticsearchGatewayTest extends AbstractElasticsearchTes
         final var expectedId = actor.id();
         Assertions.assertTrue(this.castMemberRepository.existsById(expectedId));
 
-        this.castMemberGateway.deleteById(expectedId);
+        this.castMemberGateway.deleteById(expectedId, actor.updatedAt());
 
         Assertions.assertFalse(this.castMemberRepository.existsById(expectedId));
     }
@@ -63,7 +63,7 @@ public class CastMemberElasticsearchGatewayTest extends AbstractElasticsearchTes
     public void givenInValidId_whenCallsDeleteById_shouldBeOk(){
         final var expectedId = "any";
 
-        Assertions.assertDoesNotThrow(() -> this.castMemberGateway.deleteById(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.castMemberGateway.deleteById(expectedId, null));
 
     }
 
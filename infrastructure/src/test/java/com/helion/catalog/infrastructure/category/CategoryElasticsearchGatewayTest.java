@@ -55,7 +55,7 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
         final var expectedId = aulas.id();
         Assertions.assertTrue(this.categoryRepository.existsById(expectedId));
 
-        this.categoryGateway.deleteById(expectedId);
+        this.categoryGateway.deleteById(expectedId, aulas.updatedAt());
 
         Assertions.assertFalse(this.categoryRepository.existsById(expectedId));
     }
@@ -64,7 +64,7 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
     public void givenInValidId_whenCallsDeleteById_shouldBeOk(){
         final var expectedId = "any";
 
-        Assertions.assertDoesNotThrow(() -> this.categoryGateway.deleteById(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.categoryGateway.deleteById(expectedId, null));
 
     }
 
@@ -18,6 +18,10 @@ import org.springframework.http.MediaType;
 import wiremock.org.apache.hc.core5.http.HttpHeaders;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 
@@ -126,6 +130,105 @@ public class CategoryRestClientTest extends AbstractRestClientTest {
 
     }
 
+    @Test
+    public void givenConcurrentCallsForSameCategory_whenCacheMisses_shouldCallServerOnce() {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+
+        final var responseBody = writeValueAsString(new CategoryDTO(
+                aulas.id(),
+                aulas.name(),
+                aulas.description(),
+                aulas.isActive(),
+                aulas.createdAt(),
+                aulas.updatedAt(),
+                aulas.deletedAt()
+        ));
+
+        final var expectedToken = "access-123";
+        Mockito.doReturn(expectedToken).when(clientCredentialsManager).retrieve();
+
+        WireMock.stubFor(
+                WireMock.get(WireMock.urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+                        .willReturn(aResponse()
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withStatus(200)
+                                .withFixedDelay(300)
+                                .withBody(responseBody))
+        );
+
+        final var callers = 10;
+        final var executor = Executors.newFixedThreadPool(callers);
+        final var start = new CountDownLatch(1);
+
+        final var futures = IntStream.range(0, callers)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return target.categoryOfId(aulas.id()).get();
+                }, executor))
+                .toList();
+
+        start.countDown();
+        final var actualCategories = futures.stream().map(CompletableFuture::join).toList();
+        executor.shutdown();
+
+        Assertions.assertEquals(callers, actualCategories.size());
+        actualCategories.forEach(actualCategory -> Assertions.assertEquals(aulas.id(), actualCategory.id()));
+
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id()))));
+    }
+
+    @Test
+    public void givenAnExpiredCategory_whenServerReturnsNotModified_shouldReuseCachedValue() {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+        final var expectedEtag = "\"v1\"";
+
+        final var responseBody = writeValueAsString(new CategoryDTO(
+                aulas.id(),
+                aulas.name(),
+                aulas.description(),
+                aulas.isActive(),
+                aulas.createdAt(),
+                aulas.updatedAt(),
+                aulas.deletedAt()
+        ));
+
+        Mockito.doReturn("access-123").when(clientCredentialsManager).retrieve();
+
+        WireMock.stubFor(
+                WireMock.get(WireMock.urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+                        .willReturn(aResponse()
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withHeader(HttpHeaders.ETAG, expectedEtag)
+                                .withStatus(200)
+                                .withBody(responseBody))
+        );
+
+        WireMock.stubFor(
+                WireMock.get(WireMock.urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+                        .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo(expectedEtag))
+                        .atPriority(1)
+                        .willReturn(aResponse()
+                                .withHeader(HttpHeaders.ETAG, expectedEtag)
+                                .withStatus(304))
+        );
+
+        final var actualCategory = target.categoryOfId(aulas.id()).get();
+
+        cache("admin-categories").evict(aulas.id());
+
+        final var actualRevalidatedCategory = target.categoryOfId(aulas.id()).get();
+
+        Assertions.assertEquals(actualCategory, actualRevalidatedCategory);
+        Assertions.assertEquals(aulas.name(), actualRevalidatedCategory.name());
+        Assertions.assertEquals(actualRevalidatedCategory, cache("admin-categories").get(aulas.id()).get());
+
+        WireMock.verify(2, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id()))));
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo(expectedEtag)));
+    }
+
     @Test
     public void givenACategory_whenReceive5xxFromServer_shouldBeReturnError() {
         // given
@@ -290,4 +393,13 @@ public class CategoryRestClientTest extends AbstractRestClientTest {
 
         WireMock.verify(0, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/api/categories/%s".formatted(expectedId))));
     }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.helion.catalog.infrastructure.configuration;
+
+import com.helion.catalog.infrastructure.category.CategoryRestClient;
+import com.helion.catalog.infrastructure.configuration.properties.RetryBudgetProperties;
+import com.helion.catalog.infrastructure.utils.RetryBudget;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RetryBudgetConfigTest {
+
+    private RetryBudgetProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new RetryBudgetProperties();
+        this.properties.setEnabled(true);
+        this.properties.setCapacity(10);
+        this.properties.setMinPerSecond(0.000_001);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.calls = new AtomicInteger();
+    }
+
+    @Test
+    public void givenRetryBudget_whenEveryAttemptFails_shouldWithdrawOnlyForAttemptsThatFollow() {
+        final var budget = new RetryBudget(this.properties, this.meterRegistry);
+        final var retry = retry(budget);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> retry.executeSupplier(this::fail));
+
+        Assertions.assertEquals(3, this.calls.get());
+        Assertions.assertEquals(2, withdrawals("withdrawn"));
+        Assertions.assertEquals(0, withdrawals("exhausted"));
+        Assertions.assertEquals(8, budget.available(), 0.01);
+    }
+
+    @Test
+    public void givenExhaustedRetryBudget_whenAttemptFails_shouldRethrowWithoutRetrying() {
+        this.properties.setCapacity(1);
+        final var budget = new RetryBudget(this.properties, this.meterRegistry);
+        final var retry = retry(budget);
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> retry.executeSupplier(this::fail));
+
+        Assertions.assertEquals("BOOM!", actualException.getMessage());
+        Assertions.assertEquals(2, this.calls.get());
+        Assertions.assertEquals(1, withdrawals("withdrawn"));
+        Assertions.assertEquals(1, withdrawals("exhausted"));
+    }
+
+    private Retry retry(final RetryBudget budget) {
+        final var builder = RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(IllegalStateException.class);
+        new RetryBudgetConfig().categoriesRetryBudgetCustomizer(budget).customize(builder);
+        return Retry.of(CategoryRestClient.NAMESPACE, builder.build());
+    }
+
+    private Object fail() {
+        this.calls.incrementAndGet();
+        throw new IllegalStateException("BOOM!");
+    }
+
+    private double withdrawals(final String outcome) {
+        return this.meterRegistry.counter("retry.budget", "source", CategoryRestClient.NAMESPACE, "outcome", outcome).count();
+    }
+}
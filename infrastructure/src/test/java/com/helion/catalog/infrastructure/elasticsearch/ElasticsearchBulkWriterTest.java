@@ -0,0 +1,204 @@
+package com.helion.catalog.infrastructure.elasticsearch;
+
+import com.helion.catalog.AbstractElasticsearchTest;
+import com.helion.catalog.domain.Fixture;
+import com.helion.catalog.domain.category.Category;
+import com.helion.catalog.infrastructure.category.CategoryElasticsearchGateway;
+import com.helion.catalog.infrastructure.category.persistence.CategoryDocument;
+import com.helion.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ElasticsearchBulkWriterTest extends AbstractElasticsearchTest {
+
+    @Autowired
+    private ElasticsearchBulkWriter bulkWriter;
+
+    @Autowired
+    private CategoryElasticsearchGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ElasticsearchOperations operations;
+
+    @Test
+    public void givenOpenBulkScope_whenCallsSaveAndDelete_shouldFlushThemTogetherAtTheEnd(){
+        final var aulas = Fixture.Categories.aulas();
+        final var lives = Fixture.Categories.lives();
+        final var talks = Fixture.Categories.talks();
+        this.categoryRepository.save(CategoryDocument.from(talks));
+
+        this.bulkWriter.bulk(() -> {
+            this.categoryGateway.save(aulas);
+            this.categoryGateway.save(lives);
+            this.categoryGateway.deleteById(talks.id(), talks.updatedAt());
+
+            Assertions.assertFalse(this.categoryRepository.existsById(aulas.id()));
+            Assertions.assertTrue(this.categoryRepository.existsById(talks.id()));
+        });
+
+        this.operations.indexOps(CategoryDocument.class).refresh();
+
+        Assertions.assertTrue(this.categoryRepository.existsById(aulas.id()));
+        Assertions.assertTrue(this.categoryRepository.existsById(lives.id()));
+        Assertions.assertFalse(this.categoryRepository.existsById(talks.id()));
+        Assertions.assertEquals(aulas.name(), this.categoryRepository.findById(aulas.id()).get().name());
+    }
+
+    @Test
+    public void givenNoBulkScope_whenCallsSave_shouldWriteImmediately(){
+        final var aulas = Fixture.Categories.aulas();
+
+        this.categoryGateway.save(aulas);
+
+        Assertions.assertTrue(this.categoryRepository.existsById(aulas.id()));
+    }
+
+    @Test
+    public void givenOpenBulkScope_whenWorkFails_shouldDiscardPendingWrites(){
+        final var aulas = Fixture.Categories.aulas();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.bulkWriter.bulk(() -> {
+            this.categoryGateway.save(aulas);
+            throw new IllegalStateException("BOOM!");
+        }));
+
+        this.operations.indexOps(CategoryDocument.class).refresh();
+
+        Assertions.assertFalse(this.categoryRepository.existsById(aulas.id()));
+    }
+
+    @Test
+    public void givenNewerIndexedDocument_whenSavesOlderVersionWithoutBulkScope_shouldKeepNewerDocument(){
+        final var aulas = Fixture.Categories.aulas();
+        final var outdated = outdated(aulas, "Aulas antigas");
+
+        this.categoryGateway.save(aulas);
+        this.categoryGateway.save(outdated);
+
+        Assertions.assertEquals(aulas.name(), this.categoryRepository.findById(aulas.id()).get().name());
+    }
+
+    @Test
+    public void givenNewerIndexedDocument_whenSavesOlderVersionInBulkScope_shouldSkipItAndFlushTheRest(){
+        final var aulas = Fixture.Categories.aulas();
+        final var lives = Fixture.Categories.lives();
+        this.categoryGateway.save(aulas);
+
+        this.bulkWriter.bulk(() -> {
+            this.categoryGateway.save(outdated(aulas, "Aulas antigas"));
+            this.categoryGateway.save(lives);
+        });
+
+        this.operations.indexOps(CategoryDocument.class).refresh();
+
+        Assertions.assertEquals(aulas.name(), this.categoryRepository.findById(aulas.id()).get().name());
+        Assertions.assertTrue(this.categoryRepository.existsById(lives.id()));
+    }
+
+    @Test
+    public void givenIndexedDocument_whenSavesSameVersion_shouldKeepIndexedDocument(){
+        final var aulas = Fixture.Categories.aulas();
+        final var sameVersion = Category.with(
+                aulas.id(),
+                "Aulas repetidas",
+                aulas.description(),
+                aulas.isActive(),
+                aulas.createdAt(),
+                aulas.updatedAt(),
+                aulas.deletedAt());
+
+        this.categoryGateway.save(aulas);
+        this.bulkWriter.bulk(() -> this.categoryGateway.save(sameVersion));
+        this.categoryGateway.save(sameVersion);
+
+        this.operations.indexOps(CategoryDocument.class).refresh();
+
+        Assertions.assertEquals(aulas.name(), this.categoryRepository.findById(aulas.id()).get().name());
+    }
+
+    @Test
+    public void givenNewerIndexedDocument_whenDeletesOlderVersion_shouldKeepIt(){
+        final var aulas = Fixture.Categories.aulas();
+        final var lives = Fixture.Categories.lives();
+        this.categoryGateway.save(aulas);
+        this.categoryGateway.save(lives);
+
+        this.categoryGateway.deleteById(aulas.id(), outdated(aulas, aulas.name()).updatedAt());
+        this.bulkWriter.bulk(() -> this.categoryGateway.deleteById(lives.id(), outdated(lives, lives.name()).updatedAt()));
+
+        this.operations.indexOps(CategoryDocument.class).refresh();
+
+        Assertions.assertTrue(this.categoryRepository.existsById(aulas.id()));
+        Assertions.assertTrue(this.categoryRepository.existsById(lives.id()));
+    }
+
+    @Test
+    public void givenDeletedDocument_whenSavesOlderVersion_shouldNotResurrectIt(){
+        final var aulas = Fixture.Categories.aulas();
+        this.categoryGateway.save(aulas);
+
+        this.categoryGateway.deleteById(aulas.id(), aulas.updatedAt());
+        this.categoryGateway.save(outdated(aulas, "Aulas antigas"));
+
+        this.operations.indexOps(CategoryDocument.class).refresh();
+
+        Assertions.assertFalse(this.categoryRepository.existsById(aulas.id()));
+    }
+
+    @Test
+    public void givenOpenBulkScope_whenFlushed_shouldRunCallbacksAfterWritesLand(){
+        final var aulas = Fixture.Categories.aulas();
+        final var observed = new ArrayList<Boolean>();
+
+        this.bulkWriter.bulk(() -> {
+            this.categoryGateway.save(aulas);
+            this.bulkWriter.afterFlush(() -> observed.add(this.categoryRepository.existsById(aulas.id())));
+            Assertions.assertTrue(observed.isEmpty());
+        });
+
+        Assertions.assertEquals(List.of(true), observed);
+    }
+
+    @Test
+    public void givenOpenBulkScope_whenWorkFails_shouldDropCallbacks(){
+        final var aulas = Fixture.Categories.aulas();
+        final var observed = new ArrayList<String>();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.bulkWriter.bulk(() -> {
+            this.categoryGateway.save(aulas);
+            this.bulkWriter.afterFlush(() -> observed.add(aulas.id()));
+            throw new IllegalStateException("BOOM!");
+        }));
+
+        Assertions.assertTrue(observed.isEmpty());
+    }
+
+    @Test
+    public void givenNoBulkScope_whenCallbackRegistered_shouldRunImmediately(){
+        final var observed = new ArrayList<String>();
+
+        this.bulkWriter.afterFlush(() -> observed.add("ran"));
+
+        Assertions.assertEquals(List.of("ran"), observed);
+    }
+
+    private static Category outdated(final Category aCategory, final String name) {
+        return Category.with(
+                aCategory.id(),
+                name,
+                aCategory.description(),
+                aCategory.isActive(),
+                aCategory.createdAt(),
+                aCategory.updatedAt().minus(1, ChronoUnit.HOURS),
+                aCategory.deletedAt());
+    }
+}
@@ -56,7 +56,7 @@ public class GenreElasticsearchGatewayTest extends AbstractElasticsearchTest {
         final var expectedId = business.id();
         Assertions.assertTrue(this.genreRepository.existsById(expectedId));
 
-        this.genreGateway.deleteById(expectedId);
+        this.genreGateway.deleteById(expectedId, business.updatedAt());
 
         Assertions.assertFalse(this.genreRepository.existsById(expectedId));
     }
@@ -65,7 +65,7 @@ public class GenreElasticsearchGatewayTest extends AbstractElasticsearchTest {
     public void givenInValidId_whenCallsDeleteById_shouldBeOk(){
         final var expectedId = "any";
 
-        Assertions.assertDoesNotThrow(() -> this.genreGateway.deleteById(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.genreGateway.deleteById(expectedId, null));
 
     }
 
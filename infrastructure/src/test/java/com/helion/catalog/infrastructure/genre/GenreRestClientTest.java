@@ -18,6 +18,10 @@ import org.springframework.http.MediaType;
 import org.testcontainers.shaded.com.google.common.net.HttpHeaders;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 
@@ -74,6 +78,54 @@ public class GenreRestClientTest extends AbstractRestClientTest {
 
     }
 
+    @Test
+    public void givenConcurrentCallsForSameGenre_whenCacheMisses_shouldCallServerOnce() {
+        // given
+        final var business = Fixture.Genres.business();
+
+        final var responseBody = writeValueAsString(new GenreDTO(
+                business.id(),
+                business.name(),
+                business.categories(),
+                business.isActive(),
+                business.createdAt(),
+                business.updatedAt(),
+                business.deletedAt()
+        ));
+
+        final var expectedToken = "access-123";
+        Mockito.doReturn(expectedToken).when(clientCredentialsManager).retrieve();
+
+        WireMock.stubFor(
+                WireMock.get(WireMock.urlPathEqualTo("/api/genres/%s".formatted(business.id())))
+                        .willReturn(aResponse()
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withStatus(200)
+                                .withFixedDelay(300)
+                                .withBody(responseBody))
+        );
+
+        final var callers = 10;
+        final var executor = Executors.newFixedThreadPool(callers);
+        final var start = new CountDownLatch(1);
+
+        final var futures = IntStream.range(0, callers)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return target.genreOfId(business.id()).get();
+                }, executor))
+                .toList();
+
+        start.countDown();
+        final var actualGenres = futures.stream().map(CompletableFuture::join).toList();
+        executor.shutdown();
+
+        Assertions.assertEquals(callers, actualGenres.size());
+        actualGenres.forEach(actualGenre -> Assertions.assertEquals(business.id(), actualGenre.id()));
+
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/api/genres/%s".formatted(business.id()))));
+    }
+
     @Test
     public void givenAGenre_whenReceiveTwoCalls_shouldReturnCachedValue() {
         // given
@@ -288,5 +340,12 @@ public class GenreRestClientTest extends AbstractRestClientTest {
         WireMock.verify(0, getRequestedFor(WireMock.urlPathEqualTo("/api/genres/%s".formatted(expectedId))));
     }
 
-
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
 }
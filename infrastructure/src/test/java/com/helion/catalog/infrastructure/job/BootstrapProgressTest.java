@@ -0,0 +1,48 @@
+package com.helion.catalog.infrastructure.job;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BootstrapProgressTest {
+
+    @Test
+    public void givenIndexedDocuments_whenComputeRate_shouldReturnDocumentsPerSecond() {
+        final var progress = new BootstrapProgress("videos");
+        progress.start(10_000, 1_000);
+
+        progress.indexed(2_500);
+
+        Assertions.assertEquals(500D, progress.rate(6_000));
+    }
+
+    @Test
+    public void givenPartialProgress_whenComputeEta_shouldExtrapolateFromRate() {
+        final var progress = new BootstrapProgress("videos");
+        progress.start(10_000, 1_000);
+
+        progress.indexed(2_000);
+        progress.failed(500);
+
+        Assertions.assertEquals(15, progress.eta(6_000));
+    }
+
+    @Test
+    public void givenNothingIndexedYet_whenComputeEta_shouldBeUnknown() {
+        final var progress = new BootstrapProgress("videos");
+        progress.start(10_000, 1_000);
+
+        Assertions.assertEquals(0D, progress.rate(1_000));
+        Assertions.assertEquals(-1, progress.eta(2_000));
+    }
+
+    @Test
+    public void givenEverythingHandled_whenComputeEta_shouldBeZero() {
+        final var progress = new BootstrapProgress("videos");
+        progress.start(3, 1_000);
+
+        progress.indexed(2);
+        progress.failed(1);
+
+        Assertions.assertEquals(0, progress.eta(2_000));
+    }
+}
@@ -0,0 +1,236 @@
+package com.helion.catalog.infrastructure.job;
+
+import com.helion.catalog.infrastructure.category.models.CategoryEvent;
+import com.helion.catalog.infrastructure.category.persistence.CategoryDocument;
+import com.helion.catalog.infrastructure.configuration.json.Json;
+import com.helion.catalog.infrastructure.configuration.properties.BootstrapProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.kafka.CategoryListener;
+import com.helion.catalog.infrastructure.kafka.CdcMessageHandler;
+import com.helion.catalog.infrastructure.kafka.DebeziumEnvelopeDecoder;
+import com.helion.catalog.infrastructure.kafka.ListenerBackpressureController;
+import com.helion.catalog.infrastructure.kafka.ListenerSeekRegistry;
+import com.helion.catalog.infrastructure.kafka.MultiplexedCdcListener;
+import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
+import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import com.helion.catalog.infrastructure.kafka.models.connect.Source;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogBootstrapJobTest {
+
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.categories";
+    private static final String GROUP = "catalogo-service";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+    private static final DebeziumEnvelopeDecoder<CategoryEvent> DECODER = new DebeziumEnvelopeDecoder<>(CategoryEvent.class);
+
+    @Mock
+    private ListenerBackpressureController backpressureController;
+
+    @Mock
+    private ElasticsearchBulkWriter bulkWriter;
+
+    @Mock
+    private CdcMessageHandler<CategoryEvent> handler;
+
+    @Mock
+    private ConsumerSeekCallback seekCallback;
+
+    @Captor
+    private ArgumentCaptor<ValuePayload<CategoryEvent>> messages;
+
+    private MockConsumer<String, byte[]> reader;
+
+    private KafkaProperties kafkaProperties;
+
+    private ListenerSeekRegistry seekRegistry;
+
+    private CatalogBootstrapJob job;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(handler.consumer()).thenReturn(CategoryListener.CONSUMER);
+        lenient().when(handler.decoder()).thenReturn(DECODER);
+        lenient().when(handler.keyOf(any())).thenAnswer(it -> it.<ValuePayload<CategoryEvent>>getArgument(0).after().id());
+        lenient().when(bulkWriter.suspendRefresh(CategoryDocument.class)).thenReturn("1s");
+        lenient().doAnswer(it -> {
+            it.<Runnable>getArgument(0).run();
+            return null;
+        }).when(bulkWriter).bulk(any());
+
+        final var categories = new KafkaConsumerProperties();
+        categories.setId("kafka-listener-categories");
+        categories.setTopics(TOPIC);
+        categories.setGroupId(GROUP);
+
+        this.kafkaProperties = new KafkaProperties();
+        this.kafkaProperties.setConsumers(new HashMap<>(Map.of(CategoryListener.CONSUMER, categories)));
+
+        this.reader = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        this.reader.updatePartitions(TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        this.reader.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        this.reader.updateEndOffsets(Map.of(PARTITION, 3L));
+        this.reader.schedulePollTask(() -> {
+            this.reader.addRecord(aRecord(0, "1", "Aulas"));
+            this.reader.addRecord(aRecord(1, "2", "Lives"));
+            this.reader.addRecord(aRecord(2, "1", "Aulas atualizadas"));
+            this.reader.addRecord(aRecord(3, "3", "Depois do fim"));
+        });
+
+        this.seekRegistry = new ListenerSeekRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.job != null) {
+            this.job.stop();
+        }
+    }
+
+    @Test
+    public void givenCompactedTopic_whenBootstrapped_shouldLoadLatestStateUpToTheEndOffsets() {
+        this.seekRegistry.assigned(List.of(PARTITION), seekCallback);
+
+        start(() -> Assertions.fail("all partitions are assigned"));
+
+        verify(backpressureController, timeout(5_000)).resume(CategoryListener.CONSUMER, "bootstrap");
+        verify(handler, times(2)).handle(messages.capture());
+
+        final var actualNames = messages.getAllValues().stream()
+                .map(it -> it.after().name())
+                .toList();
+        Assertions.assertEquals(2, actualNames.size());
+        Assertions.assertTrue(actualNames.containsAll(List.of("Aulas atualizadas", "Lives")));
+    }
+
+    @Test
+    public void givenSuccessfulLoad_whenBootstrapped_shouldHandOverAfterLoadingAndBeforeResuming() {
+        this.seekRegistry.assigned(List.of(PARTITION), seekCallback);
+
+        start(() -> Assertions.fail("all partitions are assigned"));
+
+        verify(backpressureController, timeout(5_000)).resume(CategoryListener.CONSUMER, "bootstrap");
+
+        final var order = inOrder(backpressureController, bulkWriter, handler, seekCallback);
+        order.verify(backpressureController).pause(CategoryListener.CONSUMER, "bootstrap");
+        order.verify(bulkWriter).suspendRefresh(CategoryDocument.class);
+        order.verify(handler, times(2)).handle(any());
+        order.verify(seekCallback).seek(TOPIC, 0, 3L);
+        order.verify(bulkWriter).resumeRefresh(CategoryDocument.class, "1s");
+        order.verify(backpressureController).resume(CategoryListener.CONSUMER, "bootstrap");
+    }
+
+    @Test
+    public void givenEntityFailure_whenBootstrapped_shouldRestoreRefreshAndKeepListenerOffsets() {
+        this.seekRegistry.assigned(List.of(PARTITION), seekCallback);
+        doThrow(new IllegalStateException("BOOM!")).doNothing().when(handler).handle(any());
+
+        start(() -> Assertions.fail("must not hand over"));
+
+        verify(backpressureController, timeout(5_000)).resume(CategoryListener.CONSUMER, "bootstrap");
+        verify(bulkWriter).resumeRefresh(CategoryDocument.class, "1s");
+        verify(seekCallback, never()).seek(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    public void givenMultiplexedListener_whenBootstrapped_shouldPauseAndResumeIt() {
+        this.kafkaProperties.consumers().put(MultiplexedCdcListener.CONSUMER, new KafkaConsumerProperties());
+        this.seekRegistry.assigned(List.of(PARTITION), seekCallback);
+
+        start(() -> Assertions.fail("all partitions are assigned"));
+
+        verify(backpressureController, timeout(5_000)).resume(MultiplexedCdcListener.CONSUMER, "bootstrap:" + CategoryListener.CONSUMER);
+
+        final var order = inOrder(backpressureController, seekCallback);
+        order.verify(backpressureController).pause(MultiplexedCdcListener.CONSUMER, "bootstrap:" + CategoryListener.CONSUMER);
+        order.verify(seekCallback).seek(TOPIC, 0, 3L);
+        order.verify(backpressureController).resume(MultiplexedCdcListener.CONSUMER, "bootstrap:" + CategoryListener.CONSUMER);
+    }
+
+    @Test
+    public void givenUnassignedPartition_whenHandedOver_shouldCommitGroupOffsetsThroughAdmin() {
+        final var admin = mock(Admin.class);
+        final var result = mock(AlterConsumerGroupOffsetsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+        when(admin.alterConsumerGroupOffsets(eq(GROUP), any())).thenReturn(result);
+
+        start(() -> admin);
+
+        verify(backpressureController, timeout(5_000)).resume(CategoryListener.CONSUMER, "bootstrap");
+        verify(admin).alterConsumerGroupOffsets(GROUP, Map.of(PARTITION, new OffsetAndMetadata(3L, "bootstrap")));
+    }
+
+    private void start(final Supplier<Admin> adminFactory) {
+        final var properties = new BootstrapProperties();
+        properties.setEnabled(true);
+        properties.setConsumers(List.of(CategoryListener.CONSUMER));
+        properties.setWorkers(2);
+        properties.setChunkSize(1);
+        properties.setPollTimeout(10);
+        properties.setProgressInterval(60_000);
+
+        this.job = new CatalogBootstrapJob(
+                List.of(handler),
+                backpressureController,
+                seekRegistry,
+                bulkWriter,
+                kafkaProperties,
+                properties,
+                new SimpleMeterRegistry(),
+                () -> reader,
+                adminFactory
+        );
+        this.job.start();
+    }
+
+    private static ConsumerRecord<String, byte[]> aRecord(final long offset, final String id, final String name) {
+        final var event = new CategoryEvent(id, name, null, true, 1L, offset, null);
+        final var source = new Source("admin_mysql", "admin_catalogo", "categories");
+        final var payload = Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(event, null, source, Operation.CREATE)));
+        return new ConsumerRecord<>(TOPIC, 0, offset, id, payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,313 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.castmember.models.CastMemberEvent;
+import com.helion.catalog.infrastructure.configuration.json.Json;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.configuration.properties.RetryBudgetProperties;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.exceptions.RetryBudgetExhaustedException;
+import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
+import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import com.helion.catalog.infrastructure.kafka.models.connect.Source;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import com.helion.catalog.infrastructure.utils.RetryBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class BatchMessageProcessorTest {
+
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.cast_members";
+
+    @Mock
+    private ElasticsearchBulkWriter bulkWriter;
+
+    private KafkaProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RetryBudgetProperties retryBudgetProperties;
+
+    private RetryBudget retryBudget;
+
+    private BatchMessageProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(t -> {
+            t.<Runnable>getArgument(0).run();
+            return null;
+        }).when(bulkWriter).bulk(any());
+
+        this.properties = new KafkaProperties();
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.retryBudgetProperties = new RetryBudgetProperties();
+        this.retryBudget = new RetryBudget(retryBudgetProperties, meterRegistry);
+        this.processor = new BatchMessageProcessor(bulkWriter, properties, new BulkAckCoordinator(properties, meterRegistry), retryBudget, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.processor.destroy();
+    }
+
+    @Test
+    public void givenManyWorkers_whenProcessBatch_shouldKeepOrderPerEntityId() {
+        withWorkers(4);
+        final var handler = new RecordingHandler(null);
+        final var records = IntStream.range(0, 200)
+                .mapToObj(i -> aRecord(i, "id-" + (i % 7)))
+                .toList();
+
+        this.processor.process(records, handler);
+
+        Assertions.assertEquals(7, handler.handled.size());
+        handler.handled.forEach((id, offsets) -> {
+            Assertions.assertEquals(offsets.stream().sorted().toList(), offsets);
+            Assertions.assertEquals(200 / 7 + (Integer.parseInt(id.substring(3)) < 200 % 7 ? 1 : 0), offsets.size());
+        });
+    }
+
+    @Test
+    public void givenFailingRecord_whenProcessInParallel_shouldFailAtLowestFailedIndexAndStopThatId() {
+        withWorkers(4);
+        final var expectedIndex = 10;
+        final var handler = new RecordingHandler(expectedIndex);
+        final var records = IntStream.range(0, 40)
+                .mapToObj(i -> aRecord(i, "id-" + (i % 5)))
+                .toList();
+
+        final var actualException = Assertions.assertThrows(BatchListenerFailedException.class,
+                () -> this.processor.process(records, handler));
+
+        Assertions.assertSame(records.get(expectedIndex), actualException.getRecord());
+        Assertions.assertTrue(handler.handled.get("id-0").stream().allMatch(offset -> offset < expectedIndex));
+
+        final var handledOffsets = handler.handled.values().stream().flatMap(List::stream).toList();
+        LongStream.range(0, expectedIndex).forEach(offset -> Assertions.assertTrue(handledOffsets.contains(offset)));
+    }
+
+    @Test
+    public void givenSingleWorker_whenRecordFails_shouldFailAtThatIndex() {
+        final var expectedIndex = 3;
+        final var handler = new RecordingHandler(expectedIndex);
+        final var records = IntStream.range(0, 6)
+                .mapToObj(i -> aRecord(i, "id-" + i))
+                .toList();
+
+        final var actualException = Assertions.assertThrows(BatchListenerFailedException.class,
+                () -> this.processor.process(records, handler));
+
+        Assertions.assertSame(records.get(expectedIndex), actualException.getRecord());
+        Assertions.assertEquals(3, handler.handled.size());
+    }
+
+    @Test
+    public void givenCoalescingEnabled_whenSameIdIsUpdatedManyTimes_shouldHandleOnlyTheLatestEvent() {
+        withBatch(1, true);
+        final var handler = new RecordingHandler(null);
+        final var records = List.of(
+                aRecord(0, "id-1"),
+                aRecord(1, "id-2"),
+                aRecord(2, "id-1"),
+                aRecord(3, "id-1"),
+                aRecord(4, "id-2", Operation.DELETE),
+                aRecord(5, "id-3")
+        );
+
+        this.processor.process(records, handler);
+
+        Assertions.assertEquals(List.of(3L), handler.handled.get("id-1"));
+        Assertions.assertNull(handler.handled.get("id-2"));
+        Assertions.assertEquals(List.of(5L), handler.handled.get("id-3"));
+        Assertions.assertEquals(List.of("id-2"), handler.deleted);
+    }
+
+    @Test
+    public void givenCoalescingEnabled_whenLatestEventFails_shouldFailAtItsIndex() {
+        withBatch(1, true);
+        final var expectedIndex = 3;
+        final var handler = new RecordingHandler(expectedIndex);
+        final var records = List.of(
+                aRecord(0, "id-1"),
+                aRecord(1, "id-2"),
+                aRecord(2, "id-2"),
+                aRecord(3, "id-1"),
+                aRecord(4, "id-3")
+        );
+
+        final var actualException = Assertions.assertThrows(BatchListenerFailedException.class,
+                () -> this.processor.process(records, handler));
+
+        Assertions.assertSame(records.get(expectedIndex), actualException.getRecord());
+        Assertions.assertEquals(List.of(2L), handler.handled.get("id-2"));
+        Assertions.assertNull(handler.handled.get("id-1"));
+        Assertions.assertNull(handler.handled.get("id-3"));
+    }
+
+    @Test
+    public void givenPriorityLane_whenBatchHasDeletes_shouldHandleUrgentIdsFirstKeepingTheirOrder() {
+        withBatch(1, false, true);
+        final var handler = new RecordingHandler(null);
+        final var records = List.of(
+                aRecord(0, "id-1"),
+                aRecord(1, "id-2"),
+                aRecord(2, "id-3"),
+                aRecord(3, "id-2", Operation.DELETE),
+                aRecord(4, "id-1")
+        );
+
+        this.processor.process(records, handler);
+
+        Assertions.assertEquals(List.of("id-2:1", "id-2:deleted", "id-1:0", "id-3:2", "id-1:4"), handler.order);
+        Assertions.assertEquals(2, this.meterRegistry.counter("cdc.priority.events", "consumer", CastMemberListener.CONSUMER).count());
+    }
+
+    @Test
+    public void givenPriorityLane_whenRoutineRecordFails_shouldStillFailAtItsIndex() {
+        withBatch(1, false, true);
+        final var expectedIndex = 1;
+        final var handler = new RecordingHandler(expectedIndex);
+        final var records = List.of(
+                aRecord(0, "id-1"),
+                aRecord(1, "id-1"),
+                aRecord(2, "id-2", Operation.DELETE)
+        );
+
+        final var actualException = Assertions.assertThrows(BatchListenerFailedException.class,
+                () -> this.processor.process(records, handler));
+
+        Assertions.assertSame(records.get(expectedIndex), actualException.getRecord());
+        Assertions.assertEquals(List.of("id-2"), handler.deleted);
+        Assertions.assertEquals(List.of(0L), handler.handled.get("id-1"));
+    }
+
+    @Test
+    public void givenExhaustedRetryBudget_whenRecordFails_shouldFailWithoutRetryableCause() {
+        exhaustRetryBudget();
+        final var expectedIndex = 1;
+        final var handler = new RecordingHandler(expectedIndex);
+        final var records = IntStream.range(0, 3)
+                .mapToObj(i -> aRecord(i, "id-" + i))
+                .toList();
+
+        final var actualException = Assertions.assertThrows(BatchListenerFailedException.class,
+                () -> this.processor.process(records, handler));
+
+        Assertions.assertSame(records.get(expectedIndex), actualException.getRecord());
+        Assertions.assertInstanceOf(RetryBudgetExhaustedException.class, actualException.getCause());
+        Assertions.assertEquals(1, actualException.getCause().getSuppressed().length);
+    }
+
+    @Test
+    public void givenRetryBudget_whenRecordsAreHandled_shouldDepositOncePerRecord() {
+        exhaustRetryBudget();
+        this.retryBudgetProperties.setCapacity(10);
+        this.retryBudgetProperties.setRatio(0.5);
+        final var handler = new RecordingHandler(null);
+        final var records = IntStream.range(0, 4)
+                .mapToObj(i -> aRecord(i, "id-" + i))
+                .toList();
+
+        this.processor.process(records, handler);
+
+        Assertions.assertEquals(2, this.retryBudget.available(), 0.01);
+    }
+
+    private void exhaustRetryBudget() {
+        this.retryBudgetProperties.setEnabled(true);
+        this.retryBudgetProperties.setCapacity(1);
+        this.retryBudgetProperties.setMinPerSecond(0.000_001);
+        this.retryBudget.tryAcquire(CastMemberListener.CONSUMER);
+    }
+
+    private void withWorkers(final int workers) {
+        withBatch(workers, false);
+    }
+
+    private void withBatch(final int workers, final boolean coalesce) {
+        withBatch(workers, coalesce, false);
+    }
+
+    private void withBatch(final int workers, final boolean coalesce, final boolean priorityLane) {
+        final var consumer = new KafkaConsumerProperties();
+        consumer.batch().setWorkers(workers);
+        consumer.batch().setCoalesce(coalesce);
+        consumer.batch().setPriorityLane(priorityLane);
+        this.properties.setConsumers(Map.of(CastMemberListener.CONSUMER, consumer));
+    }
+
+    private static ConsumerRecord<String, byte[]> aRecord(final int offset, final String id) {
+        return aRecord(offset, id, Operation.UPDATE);
+    }
+
+    private static ConsumerRecord<String, byte[]> aRecord(final int offset, final String id, final Operation op) {
+        final var event = new CastMemberEvent(id, String.valueOf(offset), "ACTOR", 0L, 0L);
+        final var source = new Source("adm_videos_mysql", "adm_videos", "cast_members");
+        final var payload = op.isDelete()
+                ? new ValuePayload<>(null, event, source, op)
+                : new ValuePayload<>(event, null, source, op);
+        final var message = Json.writeValueAsString(new MessageValue<>(payload)).getBytes(StandardCharsets.UTF_8);
+        return new ConsumerRecord<>(TOPIC, 0, offset, id, message);
+    }
+
+    private static class RecordingHandler implements CdcMessageHandler<CastMemberEvent> {
+
+        private static final DebeziumEnvelopeDecoder<CastMemberEvent> DECODER = new DebeziumEnvelopeDecoder<>(CastMemberEvent.class);
+
+        private final Integer failAt;
+        private final Map<String, List<Long>> handled = new ConcurrentHashMap<>();
+        private final List<String> deleted = new CopyOnWriteArrayList<>();
+        private final List<String> order = new CopyOnWriteArrayList<>();
+
+        private RecordingHandler(final Integer failAt) {
+            this.failAt = failAt;
+        }
+
+        @Override
+        public String consumer() {
+            return CastMemberListener.CONSUMER;
+        }
+
+        @Override
+        public DebeziumEnvelopeDecoder<CastMemberEvent> decoder() {
+            return DECODER;
+        }
+
+        @Override
+        public void handle(final ValuePayload<CastMemberEvent> message) {
+            if (message.operation().isDelete()) {
+                deleted.add(message.before().id());
+                order.add(message.before().id() + ":deleted");
+                return;
+            }
+
+            final var offset = Long.parseLong(message.after().name());
+            if (failAt != null && failAt == offset) {
+                throw new IllegalStateException("BOOM!");
+            }
+            handled.computeIfAbsent(message.after().id(), id -> new CopyOnWriteArrayList<>()).add(offset);
+            order.add(message.after().id() + ":" + offset);
+        }
+    }
+}
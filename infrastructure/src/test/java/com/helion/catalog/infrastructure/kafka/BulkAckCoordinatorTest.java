@@ -0,0 +1,114 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BulkAckCoordinatorTest {
+
+    private KafkaConsumerProperties consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AtomicLong clock;
+
+    private BulkAckCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        this.consumer = new KafkaConsumerProperties();
+        this.consumer.batch().setCommitRecords(100);
+        this.consumer.batch().setCommitInterval(1_000);
+
+        final var properties = new KafkaProperties();
+        properties.setConsumers(Map.of(VideoListener.CONSUMER, consumer));
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.clock = new AtomicLong(1);
+        this.coordinator = new BulkAckCoordinator(properties, meterRegistry, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.coordinator.flush();
+    }
+
+    @Test
+    public void givenFewRecords_whenAcknowledged_shouldDeferCommit() {
+        final var ack = mock(Acknowledgment.class);
+
+        this.coordinator.acknowledge(VideoListener.CONSUMER, ack, 40);
+
+        verify(ack, never()).acknowledge();
+        Assertions.assertEquals(40, this.coordinator.pending(VideoListener.CONSUMER));
+    }
+
+    @Test
+    public void givenCommitRecordsReached_whenAcknowledged_shouldCommitEveryPendingBatchInOrder() {
+        final var first = mock(Acknowledgment.class);
+        final var second = mock(Acknowledgment.class);
+
+        this.coordinator.acknowledge(VideoListener.CONSUMER, first, 60);
+        this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(20));
+        this.coordinator.acknowledge(VideoListener.CONSUMER, second, 60);
+
+        final var order = inOrder(first, second);
+        order.verify(first).acknowledge();
+        order.verify(second).acknowledge();
+        Assertions.assertEquals(0, this.coordinator.pending(VideoListener.CONSUMER));
+
+        final var latency = this.meterRegistry.timer("cdc.commit.latency", "consumer", VideoListener.CONSUMER);
+        Assertions.assertEquals(1, latency.count());
+        Assertions.assertEquals(20, latency.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    public void givenCommitIntervalElapsed_whenAcknowledged_shouldCommit() {
+        final var first = mock(Acknowledgment.class);
+        final var second = mock(Acknowledgment.class);
+
+        this.coordinator.acknowledge(VideoListener.CONSUMER, first, 1);
+        this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_000));
+        this.coordinator.acknowledge(VideoListener.CONSUMER, second, 1);
+
+        verify(first).acknowledge();
+        verify(second).acknowledge();
+    }
+
+    @Test
+    public void givenPendingAcks_whenPartitionsRevoked_shouldCommitBeforeRebalance() {
+        final var ack = mock(Acknowledgment.class);
+        this.coordinator.acknowledge(VideoListener.CONSUMER, ack, 10);
+
+        this.coordinator.onPartitionsRevokedBeforeCommit(null, List.of());
+
+        verify(ack).acknowledge();
+        Assertions.assertEquals(0, this.meterRegistry.get("cdc.commit.pending").gauge().value());
+    }
+
+    @Test
+    public void givenDefaultSettings_whenAcknowledged_shouldCommitEveryBatch() {
+        this.consumer.batch().setCommitRecords(0);
+        this.consumer.batch().setCommitInterval(0);
+        final var ack = mock(Acknowledgment.class);
+
+        this.coordinator.acknowledge(VideoListener.CONSUMER, ack, 1);
+
+        verify(ack).acknowledge();
+    }
+}
@@ -10,6 +10,7 @@ import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
 import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
 import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
 import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import static com.helion.catalog.domain.utils.InstantUtils.fromTimestamp;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
@@ -46,6 +48,9 @@ public class CastMemberListenerTest extends AbstractEmbeddedKafkaTest {
     @Captor
     private ArgumentCaptor<ConsumerRecordMetadata> metadata;
 
+    @Captor
+    private ArgumentCaptor<ConsumerRecord<String, String>> records;
+
     @Test
     public void testCastMemberTopics() throws Exception {
         // given
@@ -83,7 +88,7 @@ public class CastMemberListenerTest extends AbstractEmbeddedKafkaTest {
         final var actorEvent = CastMemberEvent.from(actor);
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(actorEvent, actorEvent, aSource(), Operation.DELETE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(actorEvent, actorEvent, aSource("cast_members"), Operation.DELETE)));
 
         final var latch = new CountDownLatch(5);
 
@@ -103,9 +108,10 @@ public class CastMemberListenerTest extends AbstractEmbeddedKafkaTest {
         Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
         // then
-        verify(castMemberListener, times(expectedMaxAttempts)).onMessage(eq(message), metadata.capture());
+        verify(castMemberListener, times(expectedMaxAttempts)).onMessage(records.capture(), any());
 
-        final var allMetas = metadata.getAllValues();
+        final var allMetas =  records.getAllValues();
+        allMetas.forEach(it -> Assertions.assertEquals(message, it.value()));
         Assertions.assertEquals(expectedMainTopic, allMetas.get(0).topic());
         Assertions.assertEquals(expectedRetry0Topic, allMetas.get(1).topic());
         Assertions.assertEquals(expectedRetry1Topic, allMetas.get(2).topic());
@@ -123,7 +129,7 @@ public class CastMemberListenerTest extends AbstractEmbeddedKafkaTest {
         final var actorEvent = CastMemberEvent.from(actor);
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(actorEvent, actorEvent, aSource(), Operation.UPDATE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(actorEvent, actorEvent, aSource("cast_members"), Operation.UPDATE)));
 
         final var latch = new CountDownLatch(1);
 
@@ -148,7 +154,7 @@ public class CastMemberListenerTest extends AbstractEmbeddedKafkaTest {
         final var actorEvent = CastMemberEvent.from(actor);
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(actorEvent, null, aSource(), Operation.CREATE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(actorEvent, null, aSource("cast_members"), Operation.CREATE)));
 
         final var latch = new CountDownLatch(1);
 
@@ -173,7 +179,7 @@ public class CastMemberListenerTest extends AbstractEmbeddedKafkaTest {
         final var actorEvent = CastMemberEvent.from(actor);
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(null, actorEvent, aSource(), Operation.DELETE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(null, actorEvent, aSource("cast_members"), Operation.DELETE)));
 
         final var latch = new CountDownLatch(1);
 
@@ -188,6 +194,6 @@ public class CastMemberListenerTest extends AbstractEmbeddedKafkaTest {
         Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
         // then
-        verify(deleteCastMemberUseCase, times(1)).execute(eq(actor.id()));
+        verify(deleteCastMemberUseCase, times(1)).execute(eq(new DeleteCastMemberUseCase.Input(actor.id(), fromTimestamp(actorEvent.updatedAt()))));
     }
 }
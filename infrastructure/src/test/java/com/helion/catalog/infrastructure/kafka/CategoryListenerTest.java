@@ -1,13 +1,124 @@
 package com.helion.catalog.infrastructure.kafka;
 
 import com.helion.catalog.AbstractEmbeddedKafkaTest;
+import com.helion.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.helion.catalog.application.category.save.SaveCategoryUseCase;
+import com.helion.catalog.domain.Fixture;
+import com.helion.catalog.domain.category.Category;
+import com.helion.catalog.infrastructure.category.CategoryClient;
+import com.helion.catalog.infrastructure.category.models.CategoryEvent;
+import com.helion.catalog.infrastructure.configuration.json.Json;
+import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
+import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
 
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = "kafka.consumers.categories.cdc-first=true")
 public class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
 
+    @MockBean
+    private DeleteCategoryUseCase deleteCategoryUseCase;
+
+    @MockBean
+    private SaveCategoryUseCase saveCategoryUseCase;
+
+    @MockBean
+    private CategoryClient categoryGateway;
+
+    @Value("${kafka.consumers.categories.topics}")
+    private String categoryTopic;
+
+    @Captor
+    private ArgumentCaptor<Category> categoryCaptor;
+
     @Test
     public void testDummy(){
         Assertions.assertNotNull(producer());
     }
+
+    @Test
+    public void givenCompleteAfterImage_whenUpdate_shouldSaveWithoutCallingAdminApi() throws Exception {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+        final var aulasEvent = new CategoryEvent(
+                aulas.id(),
+                aulas.name(),
+                aulas.description(),
+                aulas.isActive(),
+                aulas.createdAt().toEpochMilli() * 1_000,
+                aulas.updatedAt().toEpochMilli() * 1_000,
+                null
+        );
+
+        final var message =
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(aulasEvent, aulasEvent, aSource(), Operation.UPDATE)));
+
+        final var latch = new CountDownLatch(1);
+
+        doAnswer(t -> {
+            latch.countDown();
+            return t.getArgument(0);
+        }).when(saveCategoryUseCase).execute(any());
+
+        // when
+        producer().send(new ProducerRecord<>(categoryTopic, message)).get(10, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
+
+        // then
+        verify(categoryGateway, never()).categoryOfId(any());
+        verify(saveCategoryUseCase, times(1)).execute(categoryCaptor.capture());
+
+        final var actualCategory = categoryCaptor.getValue();
+        Assertions.assertEquals(aulas.id(), actualCategory.id());
+        Assertions.assertEquals(aulas.name(), actualCategory.name());
+        Assertions.assertEquals(aulas.description(), actualCategory.description());
+        Assertions.assertEquals(aulas.isActive(), actualCategory.isActive());
+        Assertions.assertEquals(aulas.createdAt(), actualCategory.createdAt());
+        Assertions.assertEquals(aulas.updatedAt(), actualCategory.updatedAt());
+        Assertions.assertNull(actualCategory.deletedAt());
+    }
+
+    @Test
+    public void givenIncompleteAfterImage_whenCreate_shouldFallbackToAdminApi() throws Exception {
+        // given
+        final var lives = Fixture.Categories.lives();
+        final var livesEvent = new CategoryEvent(lives.id());
+
+        final var message =
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(livesEvent, null, aSource(), Operation.CREATE)));
+
+        final var latch = new CountDownLatch(1);
+
+        doAnswer(t -> {
+            latch.countDown();
+            return t.getArgument(0);
+        }).when(saveCategoryUseCase).execute(any());
+
+        doReturn(Optional.of(lives)).when(categoryGateway).categoryOfId(any());
+
+        // when
+        producer().send(new ProducerRecord<>(categoryTopic, message)).get(10, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
+
+        // then
+        verify(categoryGateway, times(1)).categoryOfId(eq(lives.id()));
+        verify(saveCategoryUseCase, times(1)).execute(eq(lives));
+    }
 }
@@ -0,0 +1,57 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.domain.Fixture;
+import com.helion.catalog.infrastructure.castmember.models.CastMemberEvent;
+import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+class DebeziumEnvelopeDecoderTest {
+
+    private final DebeziumEnvelopeDecoder<CastMemberEvent> decoder = new DebeziumEnvelopeDecoder<>(CastMemberEvent.class);
+
+    @Test
+    public void givenUpdateWithConnectSchema_whenDecode_shouldSkipSchemaAndMaterializeBeforeAndAfter() {
+        final var actor = Fixture.CastMembers.actor();
+        final var message = """
+                {"schema":{"type":"struct","fields":[{"type":"struct","fields":[{"type":"string","field":"id"}],"field":"before"}],"name":"envelope"},
+                 "payload":{"before":{"id":"%s","name":"old","type":"DIRECTOR","created_at":1,"updated_at":1},
+                 "after":{"id":"%s","name":"%s","type":"%s","created_at":%s,"updated_at":%s},
+                 "source":{"name":"adm_videos_mysql","db":"adm_videos","table":"cast_members"},"op":"u","ts_ms":1}}
+                """.formatted(
+                actor.id(), actor.id(), actor.name(), actor.type().name(),
+                actor.createdAt().toEpochMilli(), actor.updatedAt().toEpochMilli());
+
+        final var actualPayload = decoder.decode(message.getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertEquals(Operation.UPDATE, actualPayload.operation());
+        Assertions.assertEquals(CastMemberEvent.from(actor), actualPayload.after());
+        Assertions.assertEquals(new CastMemberEvent(actor.id(), "old", "DIRECTOR", 1L, 1L), actualPayload.before());
+        Assertions.assertNull(actualPayload.source());
+    }
+
+    @Test
+    public void givenDeleteWithoutSchema_whenDecode_shouldMaterializeBeforeOnly() {
+        final var expectedId = "123";
+        final var message = """
+                {"before":{"name":"Gabriel","id":"%s","type":"ACTOR","updated_at":1700000100000},"after":null,
+                 "source":{"name":"adm_videos_mysql","db":"adm_videos","table":"cast_members"},"op":"d"}
+                """.formatted(expectedId);
+
+        final var actualPayload = decoder.decode(message);
+
+        Assertions.assertEquals(Operation.DELETE, actualPayload.operation());
+        Assertions.assertEquals(expectedId, actualPayload.before().id());
+        Assertions.assertEquals("Gabriel", actualPayload.before().name());
+        Assertions.assertEquals(1700000100000L, actualPayload.before().updatedAt());
+        Assertions.assertNull(actualPayload.after());
+    }
+
+    @Test
+    public void givenInvalidPayload_whenDecode_shouldThrowIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> decoder.decode("[1, 2]"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> decoder.decode("{\"payload\": {\"op\": "));
+    }
+}
@@ -0,0 +1,223 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.category.models.CategoryEvent;
+import com.helion.catalog.infrastructure.configuration.KafkaConfig;
+import com.helion.catalog.infrastructure.configuration.json.Json;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
+import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
+import com.helion.catalog.infrastructure.kafka.models.connect.Source;
+import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DltReplayServiceTest {
+
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.categories";
+    private static final String DLT_TOPIC = TOPIC + KafkaConfig.DLT_SUFFIX;
+    private static final TopicPartition PARTITION = new TopicPartition(DLT_TOPIC, 0);
+    private static final DebeziumEnvelopeDecoder<CategoryEvent> DECODER = new DebeziumEnvelopeDecoder<>(CategoryEvent.class);
+
+    @Mock
+    private CdcMessageHandler<CategoryEvent> handler;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Captor
+    private ArgumentCaptor<ValuePayload<CategoryEvent>> messages;
+
+    private KafkaProperties properties;
+
+    private MockConsumer<String, String> reader;
+
+    private DltReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(handler.consumer()).thenReturn(CategoryListener.CONSUMER);
+        lenient().when(handler.decoder()).thenReturn(DECODER);
+        lenient().when(handler.keyOf(any())).thenAnswer(it -> it.<ValuePayload<CategoryEvent>>getArgument(0).after().id());
+
+        final var categories = new KafkaConsumerProperties();
+        categories.setTopics(TOPIC);
+        categories.setGroupId("catalogo-service");
+
+        this.properties = new KafkaProperties();
+        this.properties.setPoolTimeout(10);
+        this.properties.setConsumers(new HashMap<>(Map.of(CategoryListener.CONSUMER, categories)));
+        this.properties.dltReplay().setRate(1_000);
+
+        this.reader = spy(new MockConsumer<>(OffsetResetStrategy.EARLIEST));
+        this.reader.updatePartitions(DLT_TOPIC, List.of(new PartitionInfo(DLT_TOPIC, 0, null, null, null)));
+        this.reader.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        this.reader.updateEndOffsets(Map.of(PARTITION, 3L));
+        this.reader.schedulePollTask(() -> {
+            this.reader.addRecord(aRecord(0, "1", "Aulas"));
+            this.reader.addRecord(aRecord(1, "2", "Lives"));
+        });
+        this.reader.schedulePollTask(() -> this.reader.addRecord(aRecord(2, "1", "Aulas atualizadas")));
+
+        this.service = new DltReplayService(List.of(handler), kafkaTemplate, this.properties, new SimpleMeterRegistry(), configs -> reader);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.service.destroy();
+    }
+
+    @Test
+    public void givenSameKeyAcrossPolls_whenDrained_shouldReplayOnlyTheLatestAndCommit() {
+        final var actualResult = this.service.replay(CategoryListener.CONSUMER);
+
+        verify(handler, times(2)).handle(messages.capture());
+        final var actualNames = messages.getAllValues().stream()
+                .map(it -> it.after().name())
+                .toList();
+
+        Assertions.assertEquals(List.of("Lives", "Aulas atualizadas"), actualNames);
+        Assertions.assertEquals(3, actualResult.read());
+        Assertions.assertEquals(2, actualResult.replayed());
+        Assertions.assertEquals(1, actualResult.deduplicated());
+        verify(reader).commitSync(Map.of(PARTITION, new OffsetAndMetadata(3L)));
+    }
+
+    @Test
+    public void givenBacklogLargerThanBatch_whenDrained_shouldReplayAndCommitChunkByChunk() {
+        this.properties.dltReplay().setBatchSize(1);
+
+        final var actualResult = this.service.replay(CategoryListener.CONSUMER);
+
+        final var inOrder = inOrder(handler, reader);
+        inOrder.verify(handler, times(2)).handle(any());
+        inOrder.verify(reader).commitSync(Map.of(PARTITION, new OffsetAndMetadata(2L)));
+        inOrder.verify(handler).handle(any());
+        inOrder.verify(reader).commitSync(Map.of(PARTITION, new OffsetAndMetadata(3L)));
+        Assertions.assertEquals(3, actualResult.read());
+        Assertions.assertEquals(3, actualResult.replayed());
+        Assertions.assertEquals(0, actualResult.deduplicated());
+    }
+
+    @Test
+    public void givenFailedReplay_whenReParkIsNotAcknowledged_shouldNotCommitOffsets() {
+        doThrow(new IllegalStateException("BOOM!")).when(handler).handle(any());
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        Assertions.assertThrows(CompletionException.class, () -> this.service.replay(CategoryListener.CONSUMER));
+
+        verify(kafkaTemplate, times(2)).send(anyString(), anyString(), anyString());
+        verify(reader, never()).commitSync(anyMap());
+        Assertions.assertTrue(this.service.running().isEmpty());
+    }
+
+    @Test
+    public void givenFailedReplay_whenReParked_shouldCommitOnlyAfterTheSendsComplete() throws Exception {
+        final var pending = new CompletableFuture<SendResult<String, String>>();
+        doThrow(new IllegalStateException("BOOM!")).when(handler).handle(any());
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(pending);
+
+        final var replay = CompletableFuture.supplyAsync(() -> this.service.replay(CategoryListener.CONSUMER));
+
+        verify(kafkaTemplate, timeout(5_000).times(2)).send(anyString(), anyString(), anyString());
+        verify(reader, after(200).never()).commitSync(anyMap());
+
+        pending.complete(null);
+
+        Assertions.assertEquals(2, replay.get(5, TimeUnit.SECONDS).failed());
+        verify(reader).commitSync(Map.of(PARTITION, new OffsetAndMetadata(3L)));
+    }
+
+    @Test
+    public void givenRunningReplay_whenReplayedAsyncAgain_shouldNotStartAnother() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        doAnswer(it -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(handler).handle(any());
+
+        Assertions.assertTrue(this.service.replayAsync(CategoryListener.CONSUMER));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertFalse(this.service.replayAsync(CategoryListener.CONSUMER));
+        Assertions.assertNull(this.service.replay(CategoryListener.CONSUMER));
+        Assertions.assertEquals(Set.of(CategoryListener.CONSUMER), this.service.running());
+
+        release.countDown();
+
+        verify(reader, timeout(5_000)).commitSync(anyMap());
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!this.service.running().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(this.service.running().isEmpty());
+    }
+
+    @Test
+    public void givenScheduledReplay_whenReplayAll_shouldDrainOnTheReplayExecutor() {
+        this.properties.dltReplay().setScheduled(true);
+        final var threads = new CopyOnWriteArrayList<String>();
+        doAnswer(it -> {
+            threads.add(Thread.currentThread().getName());
+            return null;
+        }).when(handler).handle(any());
+
+        this.service.replayAll();
+
+        verify(reader, timeout(5_000)).commitSync(anyMap());
+        Assertions.assertEquals(2, threads.size());
+        Assertions.assertTrue(threads.stream().allMatch(it -> it.startsWith("cdc-dlt-replay-")));
+    }
+
+    private static ConsumerRecord<String, String> aRecord(final long offset, final String id, final String name) {
+        final var event = new CategoryEvent(id, name, null, true, 1L, offset, null);
+        final var source = new Source("admin_mysql", "admin_catalogo", "categories");
+        final var payload = Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(event, null, source, Operation.CREATE)));
+        return new ConsumerRecord<>(DLT_TOPIC, 0, offset, id, payload);
+    }
+}
@@ -12,6 +12,7 @@ import com.helion.catalog.infrastructure.kafka.models.connect.MessageValue;
 import com.helion.catalog.infrastructure.kafka.models.connect.Operation;
 import com.helion.catalog.infrastructure.kafka.models.connect.ValuePayload;
 import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -53,6 +54,9 @@ public class GenreListenerTest extends AbstractEmbeddedKafkaTest {
     @Captor
     private ArgumentCaptor<ConsumerRecordMetadata> metadata;
 
+    @Captor
+    private ArgumentCaptor<ConsumerRecord<String, String>> records;
+
     @Test
     public void testGenresTopics() throws Exception {
         // given
@@ -88,7 +92,7 @@ public class GenreListenerTest extends AbstractEmbeddedKafkaTest {
         final var techEvent = new GenreEvent(tech.id());
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(techEvent, techEvent, aSource(), Operation.DELETE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(techEvent, techEvent, aSource("genres"), Operation.DELETE)));
 
         final var latch = new CountDownLatch(5);
 
@@ -109,9 +113,10 @@ public class GenreListenerTest extends AbstractEmbeddedKafkaTest {
 
         Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
-        verify(genreListener, times(expectedMaxAttempts)).onMessage(eq(message), metadata.capture());
+        verify(genreListener, times(expectedMaxAttempts)).onMessage(records.capture(), any());
 
-        final var allMetas =  metadata.getAllValues();
+        final var allMetas =  records.getAllValues();
+        allMetas.forEach(it -> Assertions.assertEquals(message, it.value()));
 
         Assertions.assertEquals(expectedMainTopic, allMetas.get(0).topic());
         Assertions.assertEquals(expectedRetry0Topic, allMetas.get(1).topic());
@@ -130,7 +135,7 @@ public class GenreListenerTest extends AbstractEmbeddedKafkaTest {
         final var techEvent = new GenreEvent(tech.id());
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(techEvent, techEvent, aSource(), Operation.UPDATE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(techEvent, techEvent, aSource("genres"), Operation.UPDATE)));
 
         final var latch = new CountDownLatch(1);
 
@@ -169,7 +174,7 @@ public class GenreListenerTest extends AbstractEmbeddedKafkaTest {
         final var techEvent = new GenreEvent(tech.id());
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(techEvent, null, aSource(), Operation.CREATE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(techEvent, null, aSource("genres"), Operation.CREATE)));
 
         final var latch = new CountDownLatch(1);
 
@@ -208,7 +213,7 @@ public class GenreListenerTest extends AbstractEmbeddedKafkaTest {
         final var techEvent = new GenreEvent(tech.id());
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(null, techEvent, aSource(), Operation.DELETE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(null, techEvent, aSource("genres"), Operation.DELETE)));
 
         final var latch = new CountDownLatch(1);
 
@@ -224,6 +229,6 @@ public class GenreListenerTest extends AbstractEmbeddedKafkaTest {
 
         // then
 
-        verify(deleteGenreUseCase, times(1)).execute(eq(new DeleteGenreUseCase.Input(tech.id())));
+        verify(deleteGenreUseCase, times(1)).execute(eq(new DeleteGenreUseCase.Input(tech.id(), null)));
     }
 }
@@ -0,0 +1,150 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchPressureEvent;
+import com.helion.catalog.infrastructure.utils.ConcurrencyLimitRejectedEvent;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ListenerBackpressureControllerTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private MessageListenerContainer videosContainer;
+
+    @Mock
+    private MessageListenerContainer videosRetryContainer;
+
+    @Mock
+    private MessageListenerContainer genresContainer;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private BulkheadRegistry bulkheadRegistry;
+
+    private ListenerBackpressureController controller;
+
+    @BeforeEach
+    void setUp() {
+        final var videos = new KafkaConsumerProperties();
+        videos.setId("kafka-listener-videos");
+
+        final var genres = new KafkaConsumerProperties();
+        genres.setId("kafka-listener-genres");
+
+        final var properties = new KafkaProperties();
+        properties.setConsumers(Map.of(VideoListener.CONSUMER, videos, GenreListener.CONSUMER, genres));
+
+        lenient().when(videosContainer.getListenerId()).thenReturn("kafka-listener-videos");
+        lenient().when(videosRetryContainer.getListenerId()).thenReturn("kafka-listener-videos-retry-0");
+        lenient().when(genresContainer.getListenerId()).thenReturn("kafka-listener-genres");
+        lenient().when(registry.getListenerContainers()).thenReturn(List.of(videosContainer, videosRetryContainer, genresContainer));
+
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        this.circuitBreakerRegistry.circuitBreaker(VideoListener.CONSUMER);
+
+        this.bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        this.bulkheadRegistry.bulkhead(VideoListener.CONSUMER);
+
+        this.controller = new ListenerBackpressureController(registry, properties, circuitBreakerRegistry, bulkheadRegistry, 50, 50);
+        this.controller.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.controller.destroy();
+    }
+
+    @Test
+    public void givenOpenCircuitBreaker_whenTransitioned_shouldPauseConsumerContainersUntilClosed() {
+        final var breaker = this.circuitBreakerRegistry.circuitBreaker(VideoListener.CONSUMER);
+
+        breaker.transitionToOpenState();
+
+        Assertions.assertTrue(this.controller.isPaused(VideoListener.CONSUMER));
+        verify(videosContainer).pause();
+        verify(videosRetryContainer).pause();
+        verify(genresContainer, never()).pause();
+
+        breaker.transitionToHalfOpenState();
+
+        Assertions.assertFalse(this.controller.isPaused(VideoListener.CONSUMER));
+        verify(videosContainer).resume();
+        verify(videosRetryContainer).resume();
+    }
+
+    @Test
+    public void givenBulkheadRejection_whenCallRejected_shouldPauseBrieflyAndResume() {
+        final var bulkhead = this.bulkheadRegistry.bulkhead(VideoListener.CONSUMER);
+        Assertions.assertTrue(bulkhead.tryAcquirePermission());
+
+        Assertions.assertFalse(bulkhead.tryAcquirePermission());
+
+        verify(videosContainer).pause();
+        verify(videosContainer, timeout(2_000)).resume();
+        Assertions.assertFalse(this.controller.isPaused(VideoListener.CONSUMER));
+    }
+
+    @Test
+    public void givenConcurrencyLimitRejection_whenSignalled_shouldPauseBrieflyAndResume() {
+        this.controller.onConcurrencyLimitRejected(new ConcurrencyLimitRejectedEvent(VideoListener.CONSUMER, 5));
+
+        verify(videosContainer).pause();
+        verify(genresContainer, never()).pause();
+        verify(videosContainer, timeout(2_000)).resume();
+        Assertions.assertFalse(this.controller.isPaused(VideoListener.CONSUMER));
+    }
+
+    @Test
+    public void givenElasticsearchPressure_whenSignalled_shouldPauseEveryConsumer() {
+        this.controller.onElasticsearchPressure(new ElasticsearchPressureEvent("videos", "es_rejected_execution_exception"));
+
+        verify(videosContainer).pause();
+        verify(genresContainer).pause();
+        verify(videosContainer, timeout(2_000)).resume();
+        verify(genresContainer, timeout(2_000)).resume();
+    }
+
+    @Test
+    public void givenSeveralReasons_whenOnlyOneClears_shouldStayPaused() {
+        this.controller.pause(VideoListener.CONSUMER, ListenerBackpressureController.CIRCUIT_BREAKER);
+        this.controller.pause(VideoListener.CONSUMER, ListenerBackpressureController.ELASTICSEARCH);
+
+        this.controller.resume(VideoListener.CONSUMER, ListenerBackpressureController.ELASTICSEARCH);
+
+        Assertions.assertTrue(this.controller.isPaused(VideoListener.CONSUMER));
+        verify(videosContainer, times(1)).pause();
+        verify(videosContainer, never()).resume();
+
+        this.controller.resume(VideoListener.CONSUMER, ListenerBackpressureController.CIRCUIT_BREAKER);
+
+        verify(videosContainer).resume();
+    }
+}
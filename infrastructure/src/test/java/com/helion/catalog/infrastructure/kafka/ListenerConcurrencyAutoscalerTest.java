@@ -0,0 +1,73 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ListenerConcurrencyAutoscalerTest {
+
+    private KafkaConsumerProperties.Autoscaling settings;
+
+    @BeforeEach
+    void setUp() {
+        this.settings = new KafkaConsumerProperties.Autoscaling();
+        this.settings.setEnabled(true);
+        this.settings.setMinConcurrency(1);
+        this.settings.setMaxConcurrency(4);
+        this.settings.setScaleUpLag(1_000);
+        this.settings.setScaleDownLag(50);
+        this.settings.setStableSamples(3);
+        this.settings.setCooldown(60_000);
+    }
+
+    @Test
+    public void givenHighLag_whenSustainedForStableSamples_shouldScaleUpToNeededConsumers() {
+        final var state = new ListenerConcurrencyAutoscaler.ScalingState();
+
+        Assertions.assertEquals(1, state.next(1, 3_500, 8, settings, 1_000));
+        Assertions.assertEquals(1, state.next(1, 3_500, 8, settings, 2_000));
+        Assertions.assertEquals(4, state.next(1, 3_500, 8, settings, 3_000));
+    }
+
+    @Test
+    public void givenSpikyLag_whenNotSustained_shouldKeepConcurrency() {
+        final var state = new ListenerConcurrencyAutoscaler.ScalingState();
+
+        Assertions.assertEquals(1, state.next(1, 5_000, 8, settings, 1_000));
+        Assertions.assertEquals(1, state.next(1, 500, 8, settings, 2_000));
+        Assertions.assertEquals(1, state.next(1, 5_000, 8, settings, 3_000));
+        Assertions.assertEquals(1, state.next(1, 5_000, 8, settings, 4_000));
+    }
+
+    @Test
+    public void givenRecentResize_whenWithinCooldown_shouldNotResizeAgain() {
+        final var state = new ListenerConcurrencyAutoscaler.ScalingState();
+        state.next(1, 2_500, 8, settings, 1_000);
+        state.next(1, 2_500, 8, settings, 2_000);
+        Assertions.assertEquals(3, state.next(1, 2_500, 8, settings, 3_000));
+
+        Assertions.assertEquals(3, state.next(3, 0, 8, settings, 4_000));
+        Assertions.assertEquals(3, state.next(3, 0, 8, settings, 5_000));
+        Assertions.assertEquals(3, state.next(3, 0, 8, settings, 6_000));
+        Assertions.assertEquals(2, state.next(3, 0, 8, settings, 63_000));
+    }
+
+    @Test
+    public void givenFewPartitions_whenScalingUp_shouldNotExceedPartitionCount() {
+        final var state = new ListenerConcurrencyAutoscaler.ScalingState();
+        state.next(1, 50_000, 2, settings, 1_000);
+        state.next(1, 50_000, 2, settings, 2_000);
+
+        Assertions.assertEquals(2, state.next(1, 50_000, 2, settings, 3_000));
+    }
+
+    @Test
+    public void givenIdleConsumer_whenAtMinConcurrency_shouldNotScaleDown() {
+        final var state = new ListenerConcurrencyAutoscaler.ScalingState();
+
+        for (int i = 1; i <= 5; i++) {
+            Assertions.assertEquals(1, state.next(1, 0, 8, settings, i * 100_000L));
+        }
+    }
+}
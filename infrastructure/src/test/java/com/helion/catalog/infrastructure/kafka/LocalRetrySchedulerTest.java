@@ -0,0 +1,306 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.domain.exceptions.InternalErrorException;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import com.helion.catalog.infrastructure.configuration.properties.RetryBudgetProperties;
+import com.helion.catalog.infrastructure.exceptions.ConcurrencyLimitExceededException;
+import com.helion.catalog.infrastructure.exceptions.RetryBudgetExhaustedException;
+import com.helion.catalog.infrastructure.utils.RetryBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocalRetrySchedulerTest {
+
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.videos";
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RetryBudgetProperties retryBudgetProperties;
+
+    private KafkaConsumerProperties consumer;
+
+    private LocalRetryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        this.consumer = new KafkaConsumerProperties();
+        this.consumer.setId("kafka-listener-videos");
+        this.consumer.setTopics(TOPIC);
+        this.consumer.retry().setEnabled(true);
+        this.consumer.retry().setAttempts(2);
+        this.consumer.retry().setInitialDelay(10);
+        this.consumer.retry().setMaxDelay(20);
+        this.consumer.retry().setQueueCapacity(10);
+
+        final var properties = new KafkaProperties();
+        properties.setConsumers(Map.of(VideoListener.CONSUMER, this.consumer));
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.retryBudgetProperties = new RetryBudgetProperties();
+        this.scheduler = new LocalRetryScheduler(registry, kafkaTemplate, properties, new RetryBudget(retryBudgetProperties, meterRegistry), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.scheduler.destroy();
+    }
+
+    @Test
+    public void givenSuccessfulRecord_whenProcess_shouldAcknowledge() {
+        final var acknowledgment = mock(Acknowledgment.class);
+
+        this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC, 0, "payload"), acknowledgment, () -> {
+        });
+
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    public void givenTransientFailure_whenRetriedLocally_shouldAcknowledgeOnlyAfterRecovery() throws Exception {
+        final var attempts = new AtomicInteger();
+        final var latch = new CountDownLatch(1);
+        final var acknowledgment = mock(Acknowledgment.class);
+
+        this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC, 0, "payload"), acknowledgment, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw InternalErrorException.with("503");
+            }
+            latch.countDown();
+        });
+
+        verify(acknowledgment, never()).acknowledge();
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        verify(acknowledgment, timeout(5_000)).acknowledge();
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(1, localRetries("scheduled"));
+        awaitCounter("recovered", 1);
+    }
+
+    @Test
+    public void givenPendingLocalRetry_whenNextRecordArrives_shouldKeepPartitionOrder() throws Exception {
+        final var handled = new CopyOnWriteArrayList<Long>();
+        final var failures = new AtomicInteger();
+        final var latch = new CountDownLatch(2);
+        final var secondAcknowledgment = mock(Acknowledgment.class);
+
+        this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC, 0, "first"), mock(Acknowledgment.class), () -> {
+            if (failures.getAndIncrement() == 0) {
+                throw InternalErrorException.with("timeout");
+            }
+            handled.add(0L);
+            latch.countDown();
+        });
+        this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC, 1, "second"), secondAcknowledgment, () -> {
+            handled.add(1L);
+            latch.countDown();
+        });
+
+        verify(secondAcknowledgment, never()).acknowledge();
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(0L, 1L), handled);
+        verify(secondAcknowledgment, timeout(5_000)).acknowledge();
+    }
+
+    @Test
+    public void givenPersistentTransientFailure_whenLocalAttemptsExhausted_shouldHandOffWithKeyAndHeaders() {
+        final var acknowledgment = mock(Acknowledgment.class);
+        final var record = aRecord(TOPIC, 0, "payload");
+        record.headers().add("traceparent", "00-abc-01".getBytes(StandardCharsets.UTF_8));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        this.scheduler.process(VideoListener.CONSUMER, record, acknowledgment, () -> {
+            throw InternalErrorException.with("503");
+        });
+
+        verify(kafkaTemplate, timeout(5_000)).send(argThat((ProducerRecord<String, String> it) ->
+                it.topic().equals(TOPIC + "-retry-0")
+                        && "key".equals(it.key())
+                        && "payload".equals(it.value())
+                        && it.headers().lastHeader("traceparent") != null));
+        verify(acknowledgment, timeout(5_000)).acknowledge();
+        awaitCounter("exhausted", 1);
+        Assertions.assertEquals(2, localRetries("scheduled"));
+    }
+
+    @Test
+    public void givenFailedHandOff_whenLocalAttemptsExhausted_shouldKeepRecordUnacknowledged() {
+        final var acknowledgment = mock(Acknowledgment.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC, 0, "payload"), acknowledgment, () -> {
+            throw InternalErrorException.with("503");
+        });
+
+        awaitCounter("hand-off-failed", 1);
+        verify(acknowledgment, never()).acknowledge();
+        Assertions.assertEquals(0, localRetries("exhausted"));
+    }
+
+    @Test
+    public void givenQueuedRecords_whenPartitionsRevoked_shouldDiscardWithoutAcknowledging() {
+        this.consumer.retry().setInitialDelay(1_000);
+        this.consumer.retry().setMaxDelay(1_000);
+        final var acknowledgment = mock(Acknowledgment.class);
+        final var attempts = new AtomicInteger();
+
+        this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC, 0, "payload"), acknowledgment, () -> {
+            attempts.incrementAndGet();
+            throw InternalErrorException.with("503");
+        });
+        this.scheduler.onPartitionsRevokedBeforeCommit(null, List.of(new TopicPartition(TOPIC, 0)));
+
+        verify(acknowledgment, after(200).never()).acknowledge();
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        Assertions.assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void givenConcurrencyLimitRejection_whenProcess_shouldRetryLocally() throws Exception {
+        final var attempts = new AtomicInteger();
+        final var acknowledgment = mock(Acknowledgment.class);
+
+        this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC, 0, "payload"), acknowledgment, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw ConcurrencyLimitExceededException.with("videos", 20);
+            }
+        });
+
+        verify(acknowledgment, timeout(5_000)).acknowledge();
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(1, localRetries("scheduled"));
+    }
+
+    @Test
+    public void givenTransientCauses_whenClassified_shouldRetryThemLocally() {
+        Assertions.assertTrue(LocalRetryScheduler.isTransient(ConcurrencyLimitExceededException.with("videos", 20)));
+        Assertions.assertTrue(LocalRetryScheduler.isTransient(new IllegalStateException(ConcurrencyLimitExceededException.with("videos", 20))));
+        Assertions.assertTrue(LocalRetryScheduler.isTransient(InternalErrorException.with("503")));
+        Assertions.assertFalse(LocalRetryScheduler.isTransient(new IllegalStateException("BOOM!")));
+    }
+
+    @Test
+    public void givenNonTransientFailure_whenProcess_shouldRethrowImmediately() {
+        final var acknowledgment = mock(Acknowledgment.class);
+
+        Assertions.assertThrows(IllegalStateException.class, () ->
+                this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC, 0, "payload"), acknowledgment, () -> {
+                    throw new IllegalStateException("BOOM!");
+                }));
+
+        verify(acknowledgment, never()).acknowledge();
+        Assertions.assertEquals(0, localRetries("scheduled"));
+    }
+
+    @Test
+    public void givenRetryTopicRecord_whenProcess_shouldCountTopicRetryAndRethrow() {
+        final var retryTopic = TOPIC + "-retry-1";
+
+        Assertions.assertThrows(InternalErrorException.class, () ->
+                this.scheduler.process(VideoListener.CONSUMER, aRecord(retryTopic, 0, "payload"), mock(Acknowledgment.class), () -> {
+                    throw InternalErrorException.with("503");
+                }));
+
+        Assertions.assertEquals(1, this.meterRegistry.counter("cdc.retry.topic", "consumer", VideoListener.CONSUMER, "topic", retryTopic).count());
+    }
+
+    @Test
+    public void givenExhaustedRetryBudget_whenRetryTopicRecord_shouldFailFastWithoutRunning() {
+        exhaustRetryBudget();
+        final var attempts = new AtomicInteger();
+
+        Assertions.assertThrows(RetryBudgetExhaustedException.class, () ->
+                this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC + "-retry-0", 0, "payload"), mock(Acknowledgment.class), attempts::incrementAndGet));
+
+        Assertions.assertEquals(0, attempts.get());
+    }
+
+    @Test
+    public void givenExhaustedRetryBudget_whenTransientFailure_shouldRethrowWithoutLocalRetry() {
+        exhaustRetryBudget();
+
+        Assertions.assertThrows(InternalErrorException.class, () ->
+                this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC, 0, "payload"), mock(Acknowledgment.class), () -> {
+                    throw InternalErrorException.with("503");
+                }));
+
+        Assertions.assertEquals(0, localRetries("scheduled"));
+    }
+
+    @Test
+    public void givenRetrySettings_whenComputeDelay_shouldStayWithinJitteredBounds() {
+        final var settings = new KafkaConsumerProperties.Retry();
+        settings.setInitialDelay(100);
+        settings.setMaxDelay(1_000);
+        settings.setMultiplier(2);
+
+        for (int i = 0; i < 100; i++) {
+            final var first = LocalRetryScheduler.delayOf(settings, 1);
+            final var capped = LocalRetryScheduler.delayOf(settings, 10);
+            Assertions.assertTrue(first >= 50 && first <= 100);
+            Assertions.assertTrue(capped >= 500 && capped <= 1_000);
+        }
+    }
+
+    private void exhaustRetryBudget() {
+        this.retryBudgetProperties.setEnabled(true);
+        this.retryBudgetProperties.setCapacity(1);
+        this.retryBudgetProperties.setMinPerSecond(0.000_001);
+        this.scheduler.process(VideoListener.CONSUMER, aRecord(TOPIC + "-retry-0", 0, "payload"), mock(Acknowledgment.class), () -> {
+        });
+    }
+
+    private double localRetries(final String outcome) {
+        return this.meterRegistry.counter("cdc.retry.local", "consumer", VideoListener.CONSUMER, "outcome", outcome).count();
+    }
+
+    private void awaitCounter(final String outcome, final double expected) {
+        final var deadline = System.currentTimeMillis() + 5_000;
+        while (localRetries(outcome) < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        Assertions.assertTrue(localRetries(outcome) >= expected);
+    }
+
+    private static ConsumerRecord<String, String> aRecord(final String topic, final long offset, final String payload) {
+        return new ConsumerRecord<>(topic, 0, offset, "key", payload);
+    }
+}
@@ -0,0 +1,135 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MultiplexedCdcListenerTest {
+
+    private static final String GENRES = "adm_videos_mysql.adm_videos.genres";
+    private static final String VIDEOS = "adm_videos_mysql.adm_videos.videos";
+
+    @Mock
+    private BatchMessageProcessor batchMessageProcessor;
+
+    @Mock
+    private CdcMessageHandler<?> genreHandler;
+
+    @Mock
+    private CdcMessageHandler<?> videoHandler;
+
+    private MultiplexedCdcListener listener;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(genreHandler.consumer()).thenReturn(GenreListener.CONSUMER);
+        lenient().when(videoHandler.consumer()).thenReturn(VideoListener.CONSUMER);
+
+        final var multiplexed = new KafkaConsumerProperties();
+        multiplexed.batch().setWorkers(2);
+
+        final var properties = new KafkaProperties();
+        properties.setConsumers(Map.of(
+                GenreListener.CONSUMER, consumerOf(GENRES),
+                VideoListener.CONSUMER, consumerOf(VIDEOS),
+                MultiplexedCdcListener.CONSUMER, multiplexed
+        ));
+
+        this.listener = new MultiplexedCdcListener(
+                List.of(genreHandler, videoHandler),
+                batchMessageProcessor,
+                new BulkAckCoordinator(properties, new SimpleMeterRegistry()),
+                new ListenerSeekRegistry(),
+                properties
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.listener.destroy();
+    }
+
+    @Test
+    public void givenRecordsFromManyTopics_whenProcessed_shouldRouteEachTopicToItsHandlerInOrder() {
+        final var records = List.of(aRecord(VIDEOS, 0), aRecord(GENRES, 0), aRecord(VIDEOS, 1));
+        final var ack = mock(Acknowledgment.class);
+
+        this.listener.onBatchMessage(records, ack);
+
+        verify(batchMessageProcessor).process(eq(List.of(records.get(0), records.get(2))), eq(videoHandler));
+        verify(batchMessageProcessor).process(eq(List.of(records.get(1))), eq(genreHandler));
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    public void givenFailureInOneTopic_whenProcessed_shouldReportTheFailedRecord() {
+        final var records = List.of(aRecord(GENRES, 0), aRecord(VIDEOS, 0), aRecord(GENRES, 1), aRecord(VIDEOS, 1));
+        final var ack = mock(Acknowledgment.class);
+        doThrow(new BatchListenerFailedException("BOOM!", new IllegalStateException("BOOM!"), records.get(3)))
+                .when(batchMessageProcessor).process(any(), eq(videoHandler));
+
+        final var actualException = Assertions.assertThrows(BatchListenerFailedException.class,
+                () -> this.listener.onBatchMessage(records, ack));
+
+        Assertions.assertSame(records.get(3), actualException.getRecord());
+        verify(batchMessageProcessor).process(eq(List.of(records.get(0), records.get(2))), eq(genreHandler));
+        verify(ack, never()).acknowledge();
+    }
+
+    @Test
+    public void givenFailuresInManyTopics_whenProcessed_shouldReportTheEarliestFailedRecord() {
+        final var records = List.of(aRecord(GENRES, 0), aRecord(VIDEOS, 0), aRecord(GENRES, 1), aRecord(VIDEOS, 1));
+        final var ack = mock(Acknowledgment.class);
+        doThrow(new BatchListenerFailedException("BOOM!", new IllegalStateException("BOOM!"), records.get(3)))
+                .when(batchMessageProcessor).process(any(), eq(videoHandler));
+        doThrow(new IllegalStateException("BOOM!"))
+                .when(batchMessageProcessor).process(any(), eq(genreHandler));
+
+        final var actualException = Assertions.assertThrows(BatchListenerFailedException.class,
+                () -> this.listener.onBatchMessage(records, ack));
+
+        Assertions.assertSame(records.get(0), actualException.getRecord());
+        verify(ack, never()).acknowledge();
+    }
+
+    @Test
+    public void givenUnknownTopic_whenProcessed_shouldSkipItsRecords() {
+        final var records = List.of(aRecord("adm_videos_mysql.adm_videos.unknown", 0));
+
+        this.listener.onBatchMessage(records, mock(Acknowledgment.class));
+
+        verify(batchMessageProcessor, never()).process(any(), any());
+    }
+
+    private static KafkaConsumerProperties consumerOf(final String topics) {
+        final var consumer = new KafkaConsumerProperties();
+        consumer.setTopics(topics);
+        return consumer;
+    }
+
+    private static ConsumerRecord<String, byte[]> aRecord(final String topic, final long offset) {
+        return new ConsumerRecord<>(topic, 0, offset, "key", new byte[0]);
+    }
+}
@@ -0,0 +1,95 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class StaleEventGuardTest {
+
+    private static final Instant INDEXED = Instant.parse("2024-03-01T10:00:00.123Z");
+
+    private KafkaConsumerProperties consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StaleEventGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        this.consumer = new KafkaConsumerProperties();
+        this.consumer.setSkipStale(true);
+
+        final var properties = new KafkaProperties();
+        properties.setConsumers(Map.of(VideoListener.CONSUMER, consumer));
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.guard = new StaleEventGuard(properties, meterRegistry);
+    }
+
+    @Test
+    public void givenOlderEvent_whenChecked_shouldBeStale() {
+        final var older = micros(INDEXED.minusSeconds(60));
+
+        Assertions.assertTrue(this.guard.isStale(VideoListener.CONSUMER, "123", older, id -> Optional.of(INDEXED)));
+        Assertions.assertEquals(1, skipped());
+    }
+
+    @Test
+    public void givenReplayOfIndexedEvent_whenChecked_shouldBeStale() {
+        Assertions.assertTrue(this.guard.isStale(VideoListener.CONSUMER, "123", micros(INDEXED), id -> Optional.of(INDEXED)));
+    }
+
+    @Test
+    public void givenNewerEvent_whenChecked_shouldNotBeStale() {
+        final var newer = micros(INDEXED.plusMillis(1));
+
+        Assertions.assertFalse(this.guard.isStale(VideoListener.CONSUMER, "123", newer, id -> Optional.of(INDEXED)));
+        Assertions.assertEquals(0, skipped());
+    }
+
+    @Test
+    public void givenMissingDocument_whenChecked_shouldNotBeStale() {
+        Assertions.assertFalse(this.guard.isStale(VideoListener.CONSUMER, "123", micros(INDEXED), id -> Optional.empty()));
+    }
+
+    @Test
+    public void givenEventWithoutUpdatedAt_whenChecked_shouldNotLookupIndex() {
+        final var lookups = new AtomicInteger();
+
+        Assertions.assertFalse(this.guard.isStale(VideoListener.CONSUMER, "123", null, id -> {
+            lookups.incrementAndGet();
+            return Optional.of(INDEXED);
+        }));
+        Assertions.assertEquals(0, lookups.get());
+    }
+
+    @Test
+    public void givenSkipStaleDisabled_whenChecked_shouldNotBeStale() {
+        this.consumer.setSkipStale(false);
+
+        Assertions.assertFalse(this.guard.isStale(VideoListener.CONSUMER, "123", micros(INDEXED), id -> Optional.of(INDEXED)));
+    }
+
+    @Test
+    public void givenIndexLookupFailure_whenChecked_shouldFallBackToFetch() {
+        Assertions.assertFalse(this.guard.isStale(VideoListener.CONSUMER, "123", micros(INDEXED), id -> {
+            throw new IllegalStateException("BOOM!");
+        }));
+    }
+
+    private double skipped() {
+        return this.meterRegistry.counter("cdc.stale.skipped", "consumer", VideoListener.CONSUMER).count();
+    }
+
+    private static long micros(final Instant instant) {
+        return instant.toEpochMilli() * 1_000;
+    }
+}
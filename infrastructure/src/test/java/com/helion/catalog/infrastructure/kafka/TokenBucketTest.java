@@ -0,0 +1,49 @@
+package com.helion.catalog.infrastructure.kafka;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class TokenBucketTest {
+
+    @Test
+    public void givenFullBucket_whenReservingUpToBurst_shouldNotWait() {
+        final var clock = new AtomicLong();
+        final var bucket = new TokenBucket(10, 3, clock::get);
+
+        Assertions.assertEquals(0, bucket.reserve());
+        Assertions.assertEquals(0, bucket.reserve());
+        Assertions.assertEquals(0, bucket.reserve());
+    }
+
+    @Test
+    public void givenEmptyBucket_whenReserving_shouldWaitForRefillAtRate() {
+        final var clock = new AtomicLong();
+        final var bucket = new TokenBucket(10, 1, clock::get);
+        bucket.reserve();
+
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(200), bucket.reserve());
+    }
+
+    @Test
+    public void givenIdleTime_whenReserving_shouldRefillButNotBeyondCapacity() {
+        final var clock = new AtomicLong();
+        final var bucket = new TokenBucket(10, 2, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        clock.set(TimeUnit.SECONDS.toNanos(60));
+
+        Assertions.assertEquals(0, bucket.reserve());
+        Assertions.assertEquals(0, bucket.reserve());
+        Assertions.assertTrue(bucket.reserve() > 0);
+    }
+
+    @Test
+    public void givenNonPositiveRate_whenCreating_shouldFail() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+    }
+}
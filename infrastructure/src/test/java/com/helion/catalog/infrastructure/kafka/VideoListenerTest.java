@@ -17,6 +17,7 @@ import com.helion.catalog.infrastructure.video.models.VideoDTO;
 import com.helion.catalog.infrastructure.video.models.VideoEvent;
 import com.helion.catalog.infrastructure.video.models.VideoResourceDTO;
 import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,9 @@ public class VideoListenerTest extends AbstractEmbeddedKafkaTest {
     @Captor
     private ArgumentCaptor<ConsumerRecordMetadata> metadata;
 
+    @Captor
+    private ArgumentCaptor<ConsumerRecord<String, String>> records;
+
     @Test
     public void testVideosTopics() throws Exception {
         // given
@@ -93,7 +97,7 @@ public class VideoListenerTest extends AbstractEmbeddedKafkaTest {
         final var videoEvent = new VideoEvent(java21.id());
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(videoEvent, videoEvent, aSource(), Operation.DELETE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(videoEvent, videoEvent, aSource("videos"), Operation.DELETE)));
 
         final var latch = new CountDownLatch(5);
 
@@ -114,9 +118,10 @@ public class VideoListenerTest extends AbstractEmbeddedKafkaTest {
 
         Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
-        verify(videoListener, times(expectedMaxAttempts)).onMessage(eq(message), metadata.capture());
+        verify(videoListener, times(expectedMaxAttempts)).onMessage(records.capture(), any());
 
-        final var allMetas =  metadata.getAllValues();
+        final var allMetas =  records.getAllValues();
+        allMetas.forEach(it -> Assertions.assertEquals(message, it.value()));
 
         Assertions.assertEquals(expectedMainTopic, allMetas.get(0).topic());
         Assertions.assertEquals(expectedRetry0Topic, allMetas.get(1).topic());
@@ -135,7 +140,7 @@ public class VideoListenerTest extends AbstractEmbeddedKafkaTest {
         final var videoEvent = new VideoEvent(java21.id());
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(videoEvent, videoEvent, aSource(), Operation.UPDATE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(videoEvent, videoEvent, aSource("videos"), Operation.UPDATE)));
 
         final var latch = new CountDownLatch(1);
 
@@ -186,7 +191,7 @@ public class VideoListenerTest extends AbstractEmbeddedKafkaTest {
         final var videoEvent = new VideoEvent(java21.id());
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(videoEvent, null, aSource(), Operation.CREATE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(videoEvent, null, aSource("videos"), Operation.CREATE)));
 
         final var latch = new CountDownLatch(1);
 
@@ -237,7 +242,7 @@ public class VideoListenerTest extends AbstractEmbeddedKafkaTest {
         final var videoEvent = new VideoEvent(java21.id());
 
         final var message =
-                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(null, videoEvent, aSource(), Operation.DELETE)));
+                Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(null, videoEvent, aSource("videos"), Operation.DELETE)));
 
         final var latch = new CountDownLatch(1);
 
@@ -253,7 +258,55 @@ public class VideoListenerTest extends AbstractEmbeddedKafkaTest {
 
         // then
 
-        verify(deleteVideoUseCase, times(1)).execute(eq(new DeleteVideoUseCase.Input(java21.id())));
+        verify(deleteVideoUseCase, times(1)).execute(eq(new DeleteVideoUseCase.Input(java21.id(), null)));
+    }
+
+    @Test
+    public void givenDebeziumUpdateThatPublishesVideo_whenDecoded_shouldBeUrgent() {
+        final var envelope = debeziumUpdate(false, true, true, true);
+
+        final var actualMessage = this.videoListener.decoder().decode(envelope);
+
+        Assertions.assertEquals(Boolean.FALSE, actualMessage.before().published());
+        Assertions.assertEquals(Boolean.TRUE, actualMessage.after().published());
+        Assertions.assertTrue(this.videoListener.isUrgent(actualMessage));
+    }
+
+    @Test
+    public void givenDebeziumUpdateThatClosesVideo_whenDecoded_shouldBeUrgent() {
+        final var envelope = debeziumUpdate(true, true, true, false);
+
+        Assertions.assertTrue(this.videoListener.isUrgent(this.videoListener.decoder().decode(envelope)));
+    }
+
+    @Test
+    public void givenDebeziumUpdateWithoutVisibilityChange_whenDecoded_shouldNotBeUrgent() {
+        final var envelope = debeziumUpdate(true, true, true, true);
+
+        Assertions.assertFalse(this.videoListener.isUrgent(this.videoListener.decoder().decode(envelope)));
+    }
+
+    private static String debeziumUpdate(
+            final boolean publishedBefore,
+            final boolean publishedAfter,
+            final boolean openedBefore,
+            final boolean openedAfter) {
+        final var java21 = Fixture.Videos.java21();
+        return """
+                {"schema":{"type":"struct","fields":[
+                {"type":"struct","fields":[{"type":"string","optional":false,"field":"id"},{"type":"string","optional":false,"field":"title"},
+                {"type":"boolean","optional":false,"field":"published"},{"type":"boolean","optional":false,"field":"opened"},
+                {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","field":"updated_at"}],"optional":true,"name":"adm_videos_mysql.adm_videos.videos.Value","field":"before"},
+                {"type":"struct","fields":[{"type":"string","optional":false,"field":"id"},{"type":"string","optional":false,"field":"title"},
+                {"type":"boolean","optional":false,"field":"published"},{"type":"boolean","optional":false,"field":"opened"},
+                {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","field":"updated_at"}],"optional":true,"name":"adm_videos_mysql.adm_videos.videos.Value","field":"after"},
+                {"type":"string","optional":false,"field":"op"}],"optional":false,"name":"adm_videos_mysql.adm_videos.videos.Envelope"},
+                "payload":{
+                "before":{"id":"%1$s","title":"%2$s","published":%3$s,"opened":%5$s,"updated_at":1700000000000000},
+                "after":{"id":"%1$s","title":"%2$s","published":%4$s,"opened":%6$s,"updated_at":1700000100000000},
+                "source":{"version":"2.2.1.Final","connector":"mysql","name":"adm_videos_mysql","ts_ms":1700000100000,"db":"adm_videos","table":"videos"},
+                "op":"u","ts_ms":1700000100123}}
+                """.formatted(java21.id(), java21.title(), publishedBefore, publishedAfter, openedBefore, openedAfter);
     }
 
     private static VideoDTO videoDTO(Video video) {
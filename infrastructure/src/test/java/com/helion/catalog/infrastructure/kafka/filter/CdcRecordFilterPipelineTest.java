@@ -0,0 +1,81 @@
+package com.helion.catalog.infrastructure.kafka.filter;
+
+import com.helion.catalog.infrastructure.configuration.properties.KafkaConsumerProperties;
+import com.helion.catalog.infrastructure.configuration.properties.KafkaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+class CdcRecordFilterPipelineTest {
+
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.videos";
+    private static final String VIDEO_PAYLOAD = """
+            {"payload":{"after":{"id":"123"},"source":{"name":"adm_videos_mysql","db":"adm_videos","table":"videos"},"op":"u"}}""";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CdcRecordFilterPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        final var videos = new KafkaConsumerProperties();
+        videos.setTopics(TOPIC);
+
+        final var properties = new KafkaProperties();
+        properties.setConsumers(Map.of("videos", videos));
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.pipeline = new CdcRecordFilterPipeline(
+                List.of(new TombstoneRule(), new DebeziumControlRecordRule(), new UnexpectedTableRule(properties)),
+                meterRegistry
+        );
+    }
+
+    @Test
+    public void givenTombstone_whenFiltered_shouldDiscardAndCount() {
+        Assertions.assertTrue(this.pipeline.filter(aRecord(TOPIC, "{\"id\":\"123\"}", null)));
+        Assertions.assertEquals(1, filtered(TOPIC, "tombstone"));
+    }
+
+    @Test
+    public void givenHeartbeat_whenFiltered_shouldDiscard() {
+        Assertions.assertTrue(this.pipeline.filter(aRecord(TOPIC, "{\"serverName\":\"adm_videos_mysql\"}", "{\"ts_ms\":1}")));
+        Assertions.assertTrue(this.pipeline.filter(aRecord("__debezium-heartbeat.adm_videos_mysql", null, "{\"ts_ms\":1}")));
+        Assertions.assertEquals(1, filtered(TOPIC, "control"));
+    }
+
+    @Test
+    public void givenRecordOfAnotherTable_whenFiltered_shouldDiscard() {
+        final var payload = VIDEO_PAYLOAD.replace("\"table\":\"videos\"", "\"table\":\"videos_video_media\"");
+
+        Assertions.assertTrue(this.pipeline.filter(aRecord(TOPIC, "123", payload)));
+        Assertions.assertTrue(this.pipeline.filter(aBinaryRecord(TOPIC + "-retry-0", payload)));
+        Assertions.assertEquals(1, filtered(TOPIC, "unexpected-table"));
+    }
+
+    @Test
+    public void givenExpectedRecord_whenFiltered_shouldKeep() {
+        Assertions.assertFalse(this.pipeline.filter(aRecord(TOPIC, "123", VIDEO_PAYLOAD)));
+        Assertions.assertFalse(this.pipeline.filter(aBinaryRecord(TOPIC, VIDEO_PAYLOAD)));
+        Assertions.assertFalse(this.pipeline.filter(aRecord(TOPIC, "123", "{\"payload\":{\"after\":{\"id\":\"123\"}}}")));
+        Assertions.assertFalse(this.pipeline.filter(aRecord("another.topic", "123", VIDEO_PAYLOAD.replace("videos\"}", "other\"}"))));
+    }
+
+    private double filtered(final String topic, final String reason) {
+        return this.meterRegistry.counter("cdc.records.filtered", "topic", topic, "reason", reason).count();
+    }
+
+    private static ConsumerRecord<String, Object> aRecord(final String topic, final String key, final String value) {
+        return new ConsumerRecord<>(topic, 0, 0, key, value);
+    }
+
+    private static ConsumerRecord<String, Object> aBinaryRecord(final String topic, final String value) {
+        return new ConsumerRecord<>(topic, 0, 0, "123", value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,130 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.infrastructure.configuration.properties.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ConcurrencyLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new ConcurrencyLimitProperties();
+        this.properties.setInitialLimit(4);
+        this.properties.setMinLimit(2);
+        this.properties.setMaxLimit(10);
+        this.properties.setBackoffRatio(0.5);
+        this.properties.setTolerance(2);
+        this.properties.setBaselineWindow(30_000);
+    }
+
+    @Test
+    public void givenFullLimit_whenAcquired_shouldReject() {
+        final var limiter = new AdaptiveConcurrencyLimiter("categories", this.properties, this.clock::get);
+
+        final var permits = new ArrayList<AdaptiveConcurrencyLimiter.Permit>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+
+        Assertions.assertTrue(limiter.tryAcquire().isEmpty());
+        Assertions.assertEquals(4, limiter.inflight());
+
+        permits.get(0).success();
+        permits.get(0).success();
+
+        Assertions.assertEquals(3, limiter.inflight());
+        Assertions.assertTrue(limiter.tryAcquire().isPresent());
+    }
+
+    @Test
+    public void givenSaturatedLimitWithStableLatency_whenCompleted_shouldGrowUpToMax() {
+        final var limiter = new AdaptiveConcurrencyLimiter("categories", this.properties, this.clock::get);
+
+        for (int round = 0; round < 20; round++) {
+            final var permits = new ArrayList<AdaptiveConcurrencyLimiter.Permit>();
+            while (true) {
+                final var permit = limiter.tryAcquire();
+                if (permit.isEmpty()) {
+                    break;
+                }
+                permits.add(permit.get());
+            }
+            this.clock.addAndGet(10_000_000);
+            permits.forEach(AdaptiveConcurrencyLimiter.Permit::success);
+        }
+
+        Assertions.assertEquals(10, limiter.limit());
+    }
+
+    @Test
+    public void givenLatencyAboveTolerance_whenCompleted_shouldBackOff() {
+        final var limiter = new AdaptiveConcurrencyLimiter("categories", this.properties, this.clock::get);
+
+        final var fast = limiter.tryAcquire().orElseThrow();
+        this.clock.addAndGet(10_000_000);
+        fast.success();
+
+        final var slow = limiter.tryAcquire().orElseThrow();
+        this.clock.addAndGet(50_000_000);
+        slow.success();
+
+        Assertions.assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    public void givenSlowerSamplesWithinTolerance_whenCompleted_shouldNotRaiseBaseline() {
+        final var limiter = new AdaptiveConcurrencyLimiter("categories", this.properties, this.clock::get);
+
+        complete(limiter, 10_000_000);
+        for (int i = 0; i < 50; i++) {
+            complete(limiter, 15_000_000);
+        }
+        Assertions.assertEquals(4, limiter.limit());
+
+        complete(limiter, 25_000_000);
+
+        Assertions.assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    public void givenSlowerLatencyForWholeWindow_whenWindowRollsOver_shouldAdoptItAsBaseline() {
+        final var limiter = new AdaptiveConcurrencyLimiter("categories", this.properties, this.clock::get);
+
+        complete(limiter, 10_000_000);
+        this.clock.addAndGet(31_000_000_000L);
+        complete(limiter, 30_000_000);
+        complete(limiter, 30_000_000);
+        Assertions.assertEquals(2, limiter.limit());
+
+        this.clock.addAndGet(31_000_000_000L);
+        complete(limiter, 30_000_000);
+
+        Assertions.assertEquals(3, limiter.limit());
+    }
+
+    @Test
+    public void givenFailure_whenDropped_shouldBackOffButNotBelowMin() {
+        final var limiter = new AdaptiveConcurrencyLimiter("categories", this.properties, this.clock::get);
+
+        limiter.tryAcquire().orElseThrow().dropped();
+        limiter.tryAcquire().orElseThrow().dropped();
+        limiter.tryAcquire().orElseThrow().dropped();
+
+        Assertions.assertEquals(2, limiter.limit());
+        Assertions.assertEquals(0, limiter.inflight());
+    }
+
+    private void complete(final AdaptiveConcurrencyLimiter limiter, final long rtt) {
+        final var permit = limiter.tryAcquire().orElseThrow();
+        this.clock.addAndGet(rtt);
+        permit.success();
+    }
+}
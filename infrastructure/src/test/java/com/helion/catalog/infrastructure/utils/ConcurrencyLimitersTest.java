@@ -0,0 +1,69 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.infrastructure.configuration.properties.ConcurrencyLimitProperties;
+import com.helion.catalog.infrastructure.exceptions.ConcurrencyLimitExceededException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+
+class ConcurrencyLimitersTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ApplicationEventPublisher eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+
+    private ConcurrencyLimitProperties properties;
+
+    private BulkheadRegistry bulkheadRegistry;
+
+    private ConcurrencyLimiters target;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new ConcurrencyLimitProperties();
+        this.properties.setEnabled(true);
+        this.properties.setInitialLimit(1);
+        this.properties.setMinLimit(1);
+
+        this.bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        this.target = new ConcurrencyLimiters(properties, bulkheadRegistry, meterRegistry, eventPublisher);
+    }
+
+    @Test
+    public void givenEnabledLimiter_whenCalled_shouldExportLimitAndReleasePermit() {
+        Assertions.assertEquals("ok", this.target.execute("categories", () -> "ok"));
+
+        Assertions.assertEquals(0, this.target.limiter("categories").inflight());
+        Assertions.assertEquals(1, this.meterRegistry.get("rest.client.concurrency.limit").tag("namespace", "categories").gauge().value());
+    }
+
+    @Test
+    public void givenFullLimit_whenCalled_shouldRejectAndPublishEvent() {
+        final var actualException = Assertions.assertThrows(ConcurrencyLimitExceededException.class, () ->
+                this.target.execute("videos", () -> this.target.execute("videos", () -> "nested")));
+
+        Assertions.assertEquals("Concurrency limit of 'videos' is full [limit: 1]", actualException.getMessage());
+        Assertions.assertEquals(1, this.meterRegistry.get("rest.client.concurrency.rejected").tag("namespace", "videos").counter().count());
+        Mockito.verify(this.eventPublisher).publishEvent(new ConcurrencyLimitRejectedEvent("videos", 1));
+    }
+
+    @Test
+    public void givenDisabledLimiter_whenCalled_shouldFallBackToBulkhead() {
+        this.properties.setEnabled(false);
+
+        Assertions.assertThrows(BulkheadFullException.class, () ->
+                this.target.execute("genres", () -> this.target.execute("genres", () -> "nested")));
+    }
+}
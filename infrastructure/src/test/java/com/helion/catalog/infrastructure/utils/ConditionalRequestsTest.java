@@ -0,0 +1,74 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.domain.exceptions.InternalErrorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class ConditionalRequestsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ConditionalRequests<String> target = new ConditionalRequests<>("categories", 10, meterRegistry);
+
+    @Test
+    public void givenValidatedResponse_whenRevalidated_shouldSendValidatorsAndReuseValueOnNotModified() {
+        Assertions.assertEquals("v1", this.target.resolve("123", 200, "\"etag-1\"", "Fri, 01 Mar 2024 10:00:00 GMT", () -> "v1"));
+
+        final var headers = new HashMap<String, String>();
+        this.target.prepare("123", headers::put);
+
+        Assertions.assertEquals(Map.of(
+                HttpHeaders.IF_NONE_MATCH, "\"etag-1\"",
+                HttpHeaders.IF_MODIFIED_SINCE, "Fri, 01 Mar 2024 10:00:00 GMT"
+        ), headers);
+
+        Assertions.assertEquals("v1", this.target.resolve("123", 304, "\"etag-1\"", null, () -> {
+            throw new IllegalStateException("body must not be read");
+        }));
+
+        Assertions.assertEquals(1, lookups(ConditionalRequests.MISS));
+        Assertions.assertEquals(1, lookups(ConditionalRequests.REVALIDATED));
+        Assertions.assertEquals(0, lookups(ConditionalRequests.MODIFIED));
+    }
+
+    @Test
+    public void givenChangedResource_whenRevalidated_shouldReplaceValidators() {
+        this.target.resolve("123", 200, "\"etag-1\"", null, () -> "v1");
+
+        Assertions.assertEquals("v2", this.target.resolve("123", 200, "\"etag-2\"", null, () -> "v2"));
+
+        final var headers = new HashMap<String, String>();
+        this.target.prepare("123", headers::put);
+
+        Assertions.assertEquals(Map.of(HttpHeaders.IF_NONE_MATCH, "\"etag-2\""), headers);
+        Assertions.assertEquals(1, lookups(ConditionalRequests.MODIFIED));
+    }
+
+    @Test
+    public void givenResponseWithoutValidators_whenPrepared_shouldNotSendConditionalHeaders() {
+        this.target.resolve("123", 200, null, null, () -> "v1");
+
+        final var headers = new HashMap<String, String>();
+        this.target.prepare("123", headers::put);
+
+        Assertions.assertTrue(headers.isEmpty());
+    }
+
+    @Test
+    public void givenUnknownEntry_whenNotModified_shouldFail() {
+        Assertions.assertThrows(InternalErrorException.class, () -> this.target.resolve("123", 304, null, null, () -> null));
+    }
+
+    private double lookups(final String result) {
+        return this.meterRegistry.get("rest.client.cache.lookups")
+                .tag("namespace", "categories")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
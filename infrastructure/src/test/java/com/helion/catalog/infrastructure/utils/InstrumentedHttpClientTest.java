@@ -0,0 +1,61 @@
+package com.helion.catalog.infrastructure.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+class InstrumentedHttpClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final HttpClient delegate = Mockito.mock(HttpClient.class);
+
+    private final HttpRequest request = HttpRequest.newBuilder(URI.create("http://admin/api/categories/123")).build();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenAsyncExchange_whenCompleted_shouldRecordVersionAndStatusPerNamespace() {
+        final HttpResponse<String> response = Mockito.mock(HttpResponse.class);
+        Mockito.when(response.version()).thenReturn(HttpClient.Version.HTTP_2);
+        Mockito.when(response.statusCode()).thenReturn(200);
+        Mockito.when(this.delegate.<String>sendAsync(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        final var target = new InstrumentedHttpClient("categories", this.delegate, this.meterRegistry);
+
+        Assertions.assertSame(response, target.sendAsync(this.request, HttpResponse.BodyHandlers.ofString()).join());
+
+        final var timer = this.meterRegistry.get("rest.client.exchange")
+                .tag("namespace", "categories")
+                .tag("version", "HTTP_2")
+                .tag("status", "200")
+                .timer();
+        Assertions.assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void givenConnectTimeout_whenSentAsync_shouldCountConnectionError() {
+        Mockito.when(this.delegate.<String>sendAsync(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(CompletableFuture.failedFuture(new HttpConnectTimeoutException("timed out")));
+
+        final var target = new InstrumentedHttpClient("videos", this.delegate, this.meterRegistry);
+
+        Assertions.assertThrows(CompletionException.class, () -> target.sendAsync(this.request, HttpResponse.BodyHandlers.ofString()).join());
+
+        final var counter = this.meterRegistry.get("rest.client.connection.errors")
+                .tag("namespace", "videos")
+                .tag("reason", "connect-timeout")
+                .counter();
+        Assertions.assertEquals(1, counter.count());
+    }
+}
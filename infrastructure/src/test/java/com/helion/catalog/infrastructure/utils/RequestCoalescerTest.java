@@ -0,0 +1,101 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.domain.exceptions.InternalErrorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RequestCoalescer<String, String> coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (this.coalescer != null) {
+            this.coalescer.close();
+        }
+    }
+
+    @Test
+    public void givenConcurrentLookups_whenWithinWindow_shouldLoadEachIdOnceAndFanOutResults() throws Exception {
+        final var calls = new ConcurrentHashMap<String, AtomicInteger>();
+        this.coalescer = new RequestCoalescer<>("categories", 200, 100, id -> {
+            calls.computeIfAbsent(id, it -> new AtomicInteger()).incrementAndGet();
+            return "value-" + id;
+        }, meterRegistry);
+
+        final var executor = Executors.newFixedThreadPool(20);
+        final var start = new CountDownLatch(1);
+        final var futures = IntStream.range(0, 20)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return this.coalescer.get("id-" + (i % 4));
+                }, executor))
+                .toList();
+
+        start.countDown();
+        final var results = futures.stream().map(CompletableFuture::join).toList();
+        executor.shutdown();
+
+        IntStream.range(0, 20).forEach(i -> Assertions.assertEquals("value-id-" + (i % 4), results.get(i)));
+        Assertions.assertEquals(4, calls.size());
+        calls.values().forEach(count -> Assertions.assertEquals(1, count.get()));
+
+        final var batchSize = this.meterRegistry.get("rest.client.coalesced.batch.size").summary();
+        Assertions.assertEquals(4, batchSize.totalAmount());
+        Assertions.assertEquals(20, this.meterRegistry.get("rest.client.coalesced.latency").timer().count());
+    }
+
+    @Test
+    public void givenFullBatch_whenLookedUp_shouldFlushWithoutWaitingForWindow() {
+        this.coalescer = new RequestCoalescer<>("genres", 60_000, 1, id -> "value-" + id, meterRegistry);
+
+        Assertions.assertEquals("value-123", this.coalescer.get("123"));
+    }
+
+    @Test
+    public void givenFailingLookup_whenCoalesced_shouldRethrowOriginalException() {
+        this.coalescer = new RequestCoalescer<>("videos", 5, 10, id -> {
+            throw InternalErrorException.with("BOOM!");
+        }, meterRegistry);
+
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, () -> this.coalescer.get("123"));
+
+        Assertions.assertEquals("BOOM!", actualException.getMessage());
+    }
+
+    @Test
+    public void givenDisabledWindow_whenLookedUp_shouldCallLoaderDirectly() {
+        final var threads = new ConcurrentHashMap<String, String>();
+        this.coalescer = new RequestCoalescer<>("videos", 0, 10, id -> {
+            threads.put(id, Thread.currentThread().getName());
+            return "value-" + id;
+        }, meterRegistry);
+
+        Assertions.assertEquals("value-123", this.coalescer.get("123"));
+        Assertions.assertEquals(Map.of("123", Thread.currentThread().getName()), threads);
+        Assertions.assertEquals(List.of(), this.meterRegistry.find("rest.client.coalesced.batch.size").summaries().stream()
+                .filter(it -> it.count() > 0).toList());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.domain.exceptions.InternalErrorException;
+import com.helion.catalog.infrastructure.configuration.properties.RestClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RequestHedgerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RestClientProperties.Hedge properties;
+
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new RestClientProperties.Hedge();
+        this.properties.setEnabled(true);
+        this.properties.setMinSamples(1);
+        this.properties.setMinDelay(10);
+        this.properties.setBudget(1);
+        this.hedger = new RequestHedger("videos", properties, meterRegistry, () -> 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.hedger.close();
+    }
+
+    @Test
+    public void givenDisabledHedging_whenExecuted_shouldSendSingleAttempt() {
+        this.properties.setEnabled(false);
+        final var attempts = new AtomicInteger();
+
+        Assertions.assertEquals("ok", this.hedger.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture("ok");
+        }));
+        Assertions.assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void givenSlowPrimary_whenDelayElapses_shouldSendHedgeAndCancelPrimary() {
+        warmUp();
+
+        final var attempts = new ArrayList<CompletableFuture<String>>();
+        final var actualValue = this.hedger.execute(() -> {
+            final var attempt = attempts.isEmpty() ? new CompletableFuture<String>() : CompletableFuture.completedFuture("hedged");
+            attempts.add(attempt);
+            return attempt;
+        });
+
+        Assertions.assertEquals("hedged", actualValue);
+        Assertions.assertEquals(2, attempts.size());
+        Assertions.assertTrue(attempts.get(0).isCancelled());
+        Assertions.assertEquals(1, counter("rest.client.hedge.sent"));
+        Assertions.assertEquals(1, counter("rest.client.hedge.won"));
+    }
+
+    @Test
+    public void givenExhaustedBudget_whenPrimaryIsSlow_shouldNotHedge() {
+        this.properties.setBudget(0);
+        warmUp();
+
+        final var primary = new CompletableFuture<String>();
+        final var attempts = new AtomicInteger();
+        final var result = this.hedger.hedge(() -> {
+            attempts.incrementAndGet();
+            return primary;
+        });
+
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> primary.complete("primary"));
+
+        Assertions.assertEquals("primary", result.join());
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertEquals(1, counter("rest.client.hedge.skipped"));
+    }
+
+    @Test
+    public void givenEveryAttemptFailing_whenExecuted_shouldRethrowOriginalException() {
+        warmUp();
+
+        final List<CompletableFuture<String>> attempts = new ArrayList<>();
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, () -> this.hedger.execute(() -> {
+            final var attempt = new CompletableFuture<String>();
+            attempts.add(attempt);
+            if (attempts.size() == 1) {
+                CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+                        .execute(() -> attempt.completeExceptionally(InternalErrorException.with("primary")));
+            } else {
+                attempt.completeExceptionally(InternalErrorException.with("hedge"));
+            }
+            return attempt;
+        }));
+
+        Assertions.assertEquals("primary", actualException.getMessage());
+        Assertions.assertEquals(2, attempts.size());
+    }
+
+    private void warmUp() {
+        this.hedger.execute(() -> CompletableFuture.completedFuture("warm-up"));
+    }
+
+    private double counter(final String name) {
+        return this.meterRegistry.get(name).tag("namespace", "videos").counter().count();
+    }
+}
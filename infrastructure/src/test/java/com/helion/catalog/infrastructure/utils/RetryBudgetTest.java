@@ -0,0 +1,84 @@
+package com.helion.catalog.infrastructure.utils;
+
+import com.helion.catalog.infrastructure.configuration.properties.RetryBudgetProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class RetryBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private RetryBudgetProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new RetryBudgetProperties();
+        this.properties.setEnabled(true);
+        this.properties.setCapacity(2);
+        this.properties.setRatio(0.1);
+        this.properties.setMinPerSecond(1);
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void givenFullBudget_whenRetriesExceedCapacity_shouldFailFast() {
+        final var budget = new RetryBudget(this.properties, this.meterRegistry, this.clock::get);
+
+        Assertions.assertTrue(budget.tryAcquire("categories"));
+        Assertions.assertTrue(budget.tryAcquire("genres"));
+        Assertions.assertFalse(budget.tryAcquire("categories"));
+
+        Assertions.assertEquals(1, this.meterRegistry.counter("retry.budget", "source", "categories", "outcome", RetryBudget.EXHAUSTED).count());
+        Assertions.assertEquals(1, this.meterRegistry.counter("retry.budget", "source", "genres", "outcome", RetryBudget.WITHDRAWN).count());
+    }
+
+    @Test
+    public void givenSuccessfulTraffic_whenDeposited_shouldAllowRetriesAsRatioOfSuccesses() {
+        final var budget = new RetryBudget(this.properties, this.meterRegistry, this.clock::get);
+        drain(budget);
+
+        for (int i = 0; i < 9; i++) {
+            budget.deposit();
+        }
+        Assertions.assertFalse(budget.tryAcquire("videos"));
+
+        budget.deposit();
+        budget.deposit();
+        Assertions.assertTrue(budget.tryAcquire("videos"));
+        Assertions.assertFalse(budget.tryAcquire("videos"));
+    }
+
+    @Test
+    public void givenIdleTime_whenRefilled_shouldGrantMinimumRetriesUpToCapacity() {
+        final var budget = new RetryBudget(this.properties, this.meterRegistry, this.clock::get);
+        drain(budget);
+
+        this.clock.addAndGet(1_000_000_000L);
+        Assertions.assertTrue(budget.tryAcquire("categories"));
+        Assertions.assertFalse(budget.tryAcquire("categories"));
+
+        this.clock.addAndGet(60_000_000_000L);
+        Assertions.assertEquals(2, budget.available());
+    }
+
+    @Test
+    public void givenDisabledBudget_whenAcquired_shouldAlwaysAllow() {
+        this.properties.setEnabled(false);
+        final var budget = new RetryBudget(this.properties, this.meterRegistry, this.clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(budget.tryAcquire("categories"));
+        }
+    }
+
+    private static void drain(final RetryBudget budget) {
+        while (budget.tryAcquire("drain")) {
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.helion.catalog.infrastructure.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class StaleWhileRevalidateCacheTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void givenFreshEntry_whenLoaded_shouldNotCallLoader() {
+        final var cache = cache(true);
+        cache.put("1", "aulas");
+
+        this.clock.addAndGet(59 * SECOND);
+        final var actualValue = cache.get("1", () -> Assertions.fail("should not load"));
+
+        Assertions.assertEquals("aulas", actualValue);
+        Assertions.assertEquals("aulas", cache.get("1").get());
+    }
+
+    @Test
+    public void givenExpiredEntryWithinStaleness_whenLoaded_shouldServeStaleAndRefresh() {
+        final var cache = cache(true);
+        cache.put("1", "aulas");
+
+        this.clock.addAndGet(61 * SECOND);
+        Assertions.assertNull(cache.get("1"));
+
+        final var actualValue = cache.get("1", () -> "lives");
+
+        Assertions.assertEquals("aulas", actualValue);
+        Assertions.assertEquals("lives", cache.get("1").get());
+        Assertions.assertEquals(1, this.meterRegistry.counter("cache.stale.served", "cache", "admin-categories").count());
+        Assertions.assertEquals(1, this.meterRegistry.counter("cache.stale.refreshes", "cache", "admin-categories", "result", StaleWhileRevalidateCache.SUCCESS).count());
+    }
+
+    @Test
+    public void givenExpiredEntryWithinStaleness_whenRefreshFails_shouldKeepServingStale() {
+        final var cache = cache(true);
+        cache.put("1", "aulas");
+
+        this.clock.addAndGet(300 * SECOND);
+
+        Assertions.assertEquals("aulas", cache.get("1", () -> {
+            throw new IllegalStateException("circuit open");
+        }));
+        Assertions.assertEquals("aulas", cache.get("1", () -> {
+            throw new IllegalStateException("circuit open");
+        }));
+        Assertions.assertEquals(2, this.meterRegistry.counter("cache.stale.refreshes", "cache", "admin-categories", "result", StaleWhileRevalidateCache.FAILURE).count());
+    }
+
+    @Test
+    public void givenExpiredEntryWithoutRevalidate_whenLoaderFails_shouldServeStale() {
+        final var cache = cache(false);
+        cache.put("1", "aulas");
+
+        this.clock.addAndGet(61 * SECOND);
+
+        Assertions.assertEquals("lives", cache.get("1", () -> "lives"));
+
+        this.clock.addAndGet(61 * SECOND);
+
+        Assertions.assertEquals("lives", cache.get("1", () -> {
+            throw new IllegalStateException("circuit open");
+        }));
+    }
+
+    @Test
+    public void givenConcurrentLoadsWithoutRevalidate_whenEntryIsStale_shouldLoadOnce() throws Exception {
+        final var calls = new AtomicInteger();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var cache = cache(false);
+        cache.put("1", "aulas");
+
+        this.clock.addAndGet(61 * SECOND);
+
+        final var first = CompletableFuture.supplyAsync(() -> cache.get("1", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await();
+            return "lives";
+        }));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final var second = CompletableFuture.supplyAsync(() -> cache.get("1", () -> {
+            calls.incrementAndGet();
+            return "outras";
+        }));
+        Assertions.assertThrows(TimeoutException.class, () -> second.get(100, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+
+        Assertions.assertEquals("lives", first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("lives", second.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void givenEntryBeyondMaxStaleness_whenLoaderFails_shouldPropagate() {
+        final var cache = cache(true);
+        cache.put("1", "aulas");
+
+        this.clock.addAndGet(661 * SECOND);
+
+        final var actualException = Assertions.assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("1", () -> {
+            throw new IllegalStateException("circuit open");
+        }));
+
+        Assertions.assertEquals("circuit open", actualException.getCause().getMessage());
+    }
+
+    private StaleWhileRevalidateCache cache(final boolean staleWhileRevalidate) {
+        return new StaleWhileRevalidateCache(
+                new ConcurrentMapCache("admin-categories"),
+                Duration.ofSeconds(60),
+                Duration.ofSeconds(600),
+                staleWhileRevalidate,
+                Runnable::run,
+                this.meterRegistry,
+                this.clock::get
+        );
+    }
+}
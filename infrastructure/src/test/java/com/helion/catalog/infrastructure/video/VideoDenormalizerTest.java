@@ -0,0 +1,149 @@
+package com.helion.catalog.infrastructure.video;
+
+import com.helion.catalog.AbstractElasticsearchTest;
+import com.helion.catalog.domain.Fixture;
+import com.helion.catalog.domain.category.Category;
+import com.helion.catalog.domain.utils.IdUtils;
+import com.helion.catalog.domain.utils.InstantUtils;
+import com.helion.catalog.domain.video.Rating;
+import com.helion.catalog.domain.video.Video;
+import com.helion.catalog.infrastructure.category.CategoryElasticsearchGateway;
+import com.helion.catalog.infrastructure.elasticsearch.ElasticsearchBulkWriter;
+import com.helion.catalog.infrastructure.video.persistence.CategoryReference;
+import com.helion.catalog.infrastructure.video.persistence.VideoDocument;
+import com.helion.catalog.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+@TestPropertySource(properties = "elasticsearch.videos.denormalized=true")
+class VideoDenormalizerTest extends AbstractElasticsearchTest {
+
+    @Autowired
+    private CategoryElasticsearchGateway categoryGateway;
+
+    @Autowired
+    private VideoElasticsearchGateway videoGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private ElasticsearchBulkWriter bulkWriter;
+
+    @Autowired
+    private ElasticsearchOperations operations;
+
+    @Test
+    public void givenVideoWithCategory_whenCategoryChanges_shouldRewriteReferenceWithoutBumpingVideoVersion() {
+        final var aulas = Fixture.Categories.aulas();
+        final var video = aVideo(IdUtils.uniqueId(), "System Design", aulas.id(), InstantUtils.now());
+        this.categoryGateway.save(aulas);
+        this.videoGateway.save(video);
+        this.operations.indexOps(VideoDocument.class).refresh();
+
+        this.categoryGateway.save(renamed(aulas, "Aulas ao vivo"));
+
+        Assertions.assertEquals(List.of("Aulas ao vivo"), categoryNames(video.id()));
+
+        final var nextVideo = aVideo(video.id(), "System Design atualizado", aulas.id(), video.updatedAt().plusMillis(1));
+        this.videoGateway.save(nextVideo);
+
+        Assertions.assertEquals(nextVideo.title(), this.videoRepository.findById(video.id()).get().title());
+    }
+
+    @Test
+    public void givenVideoWithCategory_whenCategoryDeleted_shouldRemoveReference() {
+        final var aulas = Fixture.Categories.aulas();
+        final var video = aVideo(IdUtils.uniqueId(), "System Design", aulas.id(), InstantUtils.now());
+        this.categoryGateway.save(aulas);
+        this.videoGateway.save(video);
+        this.operations.indexOps(VideoDocument.class).refresh();
+
+        this.bulkWriter.bulk(() -> this.categoryGateway.deleteById(aulas.id(), aulas.updatedAt()));
+
+        Assertions.assertEquals(List.of(), categoryNames(video.id()));
+    }
+
+    @Test
+    public void givenOpenBulkScope_whenWorkFails_shouldNotFanOut() {
+        final var aulas = Fixture.Categories.aulas();
+        final var video = aVideo(IdUtils.uniqueId(), "System Design", aulas.id(), InstantUtils.now());
+        this.categoryGateway.save(aulas);
+        this.videoGateway.save(video);
+        this.operations.indexOps(VideoDocument.class).refresh();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.bulkWriter.bulk(() -> {
+            this.categoryGateway.save(renamed(aulas, "Aulas ao vivo"));
+            throw new IllegalStateException("BOOM!");
+        }));
+
+        Assertions.assertEquals(List.of(aulas.name()), categoryNames(video.id()));
+    }
+
+    @Test
+    public void givenStaleCategoryWrite_whenFannedOut_shouldKeepCurrentReference() {
+        final var aulas = Fixture.Categories.aulas();
+        final var video = aVideo(IdUtils.uniqueId(), "System Design", aulas.id(), InstantUtils.now());
+        this.categoryGateway.save(aulas);
+        this.videoGateway.save(video);
+        this.operations.indexOps(VideoDocument.class).refresh();
+
+        this.categoryGateway.save(Category.with(
+                aulas.id(),
+                "Aulas antigas",
+                aulas.description(),
+                aulas.isActive(),
+                aulas.createdAt(),
+                aulas.updatedAt().minus(1, ChronoUnit.HOURS),
+                aulas.deletedAt()));
+
+        Assertions.assertEquals(List.of(aulas.name()), categoryNames(video.id()));
+    }
+
+    private List<String> categoryNames(final String videoId) {
+        return this.videoRepository.findById(videoId).get().categoryRefs().stream()
+                .map(CategoryReference::name)
+                .toList();
+    }
+
+    private static Category renamed(final Category aCategory, final String name) {
+        return Category.with(
+                aCategory.id(),
+                name,
+                aCategory.description(),
+                aCategory.isActive(),
+                aCategory.createdAt(),
+                aCategory.updatedAt().plus(1, ChronoUnit.SECONDS),
+                aCategory.deletedAt());
+    }
+
+    private static Video aVideo(final String id, final String title, final String categoryId, final Instant updatedAt) {
+        return Video.with(
+                id,
+                title,
+                "O video mais assistido",
+                2022,
+                120.0,
+                Rating.L.getName(),
+                true,
+                true,
+                updatedAt.toString(),
+                updatedAt.toString(),
+                "http://banner",
+                "http://thumb",
+                "http://thumb-half",
+                "http://trailer",
+                "http://video",
+                Set.of(categoryId),
+                Set.of(),
+                Set.of());
+    }
+}
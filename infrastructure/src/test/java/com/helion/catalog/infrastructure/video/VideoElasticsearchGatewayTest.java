@@ -198,7 +198,7 @@ class VideoElasticsearchGatewayTest extends AbstractElasticsearchTest {
         Assertions.assertTrue(this.videoRepository.existsById(expectedId));
 
         // when
-        this.videoGateway.deleteById(expectedId);
+        this.videoGateway.deleteById(expectedId, java21.updatedAt());
 
         // then
         Assertions.assertFalse(this.videoRepository.existsById(expectedId));
@@ -210,7 +210,7 @@ class VideoElasticsearchGatewayTest extends AbstractElasticsearchTest {
         final var expectedId = "any";
 
         // when/then
-        Assertions.assertDoesNotThrow(() -> this.videoGateway.deleteById(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.videoGateway.deleteById(expectedId, null));
     }
 
     @Test
@@ -219,7 +219,7 @@ class VideoElasticsearchGatewayTest extends AbstractElasticsearchTest {
         final String expectedId = null;
 
         // when/then
-        Assertions.assertDoesNotThrow(() -> this.videoGateway.deleteById(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.videoGateway.deleteById(expectedId, null));
     }
 
     @Test
@@ -228,7 +228,7 @@ class VideoElasticsearchGatewayTest extends AbstractElasticsearchTest {
         final var expectedId = " ";
 
         // when/then
-        Assertions.assertDoesNotThrow(() -> this.videoGateway.deleteById(expectedId));
+        Assertions.assertDoesNotThrow(() -> this.videoGateway.deleteById(expectedId, null));
     }
 
     @Test